@@ -1,6 +1,25 @@
 package com.example.event.configuration;
 
+import com.example.event.dispatch.AsyncEventDispatcher;
+import com.example.event.dispatch.DirectEventDispatcher;
+import com.example.event.dispatch.EventDispatcher;
+import com.example.event.dispatch.VirtualThreadEventDispatcher;
+import com.example.event.emitter.SecurityEventEmitter;
+import com.example.event.header.EventHeaderFactory;
 import com.example.event.listener.ApplicationLifecycleEventListener;
+import com.example.event.metrics.EventMetrics;
+import com.example.event.metrics.MicrometerEventMetrics;
+import com.example.event.sink.EventSinks;
+import com.tbw.security.securityevents.id.EventIdGenerator;
+import com.tbw.security.securityevents.id.RandomUuidEventIdGenerator;
+import com.tbw.security.securityevents.id.UlidEventIdGenerator;
+import com.tbw.security.securityevents.id.UuidV7EventIdGenerator;
+import com.tbw.security.securityevents.publisher.EventPublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -8,7 +27,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
 
-@Configuration
+@AutoConfiguration(afterName = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
 @EnableConfigurationProperties(EventProperties.class)
 public class EventAutoConfiguration {
 
@@ -18,10 +37,77 @@ public class EventAutoConfiguration {
         this.properties = properties;
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    public EventIdGenerator eventIdGenerator() {
+        return switch (properties.getIdGenerator()) {
+            case UUID_V7 -> new UuidV7EventIdGenerator();
+            case ULID -> new UlidEventIdGenerator();
+            case RANDOM_UUID -> new RandomUuidEventIdGenerator();
+        };
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public EventHeaderFactory eventHeaderFactory(Environment environment, EventIdGenerator eventIdGenerator) {
+        return new EventHeaderFactory(environment, eventIdGenerator, properties.isBinaryEventId());
+    }
+
+    /**
+     * The sinks selected by {@code application.events.sinks}. Define an {@link EventPublisher}
+     * bean to replace the chain.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "application.events", name = "enabled", matchIfMissing = true)
+    public EventPublisher eventSink(ObjectProvider<EventMetrics> eventMetrics) {
+        return EventSinks.create(properties, metrics(eventMetrics));
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "application.events", name = "enabled", matchIfMissing = true)
+    public EventDispatcher eventDispatcher(EventPublisher eventSink, ObjectProvider<EventMetrics> eventMetrics) {
+        EventMetrics metrics = metrics(eventMetrics);
+        return switch (properties.getDispatch()) {
+            case ASYNC -> new AsyncEventDispatcher(eventSink, metrics,
+                    properties.getAsync().getQueueCapacity(), properties.getAsync().getBatchSize());
+            case VIRTUAL_THREADS -> new VirtualThreadEventDispatcher(eventSink, metrics,
+                    properties.getVirtualThreads().getMaxConcurrency(), properties.getVirtualThreads().getMaxPending());
+            case DIRECT -> new DirectEventDispatcher(eventSink, metrics);
+        };
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "application.events", name = "enabled", matchIfMissing = true)
+    public ApplicationLifecycleEventListener applicationLifecycleEventListener(EventHeaderFactory eventHeaderFactory,
+            EventDispatcher eventDispatcher, ObjectProvider<EventMetrics> eventMetrics) {
+        return new ApplicationLifecycleEventListener(eventHeaderFactory, eventDispatcher, metrics(eventMetrics));
+    }
+
     @Bean
     @ConditionalOnMissingBean
     @ConditionalOnProperty(prefix = "application.events", name = "enabled", matchIfMissing = true)
-    public ApplicationLifecycleEventListener applicationLifecycleEventListener(Environment environment) {
-        return new ApplicationLifecycleEventListener(environment);
+    public SecurityEventEmitter securityEventEmitter(EventHeaderFactory eventHeaderFactory,
+            EventDispatcher eventDispatcher, ObjectProvider<EventMetrics> eventMetrics) {
+        return new SecurityEventEmitter(eventHeaderFactory, eventDispatcher, metrics(eventMetrics));
+    }
+
+    private static EventMetrics metrics(ObjectProvider<EventMetrics> eventMetrics) {
+        return eventMetrics.getIfAvailable(() -> EventMetrics.NOOP);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnBean(MeterRegistry.class)
+    @ConditionalOnProperty(prefix = "application.events.metrics", name = "enabled", matchIfMissing = true)
+    static class EventMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        EventMetrics eventMetrics(MeterRegistry meterRegistry, EventProperties properties) {
+            return new MicrometerEventMetrics(meterRegistry, properties.getMetrics().isPercentileHistogram());
+        }
     }
 }
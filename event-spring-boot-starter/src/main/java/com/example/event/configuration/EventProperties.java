@@ -1,6 +1,12 @@
 package com.example.event.configuration;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 @ConfigurationProperties(prefix = "application.events")
 public class EventProperties {
@@ -10,6 +16,39 @@ public class EventProperties {
      */
     private boolean enabled = true;
 
+    /**
+     * Event ID scheme: uuid-v7, ulid or random-uuid.
+     */
+    private IdGenerator idGenerator = IdGenerator.UUID_V7;
+
+    /**
+     * Whether headers also carry the 16-byte binary form of the event ID.
+     */
+    private boolean binaryEventId = false;
+
+    /**
+     * Sinks every lifecycle event is published to: log, file, kafka and/or memory.
+     */
+    private List<SinkType> sinks = new ArrayList<>(List.of(SinkType.LOG));
+
+    /**
+     * How events reach the sinks: async (one background thread), virtual-threads (a virtual
+     * thread per event) or direct (on the emitting thread).
+     */
+    private Dispatch dispatch = Dispatch.ASYNC;
+
+    private final Async async = new Async();
+
+    private final VirtualThreads virtualThreads = new VirtualThreads();
+
+    private final File file = new File();
+
+    private final Kafka kafka = new Kafka();
+
+    private final Memory memory = new Memory();
+
+    private final Metrics metrics = new Metrics();
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -17,4 +56,293 @@ public class EventProperties {
     public void setEnabled(boolean enabled) {
         this.enabled = enabled;
     }
+
+    public IdGenerator getIdGenerator() {
+        return idGenerator;
+    }
+
+    public void setIdGenerator(IdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
+    public boolean isBinaryEventId() {
+        return binaryEventId;
+    }
+
+    public void setBinaryEventId(boolean binaryEventId) {
+        this.binaryEventId = binaryEventId;
+    }
+
+    public List<SinkType> getSinks() {
+        return sinks;
+    }
+
+    public void setSinks(List<SinkType> sinks) {
+        this.sinks = sinks;
+    }
+
+    public Dispatch getDispatch() {
+        return dispatch;
+    }
+
+    public void setDispatch(Dispatch dispatch) {
+        this.dispatch = dispatch;
+    }
+
+    public Async getAsync() {
+        return async;
+    }
+
+    public VirtualThreads getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public Kafka getKafka() {
+        return kafka;
+    }
+
+    public Memory getMemory() {
+        return memory;
+    }
+
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    public enum IdGenerator {
+        UUID_V7,
+        ULID,
+        RANDOM_UUID
+    }
+
+    public enum SinkType {
+        LOG,
+        FILE,
+        KAFKA,
+        MEMORY
+    }
+
+    public enum Dispatch {
+        ASYNC,
+        VIRTUAL_THREADS,
+        DIRECT
+    }
+
+    public static class Async {
+
+        /**
+         * Events that may wait for the dispatcher thread; further events are dropped.
+         */
+        private int queueCapacity = 8192;
+
+        /**
+         * Maximum number of events handed to the sinks at once.
+         */
+        private int batchSize = 256;
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+    }
+
+    public static class VirtualThreads {
+
+        /**
+         * Events that may be inside the sinks at the same time.
+         */
+        private int maxConcurrency = 64;
+
+        /**
+         * Events that may be waiting or in flight; further events are dropped.
+         */
+        private int maxPending = 8192;
+
+        public int getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        public void setMaxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        public int getMaxPending() {
+            return maxPending;
+        }
+
+        public void setMaxPending(int maxPending) {
+            this.maxPending = maxPending;
+        }
+    }
+
+    public static class File {
+
+        /**
+         * Directory the Avro container files are written to.
+         */
+        private Path directory = Path.of("events");
+
+        /**
+         * File name prefix.
+         */
+        private String prefix = "events";
+
+        /**
+         * Block codec, e.g. deflate, snappy or zstandard.
+         */
+        private String codec = "deflate";
+
+        /**
+         * Size at which a file is closed and a new one started.
+         */
+        private DataSize maxFileSize = DataSize.ofMegabytes(128);
+
+        /**
+         * Age at which a file is closed and a new one started.
+         */
+        private Duration maxFileAge = Duration.ofHours(1);
+
+        public Path getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(Path directory) {
+            this.directory = directory;
+        }
+
+        public String getPrefix() {
+            return prefix;
+        }
+
+        public void setPrefix(String prefix) {
+            this.prefix = prefix;
+        }
+
+        public String getCodec() {
+            return codec;
+        }
+
+        public void setCodec(String codec) {
+            this.codec = codec;
+        }
+
+        public DataSize getMaxFileSize() {
+            return maxFileSize;
+        }
+
+        public void setMaxFileSize(DataSize maxFileSize) {
+            this.maxFileSize = maxFileSize;
+        }
+
+        public Duration getMaxFileAge() {
+            return maxFileAge;
+        }
+
+        public void setMaxFileAge(Duration maxFileAge) {
+            this.maxFileAge = maxFileAge;
+        }
+    }
+
+    public static class Kafka {
+
+        /**
+         * Comma-separated broker addresses.
+         */
+        private String bootstrapServers = "localhost:29092,localhost:39092,localhost:49092";
+
+        /**
+         * Topic the events are published to.
+         */
+        private String topic = "application-lifecycle-events";
+
+        /**
+         * Producer compression type, e.g. lz4 or zstd.
+         */
+        private String compressionType = "lz4";
+
+        public String getBootstrapServers() {
+            return bootstrapServers;
+        }
+
+        public void setBootstrapServers(String bootstrapServers) {
+            this.bootstrapServers = bootstrapServers;
+        }
+
+        public String getTopic() {
+            return topic;
+        }
+
+        public void setTopic(String topic) {
+            this.topic = topic;
+        }
+
+        public String getCompressionType() {
+            return compressionType;
+        }
+
+        public void setCompressionType(String compressionType) {
+            this.compressionType = compressionType;
+        }
+    }
+
+    public static class Memory {
+
+        /**
+         * Number of most recent events kept.
+         */
+        private int capacity = 1000;
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+    }
+
+    public static class Metrics {
+
+        /**
+         * Whether event pipeline metrics are recorded when a MeterRegistry is available.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Whether timers and the payload size summary publish percentile histogram buckets. Off by
+         * default because it adds dozens of series per meter and tag combination.
+         */
+        private boolean percentileHistogram = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public boolean isPercentileHistogram() {
+            return percentileHistogram;
+        }
+
+        public void setPercentileHistogram(boolean percentileHistogram) {
+            this.percentileHistogram = percentileHistogram;
+        }
+    }
 }
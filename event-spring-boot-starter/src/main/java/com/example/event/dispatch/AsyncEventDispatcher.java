@@ -0,0 +1,150 @@
+package com.example.event.dispatch;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.event.metrics.EventMetrics;
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.publisher.EventPublisher;
+
+/**
+ * Queues events and publishes them in batches from a single daemon thread, so the dispatching
+ * thread never pays for serialization or sink I/O.
+ * <p>
+ * Dispatching never blocks: when the queue is full the event is dropped and counted as failed.
+ */
+public class AsyncEventDispatcher implements EventDispatcher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncEventDispatcher.class);
+
+    private static final long POLL_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final EventPublisher sink;
+    private final EventMetrics metrics;
+    private final BlockingQueue<ApplicationLifecycleEvent> queue;
+    private final int batchSize;
+    private final Duration closeTimeout;
+    private final Thread worker;
+
+    private final LongAdder droppedCount = new LongAdder();
+
+    private volatile boolean running = true;
+    private volatile boolean workerExited;
+
+    public AsyncEventDispatcher(EventPublisher sink, EventMetrics metrics, int queueCapacity, int batchSize) {
+        this(sink, metrics, queueCapacity, batchSize, Duration.ofSeconds(10));
+    }
+
+    public AsyncEventDispatcher(EventPublisher sink, EventMetrics metrics, int queueCapacity, int batchSize,
+            Duration closeTimeout) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        this.sink = Objects.requireNonNull(sink, "sink");
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.closeTimeout = Objects.requireNonNull(closeTimeout, "closeTimeout");
+        this.worker = new Thread(this::drainLoop, "lifecycle-event-dispatcher");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    @Override
+    public void dispatch(ApplicationLifecycleEvent event) {
+        if (!running || !queue.offer(event)) {
+            droppedCount.increment();
+            metrics.failed(event);
+        } else if (workerExited) {
+            // close() started after the check above and the worker has already made its last pass
+            dropQueued();
+        }
+    }
+
+    private void drainLoop() {
+        List<ApplicationLifecycleEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                ApplicationLifecycleEvent first = queue.poll(POLL_TIMEOUT_NANOS, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                publish(batch);
+            } catch (InterruptedException e) {
+                // close() interrupts only after its timeout; whatever is left is dropped
+                break;
+            }
+        }
+        workerExited = true;
+        dropQueued();
+        try {
+            sink.flush();
+        } catch (Exception e) {
+            LOGGER.error("Failed to flush lifecycle event sink", e);
+        }
+    }
+
+    private void dropQueued() {
+        ApplicationLifecycleEvent event;
+        while ((event = queue.poll()) != null) {
+            droppedCount.increment();
+            metrics.failed(event);
+        }
+    }
+
+    private void publish(List<ApplicationLifecycleEvent> batch) {
+        try {
+            sink.publishAll(batch);
+            long now = EventLatency.nowNanos();
+            for (ApplicationLifecycleEvent event : batch) {
+                metrics.published(event, EventLatency.sinceEmitted(event, now));
+            }
+        } catch (Exception e) {
+            batch.forEach(metrics::failed);
+            LOGGER.error("Failed to publish batch of {} lifecycle events", batch.size(), e);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    /**
+     * Stops accepting events and waits up to the close timeout for queued events to be
+     * published and the sink flushed.
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            worker.join(closeTimeout.toMillis());
+            if (worker.isAlive()) {
+                LOGGER.warn("Lifecycle event dispatcher did not drain within {}", closeTimeout);
+                worker.interrupt();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Number of events waiting to be published. */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Number of events dropped because the queue was full, the dispatcher closed, or the worker
+     * exited before publishing them.
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.event.dispatch;
+
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.event.metrics.EventMetrics;
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.publisher.EventPublisher;
+
+/**
+ * Publishes each event on the thread that dispatches it.
+ */
+public class DirectEventDispatcher implements EventDispatcher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DirectEventDispatcher.class);
+
+    private final EventPublisher sink;
+    private final EventMetrics metrics;
+
+    public DirectEventDispatcher(EventPublisher sink, EventMetrics metrics) {
+        this.sink = Objects.requireNonNull(sink, "sink");
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+    }
+
+    @Override
+    public void dispatch(ApplicationLifecycleEvent event) {
+        try {
+            sink.publish(event);
+            metrics.published(event, EventLatency.sinceEmitted(event, EventLatency.nowNanos()));
+        } catch (Exception e) {
+            metrics.failed(event);
+            LOGGER.error("Failed to publish lifecycle event", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            sink.flush();
+        } catch (Exception e) {
+            LOGGER.error("Failed to flush lifecycle event sink", e);
+        }
+    }
+}
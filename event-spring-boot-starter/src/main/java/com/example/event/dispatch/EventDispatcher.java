@@ -0,0 +1,23 @@
+package com.example.event.dispatch;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+
+/**
+ * Hands emitted {@link ApplicationLifecycleEvent}s to the configured sinks. Implementations
+ * decide on which thread serialization and sink I/O happen.
+ */
+public interface EventDispatcher extends AutoCloseable {
+
+    /**
+     * Dispatches {@code event}. Never throws because a sink failed; failures are logged and
+     * counted instead.
+     */
+    void dispatch(ApplicationLifecycleEvent event);
+
+    /**
+     * Delivers every event dispatched so far, then releases the dispatcher's threads.
+     */
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.event.dispatch;
+
+import java.time.Instant;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+
+/**
+ * Publish latency measured from the header timestamp, which is set when the event is emitted.
+ */
+final class EventLatency {
+
+    private EventLatency() {
+    }
+
+    static long nowNanos() {
+        return toNanos(Instant.now());
+    }
+
+    static long sinceEmitted(ApplicationLifecycleEvent event, long nowNanos) {
+        return Math.max(0, nowNanos - toNanos(event.getHeader().getTimestamp()));
+    }
+
+    private static long toNanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.event.dispatch;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.event.metrics.EventMetrics;
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.publisher.EventPublisher;
+
+/**
+ * Publishes each event on its own virtual thread, so sinks can block on I/O without tying up a
+ * platform thread. Sinks must therefore accept concurrent calls.
+ * <p>
+ * A semaphore caps how many events are inside the sinks at once, so a burst of events cannot
+ * open more downstream connections or file writes than {@code maxConcurrency}. Virtual threads
+ * beyond that cap wait for a permit; once {@code maxPending} events are waiting or in flight,
+ * further events are dropped and counted as failed, so dispatching never blocks.
+ */
+public class VirtualThreadEventDispatcher implements EventDispatcher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadEventDispatcher.class);
+
+    private final EventPublisher sink;
+    private final EventMetrics metrics;
+    private final Semaphore permits;
+    private final int maxPending;
+    private final Duration closeTimeout;
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("lifecycle-event-", 0).factory());
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final LongAdder droppedCount = new LongAdder();
+
+    public VirtualThreadEventDispatcher(EventPublisher sink, EventMetrics metrics, int maxConcurrency,
+            int maxPending) {
+        this(sink, metrics, maxConcurrency, maxPending, Duration.ofSeconds(10));
+    }
+
+    public VirtualThreadEventDispatcher(EventPublisher sink, EventMetrics metrics, int maxConcurrency,
+            int maxPending, Duration closeTimeout) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        if (maxPending < maxConcurrency) {
+            throw new IllegalArgumentException("maxPending must be at least maxConcurrency: " + maxPending);
+        }
+        this.sink = Objects.requireNonNull(sink, "sink");
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+        this.permits = new Semaphore(maxConcurrency);
+        this.maxPending = maxPending;
+        this.closeTimeout = Objects.requireNonNull(closeTimeout, "closeTimeout");
+    }
+
+    @Override
+    public void dispatch(ApplicationLifecycleEvent event) {
+        if (pending.incrementAndGet() > maxPending) {
+            drop(event);
+            return;
+        }
+        try {
+            executor.execute(() -> publish(event));
+        } catch (RejectedExecutionException e) {
+            drop(event);
+        }
+    }
+
+    private void drop(ApplicationLifecycleEvent event) {
+        pending.decrementAndGet();
+        droppedCount.increment();
+        metrics.failed(event);
+    }
+
+    private void publish(ApplicationLifecycleEvent event) {
+        try {
+            permits.acquire();
+            try {
+                sink.publish(event);
+                metrics.published(event, EventLatency.sinceEmitted(event, EventLatency.nowNanos()));
+            } finally {
+                permits.release();
+            }
+        } catch (InterruptedException e) {
+            metrics.failed(event);
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            metrics.failed(event);
+            LOGGER.error("Failed to publish lifecycle event", e);
+        } finally {
+            pending.decrementAndGet();
+        }
+    }
+
+    /**
+     * Stops accepting events and waits up to the close timeout for in-flight events to be
+     * published, then flushes the sink.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(closeTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                LOGGER.warn("{} lifecycle events were still in flight after {}", pending.get(), closeTimeout);
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        try {
+            sink.flush();
+        } catch (Exception e) {
+            LOGGER.error("Failed to flush lifecycle event sink", e);
+        }
+    }
+
+    /** Number of events waiting for a permit or being published. */
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    /** Number of events dropped because {@code maxPending} was reached or the dispatcher closed. */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+}
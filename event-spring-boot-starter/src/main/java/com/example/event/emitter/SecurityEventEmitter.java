@@ -0,0 +1,110 @@
+package com.example.event.emitter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.example.event.dispatch.EventDispatcher;
+import com.example.event.header.EventHeaderFactory;
+import com.example.event.metrics.EventMetrics;
+import com.tbw.security.securityevents.AlertType;
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.DatabaseOperation;
+import com.tbw.security.securityevents.DatabaseOperationType;
+import com.tbw.security.securityevents.OperationStatus;
+import com.tbw.security.securityevents.PerformanceAlert;
+import com.tbw.security.securityevents.SecurityEvent;
+import com.tbw.security.securityevents.SecurityEventType;
+import com.tbw.security.securityevents.Severity;
+import com.tbw.security.securityevents.ThreatLevel;
+
+/**
+ * Emits {@link SecurityEvent}, {@link DatabaseOperation} and {@link PerformanceAlert} events
+ * from application code, e.g. once per failed login.
+ * <p>
+ * Events are built with the all-args constructors and the shared header template instead of
+ * the generated builders, which validate and deep-copy default values on every build. The
+ * {@code tags} and {@code metrics} maps are shared immutable empty maps. Each event is handed to
+ * the {@link EventDispatcher} and the call returns without waiting for serialization or I/O.
+ * Methods are safe to call from any thread.
+ */
+public class SecurityEventEmitter {
+
+    private static final Severity[] SEVERITY_BY_THREAT_LEVEL = {
+            Severity.INFO,     // LOW
+            Severity.WARN,     // MEDIUM
+            Severity.ERROR,    // HIGH
+            Severity.CRITICAL  // CRITICAL
+    };
+
+    private final EventHeaderFactory headerFactory;
+    private final EventDispatcher dispatcher;
+    private final EventMetrics metrics;
+
+    public SecurityEventEmitter(EventHeaderFactory headerFactory, EventDispatcher dispatcher, EventMetrics metrics) {
+        this.headerFactory = Objects.requireNonNull(headerFactory, "headerFactory");
+        this.dispatcher = Objects.requireNonNull(dispatcher, "dispatcher");
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+    }
+
+    /** A failed login or token validation against {@code resource}. */
+    public void authFailure(String resource, String clientIp, ThreatLevel threatLevel) {
+        securityEvent(SecurityEventType.AUTHENTICATION_FAILURE, resource, threatLevel, clientIp, null);
+    }
+
+    /** An authenticated caller was denied access to {@code resource}. */
+    public void authzFailure(String resource, String clientIp, ThreatLevel threatLevel) {
+        securityEvent(SecurityEventType.AUTHORIZATION_FAILURE, resource, threatLevel, clientIp, null);
+    }
+
+    /**
+     * Emits a {@link SecurityEvent}. The header severity follows the threat level: LOW is INFO,
+     * MEDIUM is WARN, HIGH is ERROR and CRITICAL is CRITICAL.
+     */
+    public void securityEvent(SecurityEventType type, String resource, ThreatLevel threatLevel, String clientIp,
+            String userAgent) {
+        emit(SEVERITY_BY_THREAT_LEVEL[threatLevel.ordinal()],
+                new SecurityEvent(type, resource, threatLevel, clientIp, userAgent));
+    }
+
+    /**
+     * Emits a {@link DatabaseOperation}; FAILED operations are ERROR, all others INFO.
+     *
+     * @param durationMs     {@code null} while the operation is still running
+     * @param affectedTables not copied, so it must not be modified afterwards
+     * @param errorMessage   {@code null} unless the operation failed
+     */
+    public void dbOperation(DatabaseOperationType type, String databaseName, OperationStatus status, Long durationMs,
+            List<String> affectedTables, String errorMessage) {
+        Severity severity = status == OperationStatus.FAILED ? Severity.ERROR : Severity.INFO;
+        emit(severity, new DatabaseOperation(type, databaseName, status, durationMs, affectedTables, errorMessage));
+    }
+
+    /** Emits a database operation that touched no particular tables. */
+    public void dbOperation(DatabaseOperationType type, String databaseName, OperationStatus status, Long durationMs) {
+        dbOperation(type, databaseName, status, durationMs, List.of(), null);
+    }
+
+    /**
+     * Emits a {@link PerformanceAlert}; recoveries are INFO, breaches and anomalies WARN.
+     *
+     * @param durationSeconds how long the condition has persisted, or {@code null}
+     */
+    public void performanceAlert(String metricName, double currentValue, double thresholdValue, AlertType alertType,
+            String measurementUnit, Long durationSeconds) {
+        Severity severity = alertType == AlertType.THRESHOLD_RECOVERED ? Severity.INFO : Severity.WARN;
+        emit(severity, new PerformanceAlert(metricName, currentValue, thresholdValue, alertType, measurementUnit,
+                durationSeconds));
+    }
+
+    /**
+     * Wraps {@code body}, one of the {@code ApplicationLifecycleEvent.body} union types, in an
+     * event with a fresh header and dispatches it.
+     */
+    public void emit(Severity severity, Object body) {
+        ApplicationLifecycleEvent event =
+                new ApplicationLifecycleEvent(headerFactory.create(severity), body, Map.of(), Map.of());
+        metrics.emitted(event);
+        dispatcher.dispatch(event);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.event.header;
+
+import com.tbw.security.securityevents.EventHeader;
+import com.tbw.security.securityevents.Severity;
+import com.tbw.security.securityevents.id.EventIdGenerator;
+import com.tbw.security.securityevents.id.EventIds;
+import com.tbw.security.securityevents.id.UuidV7EventIdGenerator;
+import org.springframework.core.env.Environment;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Creates {@link EventHeader}s from a template resolved once from the Spring {@link Environment}.
+ * Only the event ID, timestamp and severity vary per event, so creating a header does not touch
+ * the environment, parse enums or concatenate strings.
+ * <p>
+ * When {@code binaryEventId} is enabled the header also carries the 16-byte form of the ID in
+ * {@code event_id_bytes}, which sorts the same way as the string form.
+ */
+public class EventHeaderFactory {
+
+    static final String EVENT_VERSION = "1.0";
+
+    private final EventHeader template;
+    private final String configurationProfile;
+    private final List<String> activeProfiles;
+    private final EventIdGenerator idGenerator;
+    private final boolean binaryEventId;
+
+    public EventHeaderFactory(Environment environment) {
+        this(environment, new UuidV7EventIdGenerator(), false);
+    }
+
+    public EventHeaderFactory(Environment environment, EventIdGenerator idGenerator, boolean binaryEventId) {
+        this.idGenerator = idGenerator;
+        this.binaryEventId = binaryEventId;
+        this.template = EventHeader.newBuilder()
+                .setEventId("")
+                .setEventVersion(EVENT_VERSION)
+                .setTimestamp(Instant.EPOCH)
+                .setApplicationName(environment.getProperty("spring.application.name", "unknown"))
+                .setApplicationVersion(environment.getProperty("spring.application.version", "unknown"))
+                .setEnvironment(resolveEnvironment(environment.getProperty("spring.profiles.active", "DEVELOPMENT")))
+                .setSourceHost(environment.getProperty("HOST", "localhost"))
+                .setSeverity(Severity.INFO)
+                .build();
+        this.configurationProfile = environment.getProperty("spring.profiles.active", "default");
+        this.activeProfiles = List.copyOf(Arrays.asList(environment.getActiveProfiles()));
+    }
+
+    /**
+     * Maps the first active profile to the schema's environment, falling back to the schema
+     * default for profiles that do not name one (e.g. {@code default} or {@code local}).
+     */
+    static com.tbw.security.securityevents.Environment resolveEnvironment(String profiles) {
+        String first = profiles.split(",", 2)[0].trim().toUpperCase(Locale.ROOT);
+        for (com.tbw.security.securityevents.Environment candidate : com.tbw.security.securityevents.Environment.values()) {
+            if (candidate.name().equals(first)) {
+                return candidate;
+            }
+        }
+        return com.tbw.security.securityevents.Environment.DEVELOPMENT;
+    }
+
+    public EventHeader create(Severity severity) {
+        UUID id = idGenerator.nextUuid();
+        return new EventHeader(
+                idGenerator.format(id),
+                template.getEventVersion(),
+                Instant.now(),
+                null,
+                null,
+                template.getApplicationName(),
+                template.getApplicationVersion(),
+                template.getEnvironment(),
+                template.getSourceHost(),
+                null,
+                null,
+                null,
+                severity,
+                binaryEventId ? EventIds.toBytes(id) : null);
+    }
+
+    /** The value of {@code spring.profiles.active}, or {@code default}. */
+    public String getConfigurationProfile() {
+        return configurationProfile;
+    }
+
+    public List<String> getActiveProfiles() {
+        return activeProfiles;
+    }
+}
@@ -1,8 +1,11 @@
 package com.example.event.listener;
 
+import com.example.event.dispatch.DirectEventDispatcher;
+import com.example.event.dispatch.EventDispatcher;
+import com.example.event.header.EventHeaderFactory;
+import com.example.event.metrics.EventMetrics;
+import com.example.event.sink.LoggingEventPublisher;
 import com.tbw.security.securityevents.*;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.boot.context.event.ApplicationStartingEvent;
 import org.springframework.context.event.ContextClosedEvent;
@@ -11,37 +14,38 @@ import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
-import java.util.Arrays;
-import java.util.UUID;
 
 @Component
 public class ApplicationLifecycleEventListener {
-    private static final Logger logger = LoggerFactory.getLogger(ApplicationLifecycleEventListener.class);
-    private final Environment environment;
+    private final EventHeaderFactory headerFactory;
+    private final EventDispatcher dispatcher;
+    private final EventMetrics metrics;
     private final Instant applicationStartTime;
 
     public ApplicationLifecycleEventListener(Environment environment) {
-        this.environment = environment;
+        this(new EventHeaderFactory(environment));
+    }
+
+    public ApplicationLifecycleEventListener(EventHeaderFactory headerFactory) {
+        this(headerFactory, new DirectEventDispatcher(new LoggingEventPublisher(EventMetrics.NOOP), EventMetrics.NOOP),
+                EventMetrics.NOOP);
+    }
+
+    public ApplicationLifecycleEventListener(EventHeaderFactory headerFactory, EventDispatcher dispatcher,
+            EventMetrics metrics) {
+        this.headerFactory = headerFactory;
+        this.dispatcher = dispatcher;
+        this.metrics = metrics;
         this.applicationStartTime = Instant.now();
     }
 
     private EventHeader createEventHeader(Severity severity) {
-        return EventHeader.newBuilder()
-                .setEventId("evt-" + UUID.randomUUID().toString())
-                .setEventVersion("1.0")
-                .setTimestamp(Instant.now())
-                .setCorrelationId(null)
-                .setTraceId(null)
-                .setApplicationName(environment.getProperty("spring.application.name", "unknown"))
-                .setApplicationVersion(environment.getProperty("spring.application.version", "unknown"))
-                .setEnvironment(com.tbw.security.securityevents.Environment.valueOf(
-                    environment.getProperty("spring.profiles.active", "DEVELOPMENT").toUpperCase()))
-                .setSourceHost(environment.getProperty("HOST", "localhost"))
-                .setSourceInstanceId(null)
-                .setUserId(null)
-                .setSessionId(null)
-                .setSeverity(severity)
-                .build();
+        return headerFactory.create(severity);
+    }
+
+    private void publish(ApplicationLifecycleEvent lifecycleEvent) {
+        metrics.emitted(lifecycleEvent);
+        dispatcher.dispatch(lifecycleEvent);
     }
 
     @EventListener
@@ -50,8 +54,8 @@ public class ApplicationLifecycleEventListener {
                 .setStartupTimeMs(0L) // Not completed yet
                 .setJvmVersion(System.getProperty("java.version"))
                 .setMemoryAllocatedMb(Runtime.getRuntime().totalMemory() / (1024 * 1024))
-                .setConfigurationProfile(environment.getProperty("spring.profiles.active", "default"))
-                .setEnabledFeatures(Arrays.asList(environment.getActiveProfiles()))
+                .setConfigurationProfile(headerFactory.getConfigurationProfile())
+                .setEnabledFeatures(headerFactory.getActiveProfiles())
                 .build();
 
         ApplicationLifecycleEvent lifecycleEvent = ApplicationLifecycleEvent.newBuilder()
@@ -59,7 +63,7 @@ public class ApplicationLifecycleEventListener {
                 .setBody(startupBody)
                 .build();
 
-        logger.info("Application Starting: {}", lifecycleEvent);
+        publish(lifecycleEvent);
     }
 
     @EventListener
@@ -68,8 +72,8 @@ public class ApplicationLifecycleEventListener {
                 .setStartupTimeMs(System.currentTimeMillis() - applicationStartTime.toEpochMilli())
                 .setJvmVersion(System.getProperty("java.version"))
                 .setMemoryAllocatedMb(Runtime.getRuntime().totalMemory() / (1024 * 1024))
-                .setConfigurationProfile(environment.getProperty("spring.profiles.active", "default"))
-                .setEnabledFeatures(Arrays.asList(environment.getActiveProfiles()))
+                .setConfigurationProfile(headerFactory.getConfigurationProfile())
+                .setEnabledFeatures(headerFactory.getActiveProfiles())
                 .build();
 
         ApplicationLifecycleEvent lifecycleEvent = ApplicationLifecycleEvent.newBuilder()
@@ -77,7 +81,7 @@ public class ApplicationLifecycleEventListener {
                 .setBody(startupBody)
                 .build();
 
-        logger.info("Application Ready: {}", lifecycleEvent);
+        publish(lifecycleEvent);
     }
 
     @EventListener
@@ -97,6 +101,6 @@ public class ApplicationLifecycleEventListener {
                 .setBody(shutdownBody)
                 .build();
 
-        logger.info("Application Shutting Down: {}", lifecycleEvent);
+        publish(lifecycleEvent);
     }
 }
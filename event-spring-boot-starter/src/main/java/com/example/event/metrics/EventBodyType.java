@@ -0,0 +1,48 @@
+package com.example.event.metrics;
+
+import com.tbw.security.securityevents.ApplicationShutdown;
+import com.tbw.security.securityevents.ApplicationStartup;
+import com.tbw.security.securityevents.ConfigurationChange;
+import com.tbw.security.securityevents.DatabaseOperation;
+import com.tbw.security.securityevents.DeploymentEvent;
+import com.tbw.security.securityevents.PerformanceAlert;
+import com.tbw.security.securityevents.SecurityEvent;
+import com.tbw.security.securityevents.ServiceStatusChange;
+
+/**
+ * The branches of the {@code ApplicationLifecycleEvent.body} union, used as a metric tag.
+ */
+public enum EventBodyType {
+    APPLICATION_STARTUP("ApplicationStartup"),
+    APPLICATION_SHUTDOWN("ApplicationShutdown"),
+    CONFIGURATION_CHANGE("ConfigurationChange"),
+    SERVICE_STATUS_CHANGE("ServiceStatusChange"),
+    DATABASE_OPERATION("DatabaseOperation"),
+    SECURITY_EVENT("SecurityEvent"),
+    PERFORMANCE_ALERT("PerformanceAlert"),
+    DEPLOYMENT_EVENT("DeploymentEvent");
+
+    private final String tagValue;
+
+    EventBodyType(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    public String getTagValue() {
+        return tagValue;
+    }
+
+    public static EventBodyType of(Object body) {
+        return switch (body) {
+            case ApplicationStartup ignored -> APPLICATION_STARTUP;
+            case ApplicationShutdown ignored -> APPLICATION_SHUTDOWN;
+            case ConfigurationChange ignored -> CONFIGURATION_CHANGE;
+            case ServiceStatusChange ignored -> SERVICE_STATUS_CHANGE;
+            case DatabaseOperation ignored -> DATABASE_OPERATION;
+            case SecurityEvent ignored -> SECURITY_EVENT;
+            case PerformanceAlert ignored -> PERFORMANCE_ALERT;
+            case DeploymentEvent ignored -> DEPLOYMENT_EVENT;
+            default -> throw new IllegalArgumentException("Not a lifecycle event body: " + body.getClass().getName());
+        };
+    }
+}
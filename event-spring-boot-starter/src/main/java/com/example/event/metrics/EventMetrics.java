@@ -0,0 +1,32 @@
+package com.example.event.metrics;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+
+/**
+ * Callbacks through which the event pipeline reports its throughput and cost. Durations are in
+ * nanoseconds, measured by the caller with {@link System#nanoTime()}.
+ * <p>
+ * This interface does not depend on Micrometer, so the pipeline can always hold a reference to
+ * it; {@link #NOOP} is used when no {@code MeterRegistry} is available.
+ */
+public interface EventMetrics {
+
+    EventMetrics NOOP = new EventMetrics() {
+    };
+
+    /** An event was built and handed to the pipeline. */
+    default void emitted(ApplicationLifecycleEvent event) {
+    }
+
+    /** An event was serialized into {@code payloadBytes} bytes. */
+    default void serialized(ApplicationLifecycleEvent event, long durationNanos, int payloadBytes) {
+    }
+
+    /** An event reached its destination, {@code durationNanos} after it was emitted. */
+    default void published(ApplicationLifecycleEvent event, long durationNanos) {
+    }
+
+    /** An event could not be serialized or published. */
+    default void failed(ApplicationLifecycleEvent event) {
+    }
+}
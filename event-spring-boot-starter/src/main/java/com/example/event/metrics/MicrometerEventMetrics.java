@@ -0,0 +1,116 @@
+package com.example.event.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.Severity;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records {@link EventMetrics} to a Micrometer {@link MeterRegistry}, tagged by body type and
+ * severity.
+ * <p>
+ * Every meter for every body type and severity combination is registered up front and kept in
+ * arrays indexed by the enum ordinals, so recording an event is an array lookup and never goes
+ * through the registry's tag matching.
+ */
+public class MicrometerEventMetrics implements EventMetrics {
+
+    public static final String EMITTED = "application.events.emitted";
+    public static final String SERIALIZATION = "application.events.serialization";
+    public static final String PAYLOAD_SIZE = "application.events.payload.size";
+    public static final String PUBLISH = "application.events.publish";
+    public static final String FAILURES = "application.events.failures";
+
+    private static final EventBodyType[] BODY_TYPES = EventBodyType.values();
+    private static final Severity[] SEVERITIES = Severity.values();
+
+    private final Counter[] emitted;
+    private final Timer[] serialization;
+    private final DistributionSummary[] payloadSize;
+    private final Timer[] publish;
+    private final Counter[] failures;
+
+    /** Registers the meters without percentile histograms. */
+    public MicrometerEventMetrics(MeterRegistry registry) {
+        this(registry, false);
+    }
+
+    /**
+     * @param percentileHistogram whether timers and the payload size summary publish histogram
+     *                            buckets, for percentiles aggregated across instances
+     */
+    public MicrometerEventMetrics(MeterRegistry registry, boolean percentileHistogram) {
+        int size = BODY_TYPES.length * SEVERITIES.length;
+        this.emitted = new Counter[size];
+        this.serialization = new Timer[size];
+        this.payloadSize = new DistributionSummary[size];
+        this.publish = new Timer[size];
+        this.failures = new Counter[size];
+        for (EventBodyType bodyType : BODY_TYPES) {
+            for (Severity severity : SEVERITIES) {
+                int index = index(bodyType, severity);
+                Tags tags = Tags.of("body", bodyType.getTagValue(), "severity", severity.name());
+                emitted[index] = Counter.builder(EMITTED)
+                        .description("Lifecycle events handed to the event pipeline")
+                        .tags(tags)
+                        .register(registry);
+                serialization[index] = Timer.builder(SERIALIZATION)
+                        .description("Time spent serializing lifecycle events")
+                        .tags(tags)
+                        .publishPercentileHistogram(percentileHistogram)
+                        .register(registry);
+                payloadSize[index] = DistributionSummary.builder(PAYLOAD_SIZE)
+                        .description("Serialized size of lifecycle events")
+                        .baseUnit("bytes")
+                        .tags(tags)
+                        .publishPercentileHistogram(percentileHistogram)
+                        .register(registry);
+                publish[index] = Timer.builder(PUBLISH)
+                        .description("Time from emitting a lifecycle event until it was published")
+                        .tags(tags)
+                        .publishPercentileHistogram(percentileHistogram)
+                        .register(registry);
+                failures[index] = Counter.builder(FAILURES)
+                        .description("Lifecycle events that could not be serialized or published")
+                        .tags(tags)
+                        .register(registry);
+            }
+        }
+    }
+
+    private static int index(EventBodyType bodyType, Severity severity) {
+        return bodyType.ordinal() * SEVERITIES.length + severity.ordinal();
+    }
+
+    private static int index(ApplicationLifecycleEvent event) {
+        return index(EventBodyType.of(event.getBody()), event.getHeader().getSeverity());
+    }
+
+    @Override
+    public void emitted(ApplicationLifecycleEvent event) {
+        emitted[index(event)].increment();
+    }
+
+    @Override
+    public void serialized(ApplicationLifecycleEvent event, long durationNanos, int payloadBytes) {
+        int index = index(event);
+        serialization[index].record(durationNanos, TimeUnit.NANOSECONDS);
+        payloadSize[index].record(payloadBytes);
+    }
+
+    @Override
+    public void published(ApplicationLifecycleEvent event, long durationNanos) {
+        publish[index(event)].record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void failed(ApplicationLifecycleEvent event) {
+        failures[index(event)].increment();
+    }
+}
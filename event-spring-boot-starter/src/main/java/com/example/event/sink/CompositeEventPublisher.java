@@ -0,0 +1,91 @@
+package com.example.event.sink;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.publisher.EventPublisher;
+
+/**
+ * Fans each event or batch out to several sinks in order. A failing sink does not keep the
+ * others from receiving the event; the first failure is rethrown once every sink was tried.
+ */
+public class CompositeEventPublisher implements EventPublisher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompositeEventPublisher.class);
+
+    private final List<EventPublisher> sinks;
+
+    public CompositeEventPublisher(List<? extends EventPublisher> sinks) {
+        this.sinks = List.copyOf(sinks);
+    }
+
+    public List<EventPublisher> getSinks() {
+        return sinks;
+    }
+
+    @Override
+    public void publish(ApplicationLifecycleEvent event) throws Exception {
+        Exception failure = null;
+        for (EventPublisher sink : sinks) {
+            try {
+                sink.publish(event);
+            } catch (Exception e) {
+                failure = record(failure, e);
+            }
+        }
+        rethrow(failure);
+    }
+
+    @Override
+    public void publishAll(List<ApplicationLifecycleEvent> events) throws Exception {
+        Exception failure = null;
+        for (EventPublisher sink : sinks) {
+            try {
+                sink.publishAll(events);
+            } catch (Exception e) {
+                failure = record(failure, e);
+            }
+        }
+        rethrow(failure);
+    }
+
+    @Override
+    public void flush() throws Exception {
+        Exception failure = null;
+        for (EventPublisher sink : sinks) {
+            try {
+                sink.flush();
+            } catch (Exception e) {
+                failure = record(failure, e);
+            }
+        }
+        rethrow(failure);
+    }
+
+    @Override
+    public void close() {
+        for (EventPublisher sink : sinks) {
+            try {
+                sink.close();
+            } catch (Exception e) {
+                LOGGER.error("Failed to close event sink {}", sink, e);
+            }
+        }
+    }
+
+    private static Exception record(Exception failure, Exception e) {
+        if (failure == null) {
+            return e;
+        }
+        failure.addSuppressed(e);
+        return failure;
+    }
+
+    private static void rethrow(Exception failure) throws Exception {
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
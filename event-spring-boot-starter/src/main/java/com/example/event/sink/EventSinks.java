@@ -0,0 +1,70 @@
+package com.example.event.sink;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.avro.file.CodecFactory;
+import org.springframework.util.ClassUtils;
+
+import com.example.event.configuration.EventProperties;
+import com.example.event.metrics.EventMetrics;
+import com.tbw.security.securityevents.publisher.ContainerFileEventPublisher;
+import com.tbw.security.securityevents.publisher.EventPublisher;
+
+/**
+ * Builds the sink chain selected by {@code application.events.sinks}.
+ */
+public final class EventSinks {
+
+    static final String KAFKA_PUBLISHER_CLASS = "com.tbw.security.securityevents.kafka.KafkaEventPublisher";
+
+    private EventSinks() {
+    }
+
+    public static CompositeEventPublisher create(EventProperties properties, EventMetrics metrics) {
+        List<EventPublisher> sinks = new ArrayList<>();
+        try {
+            for (EventProperties.SinkType type : properties.getSinks()) {
+                sinks.add(create(type, properties, metrics));
+            }
+        } catch (RuntimeException e) {
+            new CompositeEventPublisher(sinks).close();
+            throw e;
+        }
+        return new CompositeEventPublisher(sinks);
+    }
+
+    private static EventPublisher create(EventProperties.SinkType type, EventProperties properties,
+            EventMetrics metrics) {
+        return switch (type) {
+            case LOG -> new LoggingEventPublisher(metrics);
+            case FILE -> createFileSink(properties.getFile(), metrics);
+            case KAFKA -> createKafkaSink(properties.getKafka(), metrics);
+            case MEMORY -> new InMemoryEventPublisher(properties.getMemory().getCapacity());
+        };
+    }
+
+    private static EventPublisher createFileSink(EventProperties.File file, EventMetrics metrics) {
+        try {
+            return ContainerFileEventPublisher.newBuilder(file.getDirectory())
+                    .setFilePrefix(file.getPrefix())
+                    .setCodec(CodecFactory.fromString(file.getCodec()))
+                    .setMaxFileSize(file.getMaxFileSize().toBytes())
+                    .setMaxFileAge(file.getMaxFileAge())
+                    .setSerializationListener(metrics::serialized)
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create event file sink in " + file.getDirectory(), e);
+        }
+    }
+
+    private static EventPublisher createKafkaSink(EventProperties.Kafka kafka, EventMetrics metrics) {
+        if (!ClassUtils.isPresent(KAFKA_PUBLISHER_CLASS, EventSinks.class.getClassLoader())) {
+            throw new IllegalStateException("The kafka event sink requires security-events-kafka on the classpath");
+        }
+        return KafkaSinks.create(kafka, metrics);
+    }
+
+}
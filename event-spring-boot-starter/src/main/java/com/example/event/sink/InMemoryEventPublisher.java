@@ -0,0 +1,49 @@
+package com.example.event.sink;
+
+import java.util.ArrayDeque;
+import java.util.List;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.publisher.EventPublisher;
+
+/**
+ * Keeps the most recent events in memory, e.g. for tests or a diagnostics endpoint. Once
+ * {@code capacity} events are held, each new event evicts the oldest.
+ */
+public class InMemoryEventPublisher implements EventPublisher {
+
+    private final int capacity;
+    private final ArrayDeque<ApplicationLifecycleEvent> events;
+
+    public InMemoryEventPublisher(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.events = new ArrayDeque<>(Math.min(capacity, 1024));
+    }
+
+    @Override
+    public synchronized void publish(ApplicationLifecycleEvent event) {
+        if (events.size() == capacity) {
+            events.pollFirst();
+        }
+        events.addLast(event);
+    }
+
+    @Override
+    public synchronized void publishAll(List<ApplicationLifecycleEvent> batch) {
+        for (ApplicationLifecycleEvent event : batch) {
+            publish(event);
+        }
+    }
+
+    /** The retained events, oldest first. */
+    public synchronized List<ApplicationLifecycleEvent> getEvents() {
+        return List.copyOf(events);
+    }
+
+    public synchronized void clear() {
+        events.clear();
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.event.sink;
+
+import com.example.event.configuration.EventProperties;
+import com.example.event.metrics.EventMetrics;
+import com.tbw.security.securityevents.kafka.KafkaEventPublisher;
+import com.tbw.security.securityevents.publisher.EventPublisher;
+
+/**
+ * Builds the Kafka sink. Kept apart from {@link EventSinks} so that {@code security-events-kafka}
+ * only has to be on the classpath when the Kafka sink is configured.
+ */
+final class KafkaSinks {
+
+    private KafkaSinks() {
+    }
+
+    static EventPublisher create(EventProperties.Kafka kafka, EventMetrics metrics) {
+        return KafkaEventPublisher.newBuilder()
+                .setBootstrapServers(kafka.getBootstrapServers())
+                .setTopic(kafka.getTopic())
+                .setCompressionType(kafka.getCompressionType())
+                .setSerializationListener(metrics::serialized)
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.event.sink;
+
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.event.metrics.EventMetrics;
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.publisher.EventPublisher;
+
+/**
+ * Logs each event's Avro JSON rendering at INFO. The rendering is reflective and slow, so this
+ * sink is meant for development and debugging. Its cost is recorded as serialization time, and
+ * the payload size is the length of the rendering.
+ */
+public class LoggingEventPublisher implements EventPublisher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoggingEventPublisher.class);
+
+    private final EventMetrics metrics;
+
+    public LoggingEventPublisher(EventMetrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+    }
+
+    @Override
+    public void publish(ApplicationLifecycleEvent event) {
+        if (!LOGGER.isInfoEnabled()) {
+            return;
+        }
+        long start = System.nanoTime();
+        String rendered = event.toString();
+        metrics.serialized(event, System.nanoTime() - start, rendered.length());
+        LOGGER.info("Lifecycle event: {}", rendered);
+    }
+}
@@ -2,16 +2,40 @@ package com.example.event;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextClosedEvent;
 import org.springframework.core.env.Environment;
 
 import com.example.event.configuration.EventAutoConfiguration;
 import com.example.event.configuration.EventProperties;
+import com.example.event.dispatch.AsyncEventDispatcher;
+import com.example.event.dispatch.DirectEventDispatcher;
+import com.example.event.dispatch.EventDispatcher;
+import com.example.event.dispatch.VirtualThreadEventDispatcher;
+import com.example.event.header.EventHeaderFactory;
 import com.example.event.listener.ApplicationLifecycleEventListener;
+import com.example.event.metrics.EventMetrics;
+import com.example.event.metrics.MicrometerEventMetrics;
+import com.example.event.sink.CompositeEventPublisher;
+import com.example.event.sink.InMemoryEventPublisher;
+import com.example.event.sink.LoggingEventPublisher;
+import com.tbw.security.securityevents.ApplicationShutdown;
+import com.tbw.security.securityevents.EventHeader;
+import com.tbw.security.securityevents.Severity;
+import com.tbw.security.securityevents.id.EventIdGenerator;
+import com.tbw.security.securityevents.id.UlidEventIdGenerator;
+import com.tbw.security.securityevents.id.UuidV7EventIdGenerator;
+import com.tbw.security.securityevents.publisher.EventPublisher;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 class EventAutoConfigurationTests {
 
@@ -24,6 +48,7 @@ class EventAutoConfigurationTests {
                 .run(context -> {
                     assertThat(context).hasSingleBean(ApplicationLifecycleEventListener.class);
                     assertThat(context).hasSingleBean(EventProperties.class);
+                    assertThat(context).hasSingleBean(EventHeaderFactory.class);
                     
                     EventProperties properties = context.getBean(EventProperties.class);
                     assertThat(properties.isEnabled()).isTrue();
@@ -43,6 +68,115 @@ class EventAutoConfigurationTests {
                 });
     }
 
+    @Test
+    void whenNoIdGeneratorConfigured_thenUuidV7IsUsedWithoutBinaryId() {
+        contextRunner.withUserConfiguration(TestConfig.class)
+                .run(context -> {
+                    assertThat(context.getBean(EventIdGenerator.class)).isInstanceOf(UuidV7EventIdGenerator.class);
+                    EventHeader header = context.getBean(EventHeaderFactory.class).create(Severity.INFO);
+                    assertThat(header.getEventIdBytes()).isNull();
+                });
+    }
+
+    @Test
+    void whenUlidAndBinaryIdConfigured_thenHeadersCarryBothForms() {
+        contextRunner.withUserConfiguration(TestConfig.class)
+                .withPropertyValues("application.events.id-generator=ulid", "application.events.binary-event-id=true")
+                .run(context -> {
+                    assertThat(context.getBean(EventIdGenerator.class)).isInstanceOf(UlidEventIdGenerator.class);
+                    EventHeader header = context.getBean(EventHeaderFactory.class).create(Severity.INFO);
+                    assertThat(header.getEventId()).hasSize(30);
+                    assertThat(header.getEventIdBytes().bytes()).hasSize(16);
+                });
+    }
+
+    @Test
+    void whenNoSinksConfigured_thenEventsAreLoggedAsynchronously() {
+        contextRunner.withUserConfiguration(TestConfig.class)
+                .run(context -> {
+                    assertThat(context.getBean(EventDispatcher.class)).isInstanceOf(AsyncEventDispatcher.class);
+                    CompositeEventPublisher sink = (CompositeEventPublisher) context.getBean(EventPublisher.class);
+                    assertThat(sink.getSinks()).singleElement().isInstanceOf(LoggingEventPublisher.class);
+                });
+    }
+
+    @Test
+    void whenMemorySinkAndDirectDispatchConfigured_thenListenerEventsAreRetained() {
+        contextRunner.withUserConfiguration(TestConfig.class)
+                .withPropertyValues("application.events.sinks=memory", "application.events.dispatch=direct")
+                .run(context -> {
+                    assertThat(context.getBean(EventDispatcher.class)).isInstanceOf(DirectEventDispatcher.class);
+                    context.getBean(ApplicationLifecycleEventListener.class)
+                            .handleContextClosed(new ContextClosedEvent(context));
+
+                    CompositeEventPublisher sink = (CompositeEventPublisher) context.getBean(EventPublisher.class);
+                    InMemoryEventPublisher memory = (InMemoryEventPublisher) sink.getSinks().get(0);
+                    assertThat(memory.getEvents()).singleElement()
+                            .satisfies(event -> assertThat(event.getBody()).isInstanceOf(ApplicationShutdown.class));
+                });
+    }
+
+    @Test
+    void whenVirtualThreadDispatchConfigured_thenVirtualThreadDispatcherIsCreated() {
+        contextRunner.withUserConfiguration(TestConfig.class)
+                .withPropertyValues("application.events.dispatch=virtual-threads",
+                        "application.events.virtual-threads.max-concurrency=8")
+                .run(context -> assertThat(context.getBean(EventDispatcher.class))
+                        .isInstanceOf(VirtualThreadEventDispatcher.class));
+    }
+
+    @Test
+    void whenEventsDisabled_thenNoSinkOrDispatcherIsCreated() {
+        contextRunner.withUserConfiguration(TestConfig.class)
+                .withPropertyValues("application.events.enabled=false")
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(EventPublisher.class);
+                    assertThat(context).doesNotHaveBean(EventDispatcher.class);
+                });
+    }
+
+    @Test
+    void whenNoMeterRegistry_thenMetricsAreNotCreated() {
+        contextRunner.withUserConfiguration(TestConfig.class)
+                .run(context -> assertThat(context).doesNotHaveBean(EventMetrics.class));
+    }
+
+    @Test
+    void whenMeterRegistryExists_thenEventMetricsAreRegistered() {
+        contextRunner.withUserConfiguration(TestConfig.class, MeterRegistryConfig.class)
+                .run(context -> {
+                    assertThat(context).hasSingleBean(EventMetrics.class);
+                    assertThat(context.getBean(EventMetrics.class)).isInstanceOf(MicrometerEventMetrics.class);
+                    assertThat(context.getBean(MeterRegistry.class).find(MicrometerEventMetrics.EMITTED).counters())
+                            .isNotEmpty();
+                });
+    }
+
+    @Test
+    void whenFileSinkConfigured_thenSerializationIsMeasured(@TempDir Path directory) {
+        contextRunner.withUserConfiguration(TestConfig.class, MeterRegistryConfig.class)
+                .withPropertyValues("application.events.sinks=file", "application.events.dispatch=direct",
+                        "application.events.file.directory=" + directory)
+                .run(context -> {
+                    context.getBean(ApplicationLifecycleEventListener.class)
+                            .handleContextClosed(new ContextClosedEvent(context));
+                    context.getBean(EventPublisher.class).flush();
+
+                    MeterRegistry registry = context.getBean(MeterRegistry.class);
+                    assertThat(registry.find(MicrometerEventMetrics.SERIALIZATION).timers())
+                            .anySatisfy(timer -> assertThat(timer.count()).isEqualTo(1));
+                    assertThat(registry.find(MicrometerEventMetrics.PAYLOAD_SIZE).summaries())
+                            .anySatisfy(summary -> assertThat(summary.totalAmount()).isPositive());
+                });
+    }
+
+    @Test
+    void whenMetricsDisabled_thenEventMetricsAreNotCreated() {
+        contextRunner.withUserConfiguration(TestConfig.class, MeterRegistryConfig.class)
+                .withPropertyValues("application.events.metrics.enabled=false")
+                .run(context -> assertThat(context).doesNotHaveBean(EventMetrics.class));
+    }
+
     @Test
     void whenCustomListenerExists_thenAutoConfiguredListenerIsNotCreated() {
         contextRunner.withUserConfiguration(CustomListenerConfig.class)
@@ -61,6 +195,14 @@ class EventAutoConfigurationTests {
         }
     }
 
+    @Configuration
+    static class MeterRegistryConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
     @Configuration
     static class CustomListenerConfig {
         @Bean
@@ -0,0 +1,140 @@
+package com.example.event.dispatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.event.metrics.EventMetrics;
+import com.example.event.sink.InMemoryEventPublisher;
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.ApplicationShutdown;
+import com.tbw.security.securityevents.Environment;
+import com.tbw.security.securityevents.EventHeader;
+import com.tbw.security.securityevents.Severity;
+import com.tbw.security.securityevents.ShutdownReason;
+import com.tbw.security.securityevents.publisher.EventPublisher;
+
+class AsyncEventDispatcherTests {
+
+    @Test
+    void whenClosed_thenEveryDispatchedEventReachesTheSink() {
+        InMemoryEventPublisher sink = new InMemoryEventPublisher(100);
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(sink, EventMetrics.NOOP, 64, 8);
+
+        for (int i = 0; i < 50; i++) {
+            dispatcher.dispatch(event("evt-" + i));
+        }
+        dispatcher.close();
+
+        assertThat(sink.getEvents()).hasSize(50);
+        assertThat(sink.getEvents().get(0).getHeader().getEventId()).isEqualTo("evt-0");
+        assertThat(sink.getEvents().get(49).getHeader().getEventId()).isEqualTo("evt-49");
+    }
+
+    @Test
+    void whenQueueIsFull_thenDispatchDropsInsteadOfBlocking() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        EventPublisher blockedSink = event -> release.await();
+        AtomicInteger failed = new AtomicInteger();
+        EventMetrics metrics = new EventMetrics() {
+            @Override
+            public void failed(ApplicationLifecycleEvent event) {
+                failed.incrementAndGet();
+            }
+        };
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(blockedSink, metrics, 4, 1);
+
+        for (int i = 0; i < 20; i++) {
+            dispatcher.dispatch(event("evt-" + i));
+        }
+
+        assertThat(dispatcher.getDroppedCount()).isGreaterThanOrEqualTo(15);
+        assertThat(failed.get()).isEqualTo((int) dispatcher.getDroppedCount());
+        release.countDown();
+        dispatcher.close();
+    }
+
+    @Test
+    void whenSinkFails_thenBatchIsCountedAsFailedAndDispatchContinues() throws InterruptedException {
+        CountDownLatch attempted = new CountDownLatch(3);
+        EventPublisher failingSink = event -> {
+            attempted.countDown();
+            throw new IllegalStateException("sink down");
+        };
+        AtomicInteger failed = new AtomicInteger();
+        EventMetrics metrics = new EventMetrics() {
+            @Override
+            public void failed(ApplicationLifecycleEvent event) {
+                failed.incrementAndGet();
+            }
+        };
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(failingSink, metrics, 16, 1);
+
+        List.of("evt-1", "evt-2", "evt-3").forEach(id -> dispatcher.dispatch(event(id)));
+
+        assertThat(attempted.await(5, TimeUnit.SECONDS)).isTrue();
+        dispatcher.close();
+        assertThat(failed.get()).isEqualTo(3);
+    }
+
+    @Test
+    void whenDispatchRacesWithClose_thenEveryEventIsPublishedOrDropped() throws InterruptedException {
+        LongAdder published = new LongAdder();
+        EventPublisher countingSink = event -> published.increment();
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(countingSink, EventMetrics.NOOP, 64, 8);
+
+        LongAdder dispatched = new LongAdder();
+        AtomicBoolean stop = new AtomicBoolean();
+        List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            producers.add(new Thread(() -> {
+                ApplicationLifecycleEvent event = event("evt");
+                while (!stop.get()) {
+                    dispatcher.dispatch(event);
+                    dispatched.increment();
+                }
+            }));
+        }
+        producers.forEach(Thread::start);
+        Thread.sleep(20);
+        dispatcher.close();
+        Thread.sleep(20);
+        stop.set(true);
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        assertThat(published.sum() + dispatcher.getDroppedCount()).isEqualTo(dispatched.sum());
+        assertThat(dispatcher.getQueueDepth()).isZero();
+    }
+
+    static ApplicationLifecycleEvent event(String eventId) {
+        EventHeader header = EventHeader.newBuilder()
+                .setEventId(eventId)
+                .setEventVersion("1.0")
+                .setTimestamp(Instant.now())
+                .setApplicationName("orders")
+                .setApplicationVersion("1.0.0")
+                .setEnvironment(Environment.DEVELOPMENT)
+                .setSourceHost("localhost")
+                .setSeverity(Severity.INFO)
+                .build();
+        ApplicationShutdown body = ApplicationShutdown.newBuilder()
+                .setShutdownReason(ShutdownReason.GRACEFUL)
+                .setUptimeSeconds(1L)
+                .setFinalMemoryUsageMb(128L)
+                .setCleanupTimeMs(0L)
+                .setExitCode(0)
+                .build();
+        return ApplicationLifecycleEvent.newBuilder().setHeader(header).setBody(body).build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.event.dispatch;
+
+import static com.example.event.dispatch.AsyncEventDispatcherTests.event;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.event.metrics.EventMetrics;
+import com.tbw.security.securityevents.publisher.EventPublisher;
+
+class VirtualThreadEventDispatcherTests {
+
+    @Test
+    void whenBurstDispatched_thenSinkConcurrencyIsCapped() {
+        AtomicInteger inSink = new AtomicInteger();
+        AtomicInteger maxInSink = new AtomicInteger();
+        Set<String> published = ConcurrentHashMap.newKeySet();
+        EventPublisher slowSink = event -> {
+            maxInSink.accumulateAndGet(inSink.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            published.add(event.getHeader().getEventId());
+            inSink.decrementAndGet();
+        };
+        VirtualThreadEventDispatcher dispatcher = new VirtualThreadEventDispatcher(slowSink, EventMetrics.NOOP, 4, 1000);
+
+        for (int i = 0; i < 200; i++) {
+            dispatcher.dispatch(event("evt-" + i));
+        }
+        dispatcher.close();
+
+        assertThat(published).hasSize(200);
+        assertThat(maxInSink.get()).isBetween(1, 4);
+        assertThat(dispatcher.getPendingCount()).isZero();
+    }
+
+    @Test
+    void whenMaxPendingReached_thenFurtherEventsAreDropped() {
+        CountDownLatch release = new CountDownLatch(1);
+        EventPublisher blockedSink = event -> release.await();
+        VirtualThreadEventDispatcher dispatcher = new VirtualThreadEventDispatcher(blockedSink, EventMetrics.NOOP, 2, 10);
+
+        for (int i = 0; i < 25; i++) {
+            dispatcher.dispatch(event("evt-" + i));
+        }
+
+        assertThat(dispatcher.getDroppedCount()).isEqualTo(15);
+        release.countDown();
+        dispatcher.close();
+    }
+
+    @Test
+    void whenClosed_thenEventsAreDropped() {
+        VirtualThreadEventDispatcher dispatcher = new VirtualThreadEventDispatcher(event -> { }, EventMetrics.NOOP, 2, 10);
+        dispatcher.close();
+
+        dispatcher.dispatch(event("evt-late"));
+
+        assertThat(dispatcher.getDroppedCount()).isEqualTo(1);
+        assertThat(dispatcher.getPendingCount()).isZero();
+    }
+}
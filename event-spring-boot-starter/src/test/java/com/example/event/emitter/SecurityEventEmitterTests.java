@@ -0,0 +1,71 @@
+package com.example.event.emitter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.example.event.dispatch.DirectEventDispatcher;
+import com.example.event.header.EventHeaderFactory;
+import com.example.event.metrics.EventMetrics;
+import com.example.event.sink.InMemoryEventPublisher;
+import com.tbw.security.securityevents.AlertType;
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.DatabaseOperation;
+import com.tbw.security.securityevents.DatabaseOperationType;
+import com.tbw.security.securityevents.OperationStatus;
+import com.tbw.security.securityevents.PerformanceAlert;
+import com.tbw.security.securityevents.SecurityEvent;
+import com.tbw.security.securityevents.SecurityEventType;
+import com.tbw.security.securityevents.Severity;
+import com.tbw.security.securityevents.ThreatLevel;
+import com.tbw.security.securityevents.codec.LifecycleEventCodec;
+
+class SecurityEventEmitterTests {
+
+    private final InMemoryEventPublisher sink = new InMemoryEventPublisher(10);
+    private final SecurityEventEmitter emitter = new SecurityEventEmitter(
+            new EventHeaderFactory(new MockEnvironment().withProperty("spring.application.name", "orders")),
+            new DirectEventDispatcher(sink, EventMetrics.NOOP), EventMetrics.NOOP);
+
+    @Test
+    void whenAuthFailureEmitted_thenSecurityEventCarriesSeverityFromThreatLevel() {
+        emitter.authFailure("/login", "203.0.113.7", ThreatLevel.HIGH);
+
+        ApplicationLifecycleEvent event = sink.getEvents().get(0);
+        assertThat(event.getHeader().getApplicationName()).isEqualTo("orders");
+        assertThat(event.getHeader().getSeverity()).isEqualTo(Severity.ERROR);
+        SecurityEvent body = (SecurityEvent) event.getBody();
+        assertThat(body.getEventType()).isEqualTo(SecurityEventType.AUTHENTICATION_FAILURE);
+        assertThat(body.getResource()).isEqualTo("/login");
+        assertThat(body.getClientIp()).isEqualTo("203.0.113.7");
+        assertThat(body.getThreatLevel()).isEqualTo(ThreatLevel.HIGH);
+    }
+
+    @Test
+    void whenDbOperationFailed_thenSeverityIsError() {
+        emitter.dbOperation(DatabaseOperationType.BACKUP, "orders", OperationStatus.FAILED, 1200L,
+                List.of("orders", "order_items"), "disk full");
+
+        ApplicationLifecycleEvent event = sink.getEvents().get(0);
+        assertThat(event.getHeader().getSeverity()).isEqualTo(Severity.ERROR);
+        DatabaseOperation body = (DatabaseOperation) event.getBody();
+        assertThat(body.getAffectedTables()).containsExactly("orders", "order_items");
+        assertThat(body.getErrorMessage()).isEqualTo("disk full");
+    }
+
+    @Test
+    void whenPerformanceAlertEmitted_thenEventRoundTripsThroughTheBinaryCodec() throws Exception {
+        emitter.performanceAlert("heap.used", 0.93, 0.9, AlertType.THRESHOLD_EXCEEDED, "ratio", 60L);
+
+        ApplicationLifecycleEvent event = sink.getEvents().get(0);
+        LifecycleEventCodec codec = LifecycleEventCodec.get();
+        ApplicationLifecycleEvent decoded = codec.deserialize(codec.serialize(event), null);
+
+        assertThat(decoded.getBody()).isEqualTo(event.getBody());
+        assertThat(((PerformanceAlert) decoded.getBody()).getCurrentValue()).isEqualTo(0.93);
+        assertThat(decoded.getHeader().getSeverity()).isEqualTo(Severity.WARN);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.event.header;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.tbw.security.securityevents.Environment;
+import com.tbw.security.securityevents.EventHeader;
+import com.tbw.security.securityevents.Severity;
+
+class EventHeaderFactoryTests {
+
+    @Test
+    void whenPropertiesSet_thenHeaderUsesResolvedTemplate() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.application.name", "orders")
+                .withProperty("spring.application.version", "1.2.3")
+                .withProperty("spring.profiles.active", "production")
+                .withProperty("HOST", "orders-01");
+        EventHeaderFactory factory = new EventHeaderFactory(environment);
+
+        EventHeader header = factory.create(Severity.WARN);
+
+        assertThat(header.getEventId()).startsWith("evt-");
+        assertThat(header.getEventVersion()).isEqualTo("1.0");
+        assertThat(header.getTimestamp()).isNotNull();
+        assertThat(header.getApplicationName()).isEqualTo("orders");
+        assertThat(header.getApplicationVersion()).isEqualTo("1.2.3");
+        assertThat(header.getEnvironment()).isEqualTo(Environment.PRODUCTION);
+        assertThat(header.getSourceHost()).isEqualTo("orders-01");
+        assertThat(header.getSeverity()).isEqualTo(Severity.WARN);
+        assertThat(factory.getConfigurationProfile()).isEqualTo("production");
+    }
+
+    @Test
+    void whenPropertiesChangeAfterStartup_thenTemplateIsNotReread() {
+        MockEnvironment environment = new MockEnvironment().withProperty("spring.application.name", "orders");
+        EventHeaderFactory factory = new EventHeaderFactory(environment);
+        environment.setProperty("spring.application.name", "renamed");
+
+        assertThat(factory.create(Severity.INFO).getApplicationName()).isEqualTo("orders");
+    }
+
+    @Test
+    void whenNoPropertiesSet_thenDefaultsAreUsed() {
+        EventHeader header = new EventHeaderFactory(new MockEnvironment()).create(Severity.INFO);
+
+        assertThat(header.getApplicationName()).isEqualTo("unknown");
+        assertThat(header.getApplicationVersion()).isEqualTo("unknown");
+        assertThat(header.getEnvironment()).isEqualTo(Environment.DEVELOPMENT);
+        assertThat(header.getSourceHost()).isEqualTo("localhost");
+    }
+
+    @Test
+    void whenProfileIsNotAnEnvironment_thenDevelopmentIsUsed() {
+        assertThat(EventHeaderFactory.resolveEnvironment("local")).isEqualTo(Environment.DEVELOPMENT);
+        assertThat(EventHeaderFactory.resolveEnvironment("staging, metrics")).isEqualTo(Environment.STAGING);
+        assertThat(EventHeaderFactory.resolveEnvironment("testing")).isEqualTo(Environment.TESTING);
+    }
+
+    @Test
+    void whenCreatingHeaders_thenEventIdsAreUniqueAndOrdered() {
+        EventHeaderFactory factory = new EventHeaderFactory(new MockEnvironment());
+        String first = factory.create(Severity.INFO).getEventId();
+        String second = factory.create(Severity.INFO).getEventId();
+
+        assertThat(second).isGreaterThan(first);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.event.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.ApplicationStartup;
+import com.tbw.security.securityevents.Environment;
+import com.tbw.security.securityevents.EventHeader;
+import com.tbw.security.securityevents.Severity;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MicrometerEventMetricsTests {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MicrometerEventMetrics metrics = new MicrometerEventMetrics(registry, false);
+
+    @Test
+    void whenCreated_thenMetersArePreRegisteredForEveryBodyTypeAndSeverity() {
+        int combinations = EventBodyType.values().length * Severity.values().length;
+
+        assertThat(registry.find(MicrometerEventMetrics.EMITTED).counters()).hasSize(combinations);
+        assertThat(registry.find(MicrometerEventMetrics.SERIALIZATION).timers()).hasSize(combinations);
+        assertThat(registry.find(MicrometerEventMetrics.PAYLOAD_SIZE).summaries()).hasSize(combinations);
+        assertThat(registry.find(MicrometerEventMetrics.PUBLISH).timers()).hasSize(combinations);
+        assertThat(registry.find(MicrometerEventMetrics.FAILURES).counters()).hasSize(combinations);
+    }
+
+    @Test
+    void whenEventRecorded_thenOnlyItsBodyTypeAndSeverityAreUpdated() {
+        ApplicationLifecycleEvent event = startupEvent(Severity.WARN);
+
+        metrics.emitted(event);
+        metrics.serialized(event, 2_000, 180);
+        metrics.published(event, 5_000);
+        metrics.failed(event);
+
+        String body = EventBodyType.APPLICATION_STARTUP.getTagValue();
+        assertThat(registry.get(MicrometerEventMetrics.EMITTED).tags("body", body, "severity", "WARN").counter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get(MicrometerEventMetrics.EMITTED).tags("body", body, "severity", "INFO").counter().count())
+                .isZero();
+        assertThat(registry.get(MicrometerEventMetrics.SERIALIZATION).tags("body", body, "severity", "WARN").timer()
+                .totalTime(TimeUnit.NANOSECONDS)).isEqualTo(2_000.0);
+        assertThat(registry.get(MicrometerEventMetrics.PAYLOAD_SIZE).tags("body", body, "severity", "WARN").summary()
+                .totalAmount()).isEqualTo(180.0);
+        assertThat(registry.get(MicrometerEventMetrics.PUBLISH).tags("body", body, "severity", "WARN").timer()
+                .count()).isEqualTo(1);
+        assertThat(registry.get(MicrometerEventMetrics.FAILURES).tags("body", body, "severity", "WARN").counter()
+                .count()).isEqualTo(1.0);
+    }
+
+    private static ApplicationLifecycleEvent startupEvent(Severity severity) {
+        EventHeader header = EventHeader.newBuilder()
+                .setEventId("evt-1")
+                .setEventVersion("1.0")
+                .setTimestamp(Instant.now())
+                .setApplicationName("orders")
+                .setApplicationVersion("1.0.0")
+                .setEnvironment(Environment.DEVELOPMENT)
+                .setSourceHost("localhost")
+                .setSeverity(severity)
+                .build();
+        ApplicationStartup body = ApplicationStartup.newBuilder()
+                .setStartupTimeMs(0L)
+                .setJvmVersion("21")
+                .setMemoryAllocatedMb(256L)
+                .setConfigurationProfile("default")
+                .setEnabledFeatures(List.of())
+                .build();
+        return ApplicationLifecycleEvent.newBuilder().setHeader(header).setBody(body).build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.tbw.security.securityevents.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler attached, so every result reports ops/s together
+ * with bytes allocated per operation ({@code gc.alloc.rate.norm}).
+ * <p>
+ * {@code java -jar target/benchmarks.jar [JMH options]}, e.g. {@code -p bodyType=SECURITY_EVENT}.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build())
+            .run();
+    }
+}
@@ -0,0 +1,160 @@
+package com.tbw.security.securityevents.benchmarks;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import com.tbw.security.securityevents.AlertType;
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.ApplicationShutdown;
+import com.tbw.security.securityevents.ApplicationStartup;
+import com.tbw.security.securityevents.ConfigSource;
+import com.tbw.security.securityevents.ConfigurationChange;
+import com.tbw.security.securityevents.DatabaseOperation;
+import com.tbw.security.securityevents.DatabaseOperationType;
+import com.tbw.security.securityevents.DeploymentEvent;
+import com.tbw.security.securityevents.DeploymentStage;
+import com.tbw.security.securityevents.DeploymentStrategy;
+import com.tbw.security.securityevents.Environment;
+import com.tbw.security.securityevents.EventHeader;
+import com.tbw.security.securityevents.OperationStatus;
+import com.tbw.security.securityevents.PerformanceAlert;
+import com.tbw.security.securityevents.SecurityEvent;
+import com.tbw.security.securityevents.SecurityEventType;
+import com.tbw.security.securityevents.ServiceStatus;
+import com.tbw.security.securityevents.ServiceStatusChange;
+import com.tbw.security.securityevents.Severity;
+import com.tbw.security.securityevents.ShutdownReason;
+import com.tbw.security.securityevents.ThreatLevel;
+
+/**
+ * One constant per branch of the {@code ApplicationLifecycleEvent.body} union, each able to
+ * build a representative event through the generated builders.
+ */
+public enum BodyType {
+    APPLICATION_STARTUP {
+        @Override
+        Object body() {
+            return ApplicationStartup.newBuilder()
+                .setStartupTimeMs(4_250L)
+                .setJvmVersion("21.0.1")
+                .setMemoryAllocatedMb(512L)
+                .setConfigurationProfile("production")
+                .setEnabledFeatures(List.of("metrics", "tracing", "audit"))
+                .build();
+        }
+    },
+    APPLICATION_SHUTDOWN {
+        @Override
+        Object body() {
+            return ApplicationShutdown.newBuilder()
+                .setShutdownReason(ShutdownReason.GRACEFUL)
+                .setUptimeSeconds(86_400L)
+                .setFinalMemoryUsageMb(1_024L)
+                .setCleanupTimeMs(350L)
+                .setExitCode(0)
+                .build();
+        }
+    },
+    CONFIGURATION_CHANGE {
+        @Override
+        Object body() {
+            return ConfigurationChange.newBuilder()
+                .setConfigKey("database.max_connections")
+                .setOldValue("50")
+                .setNewValue("100")
+                .setChangeSource(ConfigSource.ADMIN_INTERFACE)
+                .setRequiresRestart(true)
+                .build();
+        }
+    },
+    SERVICE_STATUS_CHANGE {
+        @Override
+        Object body() {
+            return ServiceStatusChange.newBuilder()
+                .setServiceName("payment-gateway")
+                .setPreviousStatus(ServiceStatus.HEALTHY)
+                .setCurrentStatus(ServiceStatus.DEGRADED)
+                .setStatusDetails("p99 latency above 2s")
+                .setHealthCheckUrl("https://payments.internal/health")
+                .build();
+        }
+    },
+    DATABASE_OPERATION {
+        @Override
+        Object body() {
+            return DatabaseOperation.newBuilder()
+                .setOperationType(DatabaseOperationType.MIGRATION)
+                .setDatabaseName("accounts")
+                .setOperationStatus(OperationStatus.COMPLETED)
+                .setDurationMs(12_500L)
+                .setAffectedTables(List.of("users", "sessions", "audit_log"))
+                .setErrorMessage(null)
+                .build();
+        }
+    },
+    SECURITY_EVENT {
+        @Override
+        Object body() {
+            return SecurityEvent.newBuilder()
+                .setEventType(SecurityEventType.AUTHENTICATION_FAILURE)
+                .setResource("/api/v1/login")
+                .setThreatLevel(ThreatLevel.MEDIUM)
+                .setClientIp("203.0.113.42")
+                .setUserAgent("Mozilla/5.0 (X11; Linux x86_64)")
+                .build();
+        }
+    },
+    PERFORMANCE_ALERT {
+        @Override
+        Object body() {
+            return PerformanceAlert.newBuilder()
+                .setMetricName("http.server.requests.p99")
+                .setCurrentValue(2_350.5)
+                .setThresholdValue(2_000.0)
+                .setAlertType(AlertType.THRESHOLD_EXCEEDED)
+                .setMeasurementUnit("ms")
+                .setDurationSeconds(300L)
+                .build();
+        }
+    },
+    DEPLOYMENT_EVENT {
+        @Override
+        Object body() {
+            return DeploymentEvent.newBuilder()
+                .setDeploymentId("deploy-2024-0042")
+                .setDeploymentStage(DeploymentStage.DEPLOYING)
+                .setFromVersion("2.3.1")
+                .setToVersion("2.4.0")
+                .setDeploymentStrategy(DeploymentStrategy.CANARY)
+                .setRollbackReason(null)
+                .build();
+        }
+    };
+
+    abstract Object body();
+
+    ApplicationLifecycleEvent event() {
+        EventHeader header = EventHeader.newBuilder()
+            .setEventId("evt-0190a4b2-7c3e-7a41-9d2f-3b8e5c1a6f90")
+            .setEventVersion("1.0")
+            .setTimestamp(Instant.ofEpochMilli(1_700_000_000_000L))
+            .setCorrelationId("corr-5f1d2c")
+            .setTraceId("4bf92f3577b34da6a3ce929d0e0e4736")
+            .setApplicationName("security-app")
+            .setApplicationVersion("2.4.0")
+            .setEnvironment(Environment.PRODUCTION)
+            .setSourceHost("app-server-01")
+            .setSourceInstanceId("i-0abc123def456")
+            .setUserId("user-123")
+            .setSessionId("session-456")
+            .setSeverity(Severity.WARN)
+            .build();
+        return ApplicationLifecycleEvent.newBuilder()
+            .setHeader(header)
+            .setBody(body())
+            .setTags(Map.of("region", "eu-west-1", "cluster", "blue"))
+            .setMetrics(Map.of("cpu", 0.42, "heap", 0.73))
+            .build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.tbw.security.securityevents.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.io.JsonEncoder;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+
+/**
+ * Encode/decode cost of {@link ApplicationLifecycleEvent} for every body union branch.
+ * Encoders, decoders and buffers are reused across invocations, as a production pipeline
+ * would, so the allocation rate reported by the GC profiler is that of Avro itself.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param
+    public BodyType bodyType;
+
+    private ApplicationLifecycleEvent event;
+    private ApplicationLifecycleEvent reuse;
+    private byte[] binary;
+    private ByteBuffer singleObject;
+
+    private final DatumWriter<ApplicationLifecycleEvent> writer = new SpecificDatumWriter<>(ApplicationLifecycleEvent.class);
+    private final DatumReader<ApplicationLifecycleEvent> reader = new SpecificDatumReader<>(ApplicationLifecycleEvent.class);
+    private final BinaryMessageEncoder<ApplicationLifecycleEvent> messageEncoder = ApplicationLifecycleEvent.getEncoder();
+    private final BinaryMessageDecoder<ApplicationLifecycleEvent> messageDecoder = ApplicationLifecycleEvent.getDecoder();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+    private BinaryEncoder binaryEncoder;
+    private BinaryDecoder binaryDecoder;
+    private JsonEncoder jsonEncoder;
+
+    @Setup
+    public void setUp() throws IOException {
+        event = bodyType.event();
+        reuse = new ApplicationLifecycleEvent();
+        binary = binaryEncode();
+        singleObject = messageEncoder.encode(event);
+        jsonEncoder = EncoderFactory.get().jsonEncoder(ApplicationLifecycleEvent.getClassSchema(), out);
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() throws IOException {
+        out.reset();
+        binaryEncoder = EncoderFactory.get().binaryEncoder(out, binaryEncoder);
+        writer.write(event, binaryEncoder);
+        binaryEncoder.flush();
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public ApplicationLifecycleEvent binaryDecode() throws IOException {
+        binaryDecoder = DecoderFactory.get().binaryDecoder(binary, binaryDecoder);
+        return reader.read(reuse, binaryDecoder);
+    }
+
+    @Benchmark
+    public int jsonEncode() throws IOException {
+        out.reset();
+        jsonEncoder.configure(out);
+        writer.write(event, jsonEncoder);
+        jsonEncoder.flush();
+        return out.size();
+    }
+
+    @Benchmark
+    public ByteBuffer singleObjectEncode() throws IOException {
+        return event.toByteBuffer();
+    }
+
+    @Benchmark
+    public ApplicationLifecycleEvent singleObjectDecode() throws IOException {
+        return messageDecoder.decode(singleObject.duplicate(), reuse);
+    }
+
+    @Benchmark
+    public ApplicationLifecycleEvent builderConstruction() {
+        return bodyType.event();
+    }
+}
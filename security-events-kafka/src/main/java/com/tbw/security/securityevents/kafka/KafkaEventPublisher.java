@@ -0,0 +1,215 @@
+package com.tbw.security.securityevents.kafka;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.record.CompressionType;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.publisher.EventPublisher;
+import com.tbw.security.securityevents.publisher.SerializationListener;
+
+/**
+ * Publishes {@link ApplicationLifecycleEvent}s to a Kafka topic. Records are keyed by
+ * {@link PartitionKey} and sent asynchronously; batching and compression are left to the Kafka
+ * producer and tuned through the {@link Builder}.
+ */
+public class KafkaEventPublisher implements EventPublisher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(KafkaEventPublisher.class);
+
+    public static final String DEFAULT_BOOTSTRAP_SERVERS = "localhost:29092,localhost:39092,localhost:49092";
+    public static final String DEFAULT_TOPIC = "application-lifecycle-events";
+
+    private final Producer<String, ApplicationLifecycleEvent> producer;
+    private final String topic;
+    private final PartitionKey partitionKey;
+    private final Duration closeTimeout;
+    private final Callback callback = this::onCompletion;
+
+    private final LongAdder sentCount = new LongAdder();
+    private final LongAdder acknowledgedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+
+    /**
+     * Wraps an existing producer, e.g. a {@code MockProducer} in tests.
+     */
+    public KafkaEventPublisher(Producer<String, ApplicationLifecycleEvent> producer, String topic,
+            PartitionKey partitionKey) {
+        this(producer, topic, partitionKey, Duration.ofSeconds(30));
+    }
+
+    private KafkaEventPublisher(Producer<String, ApplicationLifecycleEvent> producer, String topic,
+            PartitionKey partitionKey, Duration closeTimeout) {
+        this.producer = Objects.requireNonNull(producer, "producer");
+        this.topic = Objects.requireNonNull(topic, "topic");
+        this.partitionKey = Objects.requireNonNull(partitionKey, "partitionKey");
+        this.closeTimeout = closeTimeout;
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Hands {@code event} to the producer's accumulator. Only blocks when the producer's
+     * {@code buffer.memory} is exhausted, for at most {@code max.block.ms}.
+     */
+    @Override
+    public void publish(ApplicationLifecycleEvent event) {
+        String key = partitionKey.keyOf(event.getHeader());
+        producer.send(new ProducerRecord<>(topic, key, event), callback);
+        sentCount.increment();
+    }
+
+    private void onCompletion(RecordMetadata metadata, Exception exception) {
+        if (exception == null) {
+            acknowledgedCount.increment();
+        } else {
+            failedCount.increment();
+            LOGGER.error("Failed to publish event to topic {}", topic, exception);
+        }
+    }
+
+    @Override
+    public void flush() {
+        producer.flush();
+    }
+
+    @Override
+    public void close() {
+        producer.close(closeTimeout);
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+
+    public long getSentCount() {
+        return sentCount.sum();
+    }
+
+    public long getAcknowledgedCount() {
+        return acknowledgedCount.sum();
+    }
+
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    public static class Builder {
+        private String bootstrapServers = DEFAULT_BOOTSTRAP_SERVERS;
+        private String topic = DEFAULT_TOPIC;
+        private String clientId = "security-events-publisher";
+        private int lingerMs = 5;
+        private int batchSize = 64 * 1024;
+        private String compressionType = CompressionType.LZ4.name;
+        private boolean idempotence = true;
+        private PartitionKey partitionKey = PartitionKey.SOURCE_HOST;
+        private Duration closeTimeout = Duration.ofSeconds(30);
+        private SerializationListener serializationListener = SerializationListener.NOOP;
+        private final Map<String, Object> overrides = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /** Defaults to the three brokers from docker-compose.yml. */
+        public Builder setBootstrapServers(String bootstrapServers) {
+            this.bootstrapServers = Objects.requireNonNull(bootstrapServers, "bootstrapServers");
+            return this;
+        }
+
+        public Builder setTopic(String topic) {
+            this.topic = Objects.requireNonNull(topic, "topic");
+            return this;
+        }
+
+        public Builder setClientId(String clientId) {
+            this.clientId = Objects.requireNonNull(clientId, "clientId");
+            return this;
+        }
+
+        /** {@code linger.ms}; defaults to 5. */
+        public Builder setLingerMs(int lingerMs) {
+            this.lingerMs = lingerMs;
+            return this;
+        }
+
+        /** {@code batch.size} in bytes; defaults to 64 KiB. */
+        public Builder setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /** {@code compression.type}, e.g. {@code lz4} (default) or {@code zstd}. */
+        public Builder setCompressionType(String compressionType) {
+            this.compressionType = CompressionType.forName(compressionType.toLowerCase(Locale.ROOT)).name;
+            return this;
+        }
+
+        /** {@code enable.idempotence}; defaults to {@code true}, which implies {@code acks=all}. */
+        public Builder setIdempotence(boolean idempotence) {
+            this.idempotence = idempotence;
+            return this;
+        }
+
+        public Builder setPartitionKey(PartitionKey partitionKey) {
+            this.partitionKey = Objects.requireNonNull(partitionKey, "partitionKey");
+            return this;
+        }
+
+        public Builder setCloseTimeout(Duration closeTimeout) {
+            this.closeTimeout = Objects.requireNonNull(closeTimeout, "closeTimeout");
+            return this;
+        }
+
+        /**
+         * Told the size of each encoded record value and how long it took to encode, on the
+         * thread calling {@code publish}.
+         */
+        public Builder setSerializationListener(SerializationListener serializationListener) {
+            this.serializationListener = Objects.requireNonNull(serializationListener, "serializationListener");
+            return this;
+        }
+
+        /** Any other producer property; applied last. */
+        public Builder setProperty(String name, Object value) {
+            overrides.put(name, value);
+            return this;
+        }
+
+        Properties producerProperties() {
+            Properties properties = new Properties();
+            properties.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+            properties.put(ProducerConfig.CLIENT_ID_CONFIG, clientId);
+            properties.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+            properties.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+            properties.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+            properties.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, idempotence);
+            properties.put(ProducerConfig.ACKS_CONFIG, idempotence ? "all" : "1");
+            properties.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+            properties.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, LifecycleEventSerializer.class);
+            properties.putAll(overrides);
+            return properties;
+        }
+
+        public KafkaEventPublisher build() {
+            KafkaProducer<String, ApplicationLifecycleEvent> producer = new KafkaProducer<>(producerProperties(),
+                    new StringSerializer(), new LifecycleEventSerializer(serializationListener));
+            return new KafkaEventPublisher(producer, topic, partitionKey, closeTimeout);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.tbw.security.securityevents.kafka;
+
+import java.io.IOException;
+
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+
+/**
+ * Kafka deserializer for records written by {@link LifecycleEventSerializer}.
+ */
+public class LifecycleEventDeserializer implements Deserializer<ApplicationLifecycleEvent> {
+
+    private final BinaryMessageDecoder<ApplicationLifecycleEvent> decoder = ApplicationLifecycleEvent.getDecoder();
+
+    @Override
+    public ApplicationLifecycleEvent deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return decoder.decode(data);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to deserialize event from topic " + topic, e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.tbw.security.securityevents.kafka;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.publisher.SerializationListener;
+
+/**
+ * Kafka serializer writing Avro single-object encoding (marker, 8-byte schema fingerprint,
+ * binary datum), so consumers can resolve the writer schema of every record.
+ * <p>
+ * The size reported to the {@link SerializationListener} is the encoded record value, before
+ * the producer compresses its batch.
+ */
+public class LifecycleEventSerializer implements Serializer<ApplicationLifecycleEvent> {
+
+    private final BinaryMessageEncoder<ApplicationLifecycleEvent> encoder = ApplicationLifecycleEvent.getEncoder();
+    private final SerializationListener serializationListener;
+
+    /** Used when Kafka instantiates the serializer from {@code value.serializer}. */
+    public LifecycleEventSerializer() {
+        this(SerializationListener.NOOP);
+    }
+
+    public LifecycleEventSerializer(SerializationListener serializationListener) {
+        this.serializationListener = Objects.requireNonNull(serializationListener, "serializationListener");
+    }
+
+    @Override
+    public byte[] serialize(String topic, ApplicationLifecycleEvent event) {
+        if (event == null) {
+            return null;
+        }
+        try {
+            long start = System.nanoTime();
+            ByteBuffer buffer = encoder.encode(event);
+            byte[] bytes;
+            if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0
+                    && buffer.remaining() == buffer.array().length) {
+                bytes = buffer.array();
+            } else {
+                bytes = new byte[buffer.remaining()];
+                buffer.get(bytes);
+            }
+            serializationListener.serialized(event, System.nanoTime() - start, bytes.length);
+            return bytes;
+        } catch (IOException e) {
+            throw new SerializationException("Failed to serialize event for topic " + topic, e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.tbw.security.securityevents.kafka;
+
+import com.tbw.security.securityevents.EventHeader;
+
+/**
+ * Header field used as the Kafka record key, which decides partition placement and therefore
+ * ordering.
+ */
+public enum PartitionKey {
+    /** All events from one host land on the same partition. */
+    SOURCE_HOST,
+    /** Related events land on the same partition; falls back to the source host when absent. */
+    CORRELATION_ID;
+
+    String keyOf(EventHeader header) {
+        if (this == CORRELATION_ID && header.getCorrelationId() != null) {
+            return header.getCorrelationId();
+        }
+        return header.getSourceHost();
+    }
+}
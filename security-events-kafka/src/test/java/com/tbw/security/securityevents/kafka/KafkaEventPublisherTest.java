@@ -0,0 +1,128 @@
+package com.tbw.security.securityevents.kafka;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.ApplicationShutdown;
+import com.tbw.security.securityevents.Environment;
+import com.tbw.security.securityevents.EventHeader;
+import com.tbw.security.securityevents.Severity;
+import com.tbw.security.securityevents.ShutdownReason;
+
+class KafkaEventPublisherTest {
+
+    private static ApplicationLifecycleEvent event(String host, String correlationId) {
+        return ApplicationLifecycleEvent.newBuilder()
+            .setHeader(EventHeader.newBuilder()
+                .setEventId("evt-1")
+                .setTimestamp(Instant.ofEpochMilli(1_700_000_000_000L))
+                .setCorrelationId(correlationId)
+                .setApplicationName("security-app")
+                .setApplicationVersion("2.0.0")
+                .setEnvironment(Environment.TESTING)
+                .setSourceHost(host)
+                .setSeverity(Severity.INFO)
+                .build())
+            .setBody(ApplicationShutdown.newBuilder()
+                .setShutdownReason(ShutdownReason.GRACEFUL)
+                .setUptimeSeconds(60L)
+                .setExitCode(0)
+                .build())
+            .build();
+    }
+
+    private static MockProducer<String, ApplicationLifecycleEvent> mockProducer(boolean autoComplete) {
+        return new MockProducer<>(autoComplete, new StringSerializer(), new LifecycleEventSerializer());
+    }
+
+    @Test
+    void testRecordsAreKeyedBySourceHost() throws Exception {
+        MockProducer<String, ApplicationLifecycleEvent> producer = mockProducer(true);
+        try (KafkaEventPublisher publisher = new KafkaEventPublisher(producer, "events", PartitionKey.SOURCE_HOST)) {
+            publisher.publishAll(List.of(event("host-a", "corr-1"), event("host-b", null)));
+            assertEquals(2, publisher.getAcknowledgedCount());
+        }
+
+        List<ProducerRecord<String, ApplicationLifecycleEvent>> records = producer.history();
+        assertEquals(2, records.size());
+        assertEquals("events", records.get(0).topic());
+        assertEquals("host-a", records.get(0).key());
+        assertEquals("host-b", records.get(1).key());
+    }
+
+    @Test
+    void testCorrelationIdKeyFallsBackToSourceHost() {
+        MockProducer<String, ApplicationLifecycleEvent> producer = mockProducer(true);
+        KafkaEventPublisher publisher = new KafkaEventPublisher(producer, "events", PartitionKey.CORRELATION_ID);
+        publisher.publish(event("host-a", "corr-1"));
+        publisher.publish(event("host-b", null));
+
+        assertEquals("corr-1", producer.history().get(0).key());
+        assertEquals("host-b", producer.history().get(1).key());
+    }
+
+    @Test
+    void testFailedSendsAreCounted() {
+        MockProducer<String, ApplicationLifecycleEvent> producer = mockProducer(false);
+        KafkaEventPublisher publisher = new KafkaEventPublisher(producer, "events", PartitionKey.SOURCE_HOST);
+        publisher.publish(event("host-a", null));
+        publisher.publish(event("host-a", null));
+        producer.completeNext();
+        producer.errorNext(new RuntimeException("broker unavailable"));
+
+        assertEquals(2, publisher.getSentCount());
+        assertEquals(1, publisher.getAcknowledgedCount());
+        assertEquals(1, publisher.getFailedCount());
+    }
+
+    @Test
+    void testSerializerRoundTrip() {
+        ApplicationLifecycleEvent event = event("host-a", "corr-1");
+        byte[] data = new LifecycleEventSerializer().serialize("events", event);
+        assertEquals(event, new LifecycleEventDeserializer().deserialize("events", data));
+    }
+
+    @Test
+    void testSerializerReportsPayloadSize() {
+        ApplicationLifecycleEvent event = event("host-a", "corr-1");
+        int[] reported = new int[1];
+        byte[] data = new LifecycleEventSerializer((serialized, durationNanos, payloadBytes) -> reported[0] = payloadBytes)
+            .serialize("events", event);
+        assertEquals(data.length, reported[0]);
+    }
+
+    @Test
+    void testBuilderProducerProperties() {
+        Properties properties = KafkaEventPublisher.newBuilder()
+            .setLingerMs(20)
+            .setBatchSize(256 * 1024)
+            .setCompressionType("ZSTD")
+            .setIdempotence(true)
+            .setProperty(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5)
+            .producerProperties();
+
+        assertEquals(KafkaEventPublisher.DEFAULT_BOOTSTRAP_SERVERS, properties.get(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG));
+        assertEquals(20, properties.get(ProducerConfig.LINGER_MS_CONFIG));
+        assertEquals(256 * 1024, properties.get(ProducerConfig.BATCH_SIZE_CONFIG));
+        assertEquals("zstd", properties.get(ProducerConfig.COMPRESSION_TYPE_CONFIG));
+        assertEquals(true, properties.get(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG));
+        assertEquals("all", properties.get(ProducerConfig.ACKS_CONFIG));
+        assertEquals(5, properties.get(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION));
+    }
+
+    @Test
+    void testUnknownCompressionTypeIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+            () -> KafkaEventPublisher.newBuilder().setCompressionType("brotli"));
+    }
+}
@@ -0,0 +1,102 @@
+package com.tbw.security.securityevents.registry;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificDatumWriter;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+
+/**
+ * Encodes {@link ApplicationLifecycleEvent}s with Confluent-style schema ID framing: a zero
+ * magic byte, the 4-byte big-endian registry ID of the writer schema, then the binary datum.
+ * That is 3 bytes less per message than Avro single-object encoding and no schema is embedded.
+ * <p>
+ * Writer schema IDs and schemas come from a {@link SchemaRegistryClient}, whose caches keep the
+ * hot path free of network calls. Decoding keeps one datum reader per writer schema ID, so each
+ * writer version is resolved against the compiled schema once.
+ * <p>
+ * Instances are NOT thread-safe; use one per thread.
+ */
+public class SchemaIdEventCodec {
+
+    public static final byte MAGIC_BYTE = 0;
+    public static final int HEADER_LENGTH = 5;
+
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+    private static final int INITIAL_BUFFER_SIZE = 512;
+
+    private final SchemaRegistryClient client;
+    private final String subject;
+    private final Schema readerSchema = ApplicationLifecycleEvent.getClassSchema();
+    private final SpecificDatumWriter<ApplicationLifecycleEvent> datumWriter =
+            new SpecificDatumWriter<>(ApplicationLifecycleEvent.class);
+    private final Map<Integer, SpecificDatumReader<ApplicationLifecycleEvent>> readers = new HashMap<>();
+    private ByteArrayOutputStream outputStream = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+    private BinaryEncoder encoder;
+    private BinaryDecoder decoder;
+
+    public SchemaIdEventCodec(SchemaRegistryClient client) {
+        this(client, SchemaRegistry.LIFECYCLE_EVENT_SUBJECT);
+    }
+
+    /**
+     * @param subject the subject the compiled schema is registered under when serializing
+     */
+    public SchemaIdEventCodec(SchemaRegistryClient client, String subject) {
+        this.client = Objects.requireNonNull(client, "client");
+        this.subject = Objects.requireNonNull(subject, "subject");
+    }
+
+    public byte[] serialize(ApplicationLifecycleEvent event) throws IOException {
+        int id = client.getOrRegisterId(subject, readerSchema);
+        if (outputStream.size() > MAX_RETAINED_BUFFER_SIZE) {
+            outputStream = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        } else {
+            outputStream.reset();
+        }
+        outputStream.write(MAGIC_BYTE);
+        outputStream.write(id >>> 24);
+        outputStream.write(id >>> 16);
+        outputStream.write(id >>> 8);
+        outputStream.write(id);
+        encoder = EncoderFactory.get().binaryEncoder(outputStream, encoder);
+        try {
+            datumWriter.write(event, encoder);
+            encoder.flush();
+        } catch (IOException | RuntimeException e) {
+            // The buffered encoder still holds the partial datum; reusing it would write those
+            // bytes after the next message's header
+            encoder = null;
+            throw e;
+        }
+        return outputStream.toByteArray();
+    }
+
+    public ApplicationLifecycleEvent deserialize(byte[] data, ApplicationLifecycleEvent reuse) throws IOException {
+        if (data.length < HEADER_LENGTH || data[0] != MAGIC_BYTE) {
+            throw new IOException("Not a schema ID framed message");
+        }
+        int id = (data[1] & 0xFF) << 24 | (data[2] & 0xFF) << 16 | (data[3] & 0xFF) << 8 | (data[4] & 0xFF);
+        decoder = DecoderFactory.get().binaryDecoder(data, HEADER_LENGTH, data.length - HEADER_LENGTH, decoder);
+        return readerFor(id).read(reuse, decoder);
+    }
+
+    private SpecificDatumReader<ApplicationLifecycleEvent> readerFor(int id) throws IOException {
+        SpecificDatumReader<ApplicationLifecycleEvent> reader = readers.get(id);
+        if (reader == null) {
+            reader = new SpecificDatumReader<>(client.getSchemaById(id), readerSchema);
+            readers.put(id, reader);
+        }
+        return reader;
+    }
+}
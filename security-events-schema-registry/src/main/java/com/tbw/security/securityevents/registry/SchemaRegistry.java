@@ -0,0 +1,101 @@
+package com.tbw.security.securityevents.registry;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+
+/**
+ * In-memory store behind {@link SchemaRegistryServer}. Every distinct schema gets a global
+ * integer ID, and each subject keeps an ordered list of versions. Schemas are compared by their
+ * Avro parsing canonical form, so re-registering an equivalent schema returns the existing ID.
+ */
+public class SchemaRegistry {
+
+    /** Subject of the lifecycle event schema, following the {@code <topic>-value} convention. */
+    public static final String LIFECYCLE_EVENT_SUBJECT = "application-lifecycle-events-value";
+
+    private final Map<Integer, Schema> schemasById = new HashMap<>();
+    private final Map<String, Integer> idsByCanonicalForm = new HashMap<>();
+    private final Map<String, List<Integer>> versionsBySubject = new HashMap<>();
+    private int nextId = 1;
+
+    /**
+     * Creates a registry holding the compiled {@link ApplicationLifecycleEvent} schema as
+     * version 1 of {@link #LIFECYCLE_EVENT_SUBJECT}.
+     */
+    public static SchemaRegistry withLifecycleEventSchema() {
+        SchemaRegistry registry = new SchemaRegistry();
+        registry.register(LIFECYCLE_EVENT_SUBJECT, ApplicationLifecycleEvent.getClassSchema());
+        return registry;
+    }
+
+    /**
+     * Registers every {@code *.avsc} file in {@code directory} under {@code subject}, in file name
+     * order, e.g. {@code application_lifecycle_event-v1.avsc}, {@code ...-v2.avsc}.
+     */
+    public void registerAll(String subject, Path directory) throws IOException {
+        List<Path> schemaFiles;
+        try (Stream<Path> files = Files.list(directory)) {
+            schemaFiles = files.filter(file -> file.getFileName().toString().endsWith(".avsc")).sorted().toList();
+        }
+        for (Path file : schemaFiles) {
+            register(subject, new Schema.Parser().parse(file.toFile()));
+        }
+    }
+
+    /**
+     * Adds {@code schema} as the next version of {@code subject} unless it already is one.
+     *
+     * @return the schema's ID
+     */
+    public synchronized int register(String subject, Schema schema) {
+        String canonicalForm = SchemaNormalization.toParsingForm(schema);
+        Integer id = idsByCanonicalForm.get(canonicalForm);
+        if (id == null) {
+            id = nextId++;
+            idsByCanonicalForm.put(canonicalForm, id);
+            schemasById.put(id, schema);
+        }
+        List<Integer> versions = versionsBySubject.computeIfAbsent(subject, ignored -> new ArrayList<>());
+        if (!versions.contains(id)) {
+            versions.add(id);
+        }
+        return id;
+    }
+
+    /** @return the schema, or {@code null} if the ID is unknown */
+    public synchronized Schema getSchema(int id) {
+        return schemasById.get(id);
+    }
+
+    /** @return the subject's schema IDs, oldest version first; empty if the subject is unknown */
+    public synchronized List<Integer> getVersions(String subject) {
+        return List.copyOf(versionsBySubject.getOrDefault(subject, List.of()));
+    }
+
+    public synchronized List<String> getSubjects() {
+        return versionsBySubject.keySet().stream().sorted().toList();
+    }
+
+    /**
+     * @return the 1-based version of {@code schema} within {@code subject}, or {@code 0} if it is
+     *         not registered there
+     */
+    public synchronized int findVersion(String subject, Schema schema) {
+        Integer id = idsByCanonicalForm.get(SchemaNormalization.toParsingForm(schema));
+        if (id == null) {
+            return 0;
+        }
+        return versionsBySubject.getOrDefault(subject, List.of()).indexOf(id) + 1;
+    }
+}
@@ -0,0 +1,182 @@
+package com.tbw.security.securityevents.registry;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * HTTP client for {@link SchemaRegistryServer} (or a Confluent-compatible registry) that caches
+ * ID to schema and schema to ID lookups for a configurable time to live. Once warm, serializing
+ * and deserializing make no network round trips until entries expire.
+ * <p>
+ * When refreshing an expired entry fails, the stale value keeps being served and the failure is
+ * logged, so a registry outage does not stop producers and consumers that are already running.
+ * The stale entry is then kept without retrying for a backoff that doubles with each failed
+ * refresh, from one second up to a minute, so an outage does not cost a blocking request on
+ * every call.
+ * Instances are thread-safe.
+ */
+public class SchemaRegistryClient {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SchemaRegistryClient.class);
+
+    private static final long MIN_RETRY_BACKOFF_NANOS = Duration.ofSeconds(1).toNanos();
+    private static final long MAX_RETRY_BACKOFF_NANOS = Duration.ofMinutes(1).toNanos();
+
+    private final URI baseUri;
+    private final long ttlNanos;
+    private final Duration requestTimeout;
+    private final HttpClient httpClient;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final Map<Integer, Cached<Schema>> schemasById = new ConcurrentHashMap<>();
+    private final Map<String, Map<Long, Cached<Integer>>> idsBySubject = new ConcurrentHashMap<>();
+    private final Map<Schema, Long> fingerprints = new ConcurrentHashMap<>();
+    private final LongAdder requestCount = new LongAdder();
+
+    public SchemaRegistryClient(URI baseUri) {
+        this(baseUri, Duration.ofMinutes(5), Duration.ofSeconds(5));
+    }
+
+    /**
+     * @param ttl            how long looked-up IDs and schemas are served from the cache
+     * @param requestTimeout timeout of each registry request
+     */
+    public SchemaRegistryClient(URI baseUri, Duration ttl, Duration requestTimeout) {
+        this.baseUri = directory(Objects.requireNonNull(baseUri, "baseUri"));
+        this.ttlNanos = ttl.toNanos();
+        this.requestTimeout = Objects.requireNonNull(requestTimeout, "requestTimeout");
+        this.httpClient = HttpClient.newBuilder().connectTimeout(requestTimeout).build();
+    }
+
+    /**
+     * Returns the ID of {@code schema} under {@code subject}, registering it if the registry does
+     * not know it yet.
+     */
+    public int getOrRegisterId(String subject, Schema schema) throws IOException {
+        Map<Long, Cached<Integer>> ids = idsBySubject.computeIfAbsent(subject, ignored -> new ConcurrentHashMap<>());
+        long fingerprint = fingerprints.computeIfAbsent(schema, SchemaNormalization::parsingFingerprint64);
+        Cached<Integer> cached = ids.get(fingerprint);
+        if (cached != null && cached.isFresh()) {
+            return cached.value();
+        }
+        try {
+            JsonNode response = send("POST", "subjects/" + encode(subject) + "/versions",
+                    mapper.writeValueAsString(Map.of("schema", schema.toString())));
+            int id = response.get("id").asInt();
+            ids.put(fingerprint, new Cached<>(id, System.nanoTime() + ttlNanos, 0));
+            schemasById.putIfAbsent(id, new Cached<>(schema, System.nanoTime() + ttlNanos, 0));
+            return id;
+        } catch (IOException e) {
+            Cached<Integer> retained = stale(cached, e, "schema ID for subject " + subject);
+            ids.put(fingerprint, retained);
+            return retained.value();
+        }
+    }
+
+    /**
+     * Returns the schema with {@code id}. The same instance is returned for as long as the entry
+     * is cached, which lets Avro reuse its resolved grammar for that writer schema.
+     */
+    public Schema getSchemaById(int id) throws IOException {
+        Cached<Schema> cached = schemasById.get(id);
+        if (cached != null && cached.isFresh()) {
+            return cached.value();
+        }
+        try {
+            JsonNode response = send("GET", "schemas/ids/" + id, null);
+            Schema schema = new Schema.Parser().parse(response.get("schema").asText());
+            if (cached != null && cached.value().equals(schema)) {
+                schema = cached.value();
+            }
+            schemasById.put(id, new Cached<>(schema, System.nanoTime() + ttlNanos, 0));
+            return schema;
+        } catch (IOException e) {
+            Cached<Schema> retained = stale(cached, e, "schema " + id);
+            schemasById.put(id, retained);
+            return retained.value();
+        }
+    }
+
+    /**
+     * Returns {@code cached} with its expiry pushed out by the retry backoff, or rethrows
+     * {@code e} if there is nothing cached.
+     */
+    private static <T> Cached<T> stale(Cached<T> cached, IOException e, String what) throws IOException {
+        if (cached == null) {
+            throw e;
+        }
+        int failures = cached.failures() + 1;
+        long backoffNanos = Math.min(MAX_RETRY_BACKOFF_NANOS, MIN_RETRY_BACKOFF_NANOS << Math.min(failures - 1, 16));
+        LOGGER.warn("Failed to refresh {}, serving cached value for the next {} ms", what,
+                TimeUnit.NANOSECONDS.toMillis(backoffNanos), e);
+        return new Cached<>(cached.value(), System.nanoTime() + backoffNanos, failures);
+    }
+
+    /** {@code uri} with a trailing slash, so relative paths resolve below its path. */
+    static URI directory(URI uri) {
+        String path = uri.getRawPath();
+        if (path != null && path.endsWith("/")) {
+            return uri;
+        }
+        return URI.create(uri.getScheme() + "://" + uri.getRawAuthority() + (path == null ? "" : path) + "/");
+    }
+
+    /** Number of requests sent to the registry so far. */
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    private JsonNode send(String method, String path, String body) throws IOException {
+        requestCount.increment();
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(requestTimeout)
+                .header("Content-Type", SchemaRegistryServer.CONTENT_TYPE)
+                .header("Accept", SchemaRegistryServer.CONTENT_TYPE)
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+                .build();
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while calling schema registry", e);
+        }
+        if (response.statusCode() != 200) {
+            throw new SchemaRegistryException(response.statusCode(), method + " " + path + ": " + response.body());
+        }
+        return mapper.readTree(response.body());
+    }
+
+    private static String encode(String subject) {
+        return URLEncoder.encode(subject, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param failures consecutive failed refreshes, which set the retry backoff
+     */
+    private record Cached<T>(T value, long expiresAtNanos, int failures) {
+        boolean isFresh() {
+            return System.nanoTime() - expiresAtNanos < 0;
+        }
+    }
+}
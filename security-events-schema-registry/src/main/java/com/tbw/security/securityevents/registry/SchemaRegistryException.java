@@ -0,0 +1,20 @@
+package com.tbw.security.securityevents.registry;
+
+import java.io.IOException;
+
+/**
+ * The schema registry answered with an error status.
+ */
+public class SchemaRegistryException extends IOException {
+
+    private final int statusCode;
+
+    public SchemaRegistryException(int statusCode, String message) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+}
@@ -0,0 +1,250 @@
+package com.tbw.security.securityevents.registry;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaParseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Serves a {@link SchemaRegistry} over HTTP using the JDK's built-in server. The endpoints are
+ * the subset of the Confluent Schema Registry API that serializers and deserializers need:
+ * <ul>
+ * <li>{@code GET /schemas/ids/{id}}</li>
+ * <li>{@code GET /subjects}</li>
+ * <li>{@code GET /subjects/{subject}/versions}</li>
+ * <li>{@code GET /subjects/{subject}/versions/{version|latest}}</li>
+ * <li>{@code POST /subjects/{subject}/versions} to register a schema</li>
+ * <li>{@code POST /subjects/{subject}} to look up a schema's ID and version</li>
+ * </ul>
+ * Start it on port 0 to run it embedded in tests.
+ * <p>
+ * Registration is unauthenticated, so the server listens on the loopback interface unless
+ * another bind address is passed explicitly.
+ */
+public class SchemaRegistryServer implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SchemaRegistryServer.class);
+
+    static final String CONTENT_TYPE = "application/vnd.schemaregistry.v1+json";
+
+    private static final Pattern SCHEMA_BY_ID = Pattern.compile("/schemas/ids/(\\d+)");
+    private static final Pattern SUBJECTS = Pattern.compile("/subjects/?");
+    private static final Pattern SUBJECT = Pattern.compile("/subjects/([^/]+)");
+    private static final Pattern VERSIONS = Pattern.compile("/subjects/([^/]+)/versions/?");
+    private static final Pattern VERSION = Pattern.compile("/subjects/([^/]+)/versions/(\\d+|latest)");
+
+    private final SchemaRegistry registry;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private SchemaRegistryServer(SchemaRegistry registry, InetAddress address, int port) throws IOException {
+        this.registry = Objects.requireNonNull(registry, "registry");
+        this.server = HttpServer.create(new InetSocketAddress(Objects.requireNonNull(address, "address"), port), 0);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+        this.server.start();
+    }
+
+    /**
+     * Starts a server on the loopback interface at {@code port}; {@code 0} picks a free port.
+     */
+    public static SchemaRegistryServer start(SchemaRegistry registry, int port) throws IOException {
+        return start(registry, InetAddress.getLoopbackAddress(), port);
+    }
+
+    /**
+     * Starts a server on {@code address} at {@code port}. Binding anything but the loopback
+     * address lets every host that can reach it register schemas.
+     */
+    public static SchemaRegistryServer start(SchemaRegistry registry, InetAddress address, int port)
+            throws IOException {
+        return new SchemaRegistryServer(registry, address, port);
+    }
+
+    /**
+     * Runs a standalone registry. Arguments: {@code [port] [schema directory] [bind address]};
+     * the directory's {@code .avsc} files are registered as further versions of the lifecycle
+     * event subject, and pass {@code -} to skip it. The bind address defaults to loopback; use
+     * {@code 0.0.0.0} to listen on every interface.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8081;
+        SchemaRegistry registry = SchemaRegistry.withLifecycleEventSchema();
+        if (args.length > 1 && !args[1].equals("-")) {
+            registry.registerAll(SchemaRegistry.LIFECYCLE_EVENT_SUBJECT, Path.of(args[1]));
+        }
+        InetAddress address = args.length > 2 ? InetAddress.getByName(args[2]) : InetAddress.getLoopbackAddress();
+        SchemaRegistryServer server = start(registry, address, port);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        LOGGER.info("Schema registry listening on {}", server.getUri());
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public URI getUri() {
+        InetAddress address = server.getAddress().getAddress();
+        String host = address.isAnyLocalAddress() ? "localhost" : address.getHostAddress();
+        if (host.indexOf(':') >= 0) {
+            host = "[" + host + "]";
+        }
+        return URI.create("http://" + host + ":" + getPort());
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            // Handled inside the resource block, so the error response goes out before the close
+            try {
+                route(exchange);
+            } catch (RuntimeException e) {
+                LOGGER.error("Failed to handle {} {}", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+                error(exchange, 500, 50001, "Error in the backend data store");
+            }
+        }
+    }
+
+    private void route(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String method = exchange.getRequestMethod();
+        Matcher matcher;
+        if ((matcher = SCHEMA_BY_ID.matcher(path)).matches() && method.equals("GET")) {
+            getSchemaById(exchange, matcher.group(1));
+        } else if (SUBJECTS.matcher(path).matches() && method.equals("GET")) {
+            respond(exchange, 200, registry.getSubjects());
+        } else if ((matcher = VERSIONS.matcher(path)).matches() && method.equals("GET")) {
+            getVersions(exchange, matcher.group(1));
+        } else if ((matcher = VERSIONS.matcher(path)).matches() && method.equals("POST")) {
+            register(exchange, matcher.group(1));
+        } else if ((matcher = VERSION.matcher(path)).matches() && method.equals("GET")) {
+            getVersion(exchange, matcher.group(1), matcher.group(2));
+        } else if ((matcher = SUBJECT.matcher(path)).matches() && method.equals("POST")) {
+            lookUp(exchange, matcher.group(1));
+        } else {
+            error(exchange, 404, 404, "HTTP 404 Not Found");
+        }
+    }
+
+    /** Parses a path segment matched by {@code \d+}, or returns -1 if it overflows an int. */
+    private static int parseNumber(String digits) {
+        try {
+            return Integer.parseInt(digits);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void getSchemaById(HttpExchange exchange, String idSegment) throws IOException {
+        int id = parseNumber(idSegment);
+        Schema schema = id < 0 ? null : registry.getSchema(id);
+        if (schema == null) {
+            error(exchange, 404, 40403, "Schema " + idSegment + " not found");
+        } else {
+            respond(exchange, 200, Map.of("schema", schema.toString()));
+        }
+    }
+
+    private void getVersions(HttpExchange exchange, String subject) throws IOException {
+        List<Integer> ids = registry.getVersions(subject);
+        if (ids.isEmpty()) {
+            error(exchange, 404, 40401, "Subject '" + subject + "' not found");
+        } else {
+            respond(exchange, 200, IntStream.rangeClosed(1, ids.size()).boxed().toList());
+        }
+    }
+
+    private void getVersion(HttpExchange exchange, String subject, String version) throws IOException {
+        List<Integer> ids = registry.getVersions(subject);
+        if (ids.isEmpty()) {
+            error(exchange, 404, 40401, "Subject '" + subject + "' not found");
+            return;
+        }
+        int number = version.equals("latest") ? ids.size() : parseNumber(version);
+        if (number < 1 || number > ids.size()) {
+            error(exchange, 404, 40402, "Version " + version + " not found");
+            return;
+        }
+        respond(exchange, 200, describe(subject, number, ids.get(number - 1)));
+    }
+
+    private void register(HttpExchange exchange, String subject) throws IOException {
+        Schema schema = readSchema(exchange);
+        if (schema != null) {
+            respond(exchange, 200, Map.of("id", registry.register(subject, schema)));
+        }
+    }
+
+    private void lookUp(HttpExchange exchange, String subject) throws IOException {
+        Schema schema = readSchema(exchange);
+        if (schema == null) {
+            return;
+        }
+        int version = registry.findVersion(subject, schema);
+        if (version == 0) {
+            error(exchange, 404, 40403, "Schema not found");
+        } else {
+            respond(exchange, 200, describe(subject, version, registry.getVersions(subject).get(version - 1)));
+        }
+    }
+
+    private Map<String, Object> describe(String subject, int version, int id) {
+        return Map.of("subject", subject, "version", version, "id", id, "schema", registry.getSchema(id).toString());
+    }
+
+    /** Parses the {@code {"schema": "..."}} request body, or responds 422 and returns null. */
+    private Schema readSchema(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            JsonNode schema = mapper.readTree(body).get("schema");
+            if (schema == null || !schema.isTextual()) {
+                error(exchange, 422, 42201, "Request body must contain a schema string");
+                return null;
+            }
+            return new Schema.Parser().parse(schema.asText());
+        } catch (SchemaParseException | JsonProcessingException e) {
+            error(exchange, 422, 42201, "Invalid schema: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void error(HttpExchange exchange, int status, int errorCode, String message) throws IOException {
+        respond(exchange, status, Map.of("error_code", errorCode, "message", message));
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = mapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
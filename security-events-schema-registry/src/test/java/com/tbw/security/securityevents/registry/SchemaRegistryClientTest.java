@@ -0,0 +1,160 @@
+package com.tbw.security.securityevents.registry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import org.apache.avro.Schema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.ApplicationShutdown;
+import com.tbw.security.securityevents.Environment;
+import com.tbw.security.securityevents.EventHeader;
+import com.tbw.security.securityevents.Severity;
+import com.tbw.security.securityevents.ShutdownReason;
+
+class SchemaRegistryClientTest {
+
+    private SchemaRegistry registry;
+    private SchemaRegistryServer server;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        registry = SchemaRegistry.withLifecycleEventSchema();
+        server = SchemaRegistryServer.start(registry, 0);
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+    }
+
+    private static ApplicationLifecycleEvent event() {
+        return ApplicationLifecycleEvent.newBuilder()
+            .setHeader(EventHeader.newBuilder()
+                .setEventId("evt-1")
+                .setTimestamp(Instant.ofEpochMilli(1_700_000_000_000L))
+                .setApplicationName("security-app")
+                .setApplicationVersion("2.0.0")
+                .setEnvironment(Environment.TESTING)
+                .setSourceHost("app-server-01")
+                .setSeverity(Severity.INFO)
+                .build())
+            .setBody(ApplicationShutdown.newBuilder()
+                .setShutdownReason(ShutdownReason.GRACEFUL)
+                .setUptimeSeconds(60L)
+                .setExitCode(0)
+                .build())
+            .setTags(Map.of("region", "eu-west-1"))
+            .build();
+    }
+
+    @Test
+    void testRoundTripUsesSchemaIdFraming() throws Exception {
+        SchemaIdEventCodec codec = new SchemaIdEventCodec(new SchemaRegistryClient(server.getUri()));
+        ApplicationLifecycleEvent event = event();
+
+        byte[] message = codec.serialize(event);
+
+        assertEquals(SchemaIdEventCodec.MAGIC_BYTE, message[0]);
+        assertEquals(1, message[4]);
+        assertEquals(event, codec.deserialize(message, null));
+    }
+
+    @Test
+    void testFailedSerializeDoesNotCorruptNextMessage() throws Exception {
+        SchemaIdEventCodec codec = new SchemaIdEventCodec(new SchemaRegistryClient(server.getUri()));
+        byte[] expected = codec.serialize(event());
+        ApplicationLifecycleEvent invalid = event();
+        invalid.setTags(null);
+
+        assertThrows(NullPointerException.class, () -> codec.serialize(invalid));
+
+        byte[] actual = codec.serialize(event());
+        assertArrayEquals(expected, actual);
+        assertEquals(event(), codec.deserialize(actual, null));
+    }
+
+    @Test
+    void testCachedLookupsSurviveRegistryOutage() throws Exception {
+        SchemaRegistryClient client = new SchemaRegistryClient(server.getUri(), Duration.ofMinutes(5), Duration.ofSeconds(1));
+        SchemaIdEventCodec codec = new SchemaIdEventCodec(client);
+        byte[] message = codec.serialize(event());
+        Schema schema = client.getSchemaById(1);
+
+        server.close();
+
+        assertArrayEquals(message, codec.serialize(event()));
+        assertSame(schema, client.getSchemaById(1));
+        assertEquals(event(), new SchemaIdEventCodec(client).deserialize(message, null));
+    }
+
+    @Test
+    void testExpiredEntriesAreServedStaleWhenRegistryIsDown() throws Exception {
+        SchemaRegistryClient client = new SchemaRegistryClient(server.getUri(), Duration.ZERO, Duration.ofSeconds(1));
+        Schema schema = client.getSchemaById(1);
+
+        server.close();
+
+        assertSame(schema, client.getSchemaById(1));
+    }
+
+    @Test
+    void testFailedRefreshBacksOffBeforeRetrying() throws Exception {
+        SchemaRegistryClient client = new SchemaRegistryClient(server.getUri(), Duration.ZERO, Duration.ofSeconds(1));
+        Schema schema = client.getSchemaById(1);
+
+        server.close();
+
+        assertSame(schema, client.getSchemaById(1));
+        assertSame(schema, client.getSchemaById(1));
+        assertEquals(2, client.getRequestCount());
+    }
+
+    @Test
+    void testBasePathIsKept() {
+        assertEquals(URI.create("http://registry:8081/api/schemas/ids/1"),
+            SchemaRegistryClient.directory(URI.create("http://registry:8081/api")).resolve("schemas/ids/1"));
+        assertEquals(URI.create("http://registry:8081/schemas/ids/1"),
+            SchemaRegistryClient.directory(URI.create("http://registry:8081")).resolve("schemas/ids/1"));
+    }
+
+    @Test
+    void testListensOnLoopbackByDefault() throws Exception {
+        assertTrue(InetAddress.getByName(server.getUri().getHost()).isLoopbackAddress(), server.getUri().toString());
+    }
+
+    @Test
+    void testOverflowingIdIsNotFound() throws Exception {
+        HttpResponse<String> response = HttpClient.newHttpClient().send(
+            HttpRequest.newBuilder(server.getUri().resolve("/schemas/ids/99999999999")).build(),
+            HttpResponse.BodyHandlers.ofString());
+        assertEquals(404, response.statusCode());
+    }
+
+    @Test
+    void testUnknownIdIsReported() {
+        SchemaRegistryClient client = new SchemaRegistryClient(server.getUri());
+        SchemaRegistryException e = assertThrows(SchemaRegistryException.class, () -> client.getSchemaById(99));
+        assertEquals(404, e.getStatusCode());
+    }
+
+    @Test
+    void testReRegisteringEquivalentSchemaKeepsId() throws Exception {
+        SchemaRegistryClient client = new SchemaRegistryClient(server.getUri());
+        Schema reparsed = new Schema.Parser().parse(ApplicationLifecycleEvent.getClassSchema().toString(true));
+
+        assertEquals(1, client.getOrRegisterId(SchemaRegistry.LIFECYCLE_EVENT_SUBJECT, reparsed));
+        assertEquals(1, registry.getVersions(SchemaRegistry.LIFECYCLE_EVENT_SUBJECT).size());
+    }
+}
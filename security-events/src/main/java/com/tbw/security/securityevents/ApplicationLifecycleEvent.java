@@ -15,10 +15,10 @@ import org.apache.avro.message.SchemaStore;
 /** Schema for auditing application lifecycle events with comprehensive tracking */
 @org.apache.avro.specific.AvroGenerated
 public class ApplicationLifecycleEvent extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
-  private static final long serialVersionUID = -2477614882392310911L;
+  private static final long serialVersionUID = -3610526547263449386L;
 
 
-  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"ApplicationLifecycleEvent\",\"namespace\":\"com.tbw.security.securityevents\",\"doc\":\"Schema for auditing application lifecycle events with comprehensive tracking\",\"fields\":[{\"name\":\"header\",\"type\":{\"type\":\"record\",\"name\":\"EventHeader\",\"doc\":\"Standard header information for all lifecycle events\",\"fields\":[{\"name\":\"event_id\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Unique identifier for this event (UUID recommended)\"},{\"name\":\"event_version\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Schema version for this event format\",\"default\":\"1.0\"},{\"name\":\"timestamp\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"},\"doc\":\"When the event occurred (milliseconds since epoch)\"},{\"name\":\"correlation_id\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"ID to correlate related events across services\",\"default\":null},{\"name\":\"trace_id\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Distributed tracing ID for request tracking\",\"default\":null},{\"name\":\"application_name\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Name of the application generating the event\"},{\"name\":\"application_version\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Version of the application (e.g., 1.2.3)\"},{\"name\":\"environment\",\"type\":{\"type\":\"enum\",\"name\":\"Environment\",\"symbols\":[\"DEVELOPMENT\",\"TESTING\",\"STAGING\",\"PRODUCTION\"],\"default\":\"DEVELOPMENT\"},\"doc\":\"Environment where the event occurred\"},{\"name\":\"source_host\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Hostname or IP of the machine generating the event\"},{\"name\":\"source_instance_id\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Instance/container ID if running in containerized environment\",\"default\":null},{\"name\":\"user_id\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"ID of user who triggered the event, if applicable\",\"default\":null},{\"name\":\"session_id\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Session ID associated with the event, if applicable\",\"default\":null},{\"name\":\"severity\",\"type\":{\"type\":\"enum\",\"name\":\"Severity\",\"symbols\":[\"DEBUG\",\"INFO\",\"WARN\",\"ERROR\",\"CRITICAL\"],\"default\":\"INFO\"},\"doc\":\"Severity level of the lifecycle event\"}]}},{\"name\":\"body\",\"type\":[{\"type\":\"record\",\"name\":\"ApplicationStartup\",\"doc\":\"Event fired when application starts up\",\"fields\":[{\"name\":\"startup_time_ms\",\"type\":\"long\",\"doc\":\"Time taken to start up in milliseconds\"},{\"name\":\"jvm_version\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"JVM version if applicable\",\"default\":null},{\"name\":\"memory_allocated_mb\",\"type\":[\"null\",\"long\"],\"doc\":\"Initial memory allocation in MB\",\"default\":null},{\"name\":\"configuration_profile\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Active configuration profile (e.g., 'prod', 'dev')\",\"default\":null},{\"name\":\"enabled_features\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"string\",\"avro.java.string\":\"String\"}},\"doc\":\"List of enabled feature flags or modules\",\"default\":[]}]},{\"type\":\"record\",\"name\":\"ApplicationShutdown\",\"doc\":\"Event fired when application shuts down\",\"fields\":[{\"name\":\"shutdown_reason\",\"type\":{\"type\":\"enum\",\"name\":\"ShutdownReason\",\"symbols\":[\"GRACEFUL\",\"FORCED\",\"ERROR\",\"SIGNAL\",\"OUT_OF_MEMORY\",\"EXTERNAL_REQUEST\"],\"default\":\"GRACEFUL\"},\"doc\":\"Reason for application shutdown\"},{\"name\":\"uptime_seconds\",\"type\":\"long\",\"doc\":\"Total application uptime in seconds\"},{\"name\":\"final_memory_usage_mb\",\"type\":[\"null\",\"long\"],\"doc\":\"Memory usage at shutdown in MB\",\"default\":null},{\"name\":\"cleanup_time_ms\",\"type\":[\"null\",\"long\"],\"doc\":\"Time spent on cleanup operations in milliseconds\",\"default\":null},{\"name\":\"exit_code\",\"type\":\"int\",\"doc\":\"Application exit code\",\"default\":0}]},{\"type\":\"record\",\"name\":\"ConfigurationChange\",\"doc\":\"Event fired when configuration changes\",\"fields\":[{\"name\":\"config_key\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Configuration key that changed\"},{\"name\":\"old_value\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Previous configuration value (null if newly added)\",\"default\":null},{\"name\":\"new_value\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"New configuration value (null if deleted)\",\"default\":null},{\"name\":\"change_source\",\"type\":{\"type\":\"enum\",\"name\":\"ConfigSource\",\"symbols\":[\"FILE\",\"ENVIRONMENT\",\"DATABASE\",\"REMOTE_CONFIG\",\"ADMIN_INTERFACE\",\"API\"],\"default\":\"FILE\"},\"doc\":\"Source of the configuration change\"},{\"name\":\"requires_restart\",\"type\":\"boolean\",\"doc\":\"Whether this change requires application restart\",\"default\":false}]},{\"type\":\"record\",\"name\":\"ServiceStatusChange\",\"doc\":\"Event fired when a service or component changes status\",\"fields\":[{\"name\":\"service_name\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Name of the service or component\"},{\"name\":\"previous_status\",\"type\":[\"null\",{\"type\":\"enum\",\"name\":\"ServiceStatus\",\"symbols\":[\"STARTING\",\"HEALTHY\",\"DEGRADED\",\"UNHEALTHY\",\"STOPPED\",\"UNKNOWN\"]}],\"doc\":\"Previous service status\",\"default\":null},{\"name\":\"current_status\",\"type\":\"ServiceStatus\",\"doc\":\"Current service status\"},{\"name\":\"status_details\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Additional details about the status change\",\"default\":null},{\"name\":\"health_check_url\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"URL used for health checking this service\",\"default\":null}]},{\"type\":\"record\",\"name\":\"DatabaseOperation\",\"doc\":\"Event fired for significant database operations\",\"fields\":[{\"name\":\"operation_type\",\"type\":{\"type\":\"enum\",\"name\":\"DatabaseOperationType\",\"symbols\":[\"MIGRATION\",\"BACKUP\",\"RESTORE\",\"INDEX_REBUILD\",\"MAINTENANCE\",\"CONNECTION_POOL_EVENT\"],\"default\":\"MIGRATION\"},\"doc\":\"Type of database operation\"},{\"name\":\"database_name\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Name of the database\"},{\"name\":\"operation_status\",\"type\":{\"type\":\"enum\",\"name\":\"OperationStatus\",\"symbols\":[\"STARTED\",\"IN_PROGRESS\",\"COMPLETED\",\"FAILED\",\"CANCELLED\"],\"default\":\"STARTED\"},\"doc\":\"Status of the operation\"},{\"name\":\"duration_ms\",\"type\":[\"null\",\"long\"],\"doc\":\"Operation duration in milliseconds (null if still running)\",\"default\":null},{\"name\":\"affected_tables\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"string\",\"avro.java.string\":\"String\"}},\"doc\":\"List of tables affected by the operation\",\"default\":[]},{\"name\":\"error_message\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Error message if operation failed\",\"default\":null}]},{\"type\":\"record\",\"name\":\"SecurityEvent\",\"doc\":\"Event fired for security-related lifecycle events\",\"fields\":[{\"name\":\"event_type\",\"type\":{\"type\":\"enum\",\"name\":\"SecurityEventType\",\"symbols\":[\"AUTHENTICATION_FAILURE\",\"AUTHORIZATION_FAILURE\",\"CERTIFICATE_EXPIRY_WARNING\",\"CERTIFICATE_RENEWED\",\"API_KEY_ROTATED\",\"SUSPICIOUS_ACTIVITY\",\"SECURITY_SCAN_COMPLETED\"]},\"doc\":\"Type of security event\"},{\"name\":\"resource\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Resource or endpoint involved in the security event\",\"default\":null},{\"name\":\"threat_level\",\"type\":{\"type\":\"enum\",\"name\":\"ThreatLevel\",\"symbols\":[\"LOW\",\"MEDIUM\",\"HIGH\",\"CRITICAL\"],\"default\":\"LOW\"},\"doc\":\"Assessed threat level of the event\"},{\"name\":\"client_ip\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"IP address of the client involved\",\"default\":null},{\"name\":\"user_agent\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"User agent string if applicable\",\"default\":null}]},{\"type\":\"record\",\"name\":\"PerformanceAlert\",\"doc\":\"Event fired when performance thresholds are breached\",\"fields\":[{\"name\":\"metric_name\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Name of the performance metric\"},{\"name\":\"current_value\",\"type\":\"double\",\"doc\":\"Current value of the metric\"},{\"name\":\"threshold_value\",\"type\":\"double\",\"doc\":\"Threshold that was breached\"},{\"name\":\"alert_type\",\"type\":{\"type\":\"enum\",\"name\":\"AlertType\",\"symbols\":[\"THRESHOLD_EXCEEDED\",\"THRESHOLD_RECOVERED\",\"ANOMALY_DETECTED\"],\"default\":\"THRESHOLD_EXCEEDED\"},\"doc\":\"Type of performance alert\"},{\"name\"",":\"measurement_unit\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Unit of measurement (e.g., 'ms', 'MB', 'requests/sec')\",\"default\":\"count\"},{\"name\":\"duration_seconds\",\"type\":[\"null\",\"long\"],\"doc\":\"How long the condition has persisted\",\"default\":null}]},{\"type\":\"record\",\"name\":\"DeploymentEvent\",\"doc\":\"Event fired during deployment lifecycle\",\"fields\":[{\"name\":\"deployment_id\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Unique identifier for this deployment\"},{\"name\":\"deployment_stage\",\"type\":{\"type\":\"enum\",\"name\":\"DeploymentStage\",\"symbols\":[\"STARTED\",\"VALIDATING\",\"DEPLOYING\",\"HEALTH_CHECKING\",\"COMPLETED\",\"ROLLED_BACK\",\"FAILED\"],\"default\":\"STARTED\"},\"doc\":\"Current stage of deployment\"},{\"name\":\"from_version\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Version being replaced (null for initial deployment)\",\"default\":null},{\"name\":\"to_version\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Version being deployed\"},{\"name\":\"deployment_strategy\",\"type\":{\"type\":\"enum\",\"name\":\"DeploymentStrategy\",\"symbols\":[\"BLUE_GREEN\",\"ROLLING\",\"CANARY\",\"RECREATE\"],\"default\":\"ROLLING\"},\"doc\":\"Deployment strategy used\"},{\"name\":\"rollback_reason\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Reason for rollback if applicable\",\"default\":null}]}],\"doc\":\"Event body containing specific details based on event type\"},{\"name\":\"tags\",\"type\":{\"type\":\"map\",\"values\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"avro.java.string\":\"String\"},\"doc\":\"Additional key-value tags for flexible categorization and filtering\",\"default\":{}},{\"name\":\"metrics\",\"type\":{\"type\":\"map\",\"values\":\"double\",\"avro.java.string\":\"String\"},\"doc\":\"Numeric metrics associated with the event for analysis\",\"default\":{}}]}");
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"ApplicationLifecycleEvent\",\"namespace\":\"com.tbw.security.securityevents\",\"doc\":\"Schema for auditing application lifecycle events with comprehensive tracking\",\"fields\":[{\"name\":\"header\",\"type\":{\"type\":\"record\",\"name\":\"EventHeader\",\"doc\":\"Standard header information for all lifecycle events\",\"fields\":[{\"name\":\"event_id\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Unique identifier for this event (UUID recommended)\"},{\"name\":\"event_version\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Schema version for this event format\",\"default\":\"1.0\"},{\"name\":\"timestamp\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"},\"doc\":\"When the event occurred (milliseconds since epoch)\"},{\"name\":\"correlation_id\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"ID to correlate related events across services\",\"default\":null},{\"name\":\"trace_id\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Distributed tracing ID for request tracking\",\"default\":null},{\"name\":\"application_name\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Name of the application generating the event\"},{\"name\":\"application_version\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Version of the application (e.g., 1.2.3)\"},{\"name\":\"environment\",\"type\":{\"type\":\"enum\",\"name\":\"Environment\",\"symbols\":[\"DEVELOPMENT\",\"TESTING\",\"STAGING\",\"PRODUCTION\"],\"default\":\"DEVELOPMENT\"},\"doc\":\"Environment where the event occurred\"},{\"name\":\"source_host\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Hostname or IP of the machine generating the event\"},{\"name\":\"source_instance_id\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Instance/container ID if running in containerized environment\",\"default\":null},{\"name\":\"user_id\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"ID of user who triggered the event, if applicable\",\"default\":null},{\"name\":\"session_id\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Session ID associated with the event, if applicable\",\"default\":null},{\"name\":\"severity\",\"type\":{\"type\":\"enum\",\"name\":\"Severity\",\"symbols\":[\"DEBUG\",\"INFO\",\"WARN\",\"ERROR\",\"CRITICAL\"],\"default\":\"INFO\"},\"doc\":\"Severity level of the lifecycle event\"},{\"name\":\"event_id_bytes\",\"type\":[\"null\",{\"type\":\"fixed\",\"name\":\"EventIdBytes\",\"doc\":\"128-bit event ID in big-endian byte order\",\"size\":16}],\"doc\":\"Compact binary form of event_id for time-ordered IDs, if enabled\",\"default\":null}]}},{\"name\":\"body\",\"type\":[{\"type\":\"record\",\"name\":\"ApplicationStartup\",\"doc\":\"Event fired when application starts up\",\"fields\":[{\"name\":\"startup_time_ms\",\"type\":\"long\",\"doc\":\"Time taken to start up in milliseconds\"},{\"name\":\"jvm_version\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"JVM version if applicable\",\"default\":null},{\"name\":\"memory_allocated_mb\",\"type\":[\"null\",\"long\"],\"doc\":\"Initial memory allocation in MB\",\"default\":null},{\"name\":\"configuration_profile\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Active configuration profile (e.g., 'prod', 'dev')\",\"default\":null},{\"name\":\"enabled_features\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"string\",\"avro.java.string\":\"String\"}},\"doc\":\"List of enabled feature flags or modules\",\"default\":[]}]},{\"type\":\"record\",\"name\":\"ApplicationShutdown\",\"doc\":\"Event fired when application shuts down\",\"fields\":[{\"name\":\"shutdown_reason\",\"type\":{\"type\":\"enum\",\"name\":\"ShutdownReason\",\"symbols\":[\"GRACEFUL\",\"FORCED\",\"ERROR\",\"SIGNAL\",\"OUT_OF_MEMORY\",\"EXTERNAL_REQUEST\"],\"default\":\"GRACEFUL\"},\"doc\":\"Reason for application shutdown\"},{\"name\":\"uptime_seconds\",\"type\":\"long\",\"doc\":\"Total application uptime in seconds\"},{\"name\":\"final_memory_usage_mb\",\"type\":[\"null\",\"long\"],\"doc\":\"Memory usage at shutdown in MB\",\"default\":null},{\"name\":\"cleanup_time_ms\",\"type\":[\"null\",\"long\"],\"doc\":\"Time spent on cleanup operations in milliseconds\",\"default\":null},{\"name\":\"exit_code\",\"type\":\"int\",\"doc\":\"Application exit code\",\"default\":0}]},{\"type\":\"record\",\"name\":\"ConfigurationChange\",\"doc\":\"Event fired when configuration changes\",\"fields\":[{\"name\":\"config_key\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Configuration key that changed\"},{\"name\":\"old_value\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Previous configuration value (null if newly added)\",\"default\":null},{\"name\":\"new_value\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"New configuration value (null if deleted)\",\"default\":null},{\"name\":\"change_source\",\"type\":{\"type\":\"enum\",\"name\":\"ConfigSource\",\"symbols\":[\"FILE\",\"ENVIRONMENT\",\"DATABASE\",\"REMOTE_CONFIG\",\"ADMIN_INTERFACE\",\"API\"],\"default\":\"FILE\"},\"doc\":\"Source of the configuration change\"},{\"name\":\"requires_restart\",\"type\":\"boolean\",\"doc\":\"Whether this change requires application restart\",\"default\":false}]},{\"type\":\"record\",\"name\":\"ServiceStatusChange\",\"doc\":\"Event fired when a service or component changes status\",\"fields\":[{\"name\":\"service_name\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Name of the service or component\"},{\"name\":\"previous_status\",\"type\":[\"null\",{\"type\":\"enum\",\"name\":\"ServiceStatus\",\"symbols\":[\"STARTING\",\"HEALTHY\",\"DEGRADED\",\"UNHEALTHY\",\"STOPPED\",\"UNKNOWN\"]}],\"doc\":\"Previous service status\",\"default\":null},{\"name\":\"current_status\",\"type\":\"ServiceStatus\",\"doc\":\"Current service status\"},{\"name\":\"status_details\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Additional details about the status change\",\"default\":null},{\"name\":\"health_check_url\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"URL used for health checking this service\",\"default\":null}]},{\"type\":\"record\",\"name\":\"DatabaseOperation\",\"doc\":\"Event fired for significant database operations\",\"fields\":[{\"name\":\"operation_type\",\"type\":{\"type\":\"enum\",\"name\":\"DatabaseOperationType\",\"symbols\":[\"MIGRATION\",\"BACKUP\",\"RESTORE\",\"INDEX_REBUILD\",\"MAINTENANCE\",\"CONNECTION_POOL_EVENT\"],\"default\":\"MIGRATION\"},\"doc\":\"Type of database operation\"},{\"name\":\"database_name\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Name of the database\"},{\"name\":\"operation_status\",\"type\":{\"type\":\"enum\",\"name\":\"OperationStatus\",\"symbols\":[\"STARTED\",\"IN_PROGRESS\",\"COMPLETED\",\"FAILED\",\"CANCELLED\"],\"default\":\"STARTED\"},\"doc\":\"Status of the operation\"},{\"name\":\"duration_ms\",\"type\":[\"null\",\"long\"],\"doc\":\"Operation duration in milliseconds (null if still running)\",\"default\":null},{\"name\":\"affected_tables\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"string\",\"avro.java.string\":\"String\"}},\"doc\":\"List of tables affected by the operation\",\"default\":[]},{\"name\":\"error_message\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Error message if operation failed\",\"default\":null}]},{\"type\":\"record\",\"name\":\"SecurityEvent\",\"doc\":\"Event fired for security-related lifecycle events\",\"fields\":[{\"name\":\"event_type\",\"type\":{\"type\":\"enum\",\"name\":\"SecurityEventType\",\"symbols\":[\"AUTHENTICATION_FAILURE\",\"AUTHORIZATION_FAILURE\",\"CERTIFICATE_EXPIRY_WARNING\",\"CERTIFICATE_RENEWED\",\"API_KEY_ROTATED\",\"SUSPICIOUS_ACTIVITY\",\"SECURITY_SCAN_COMPLETED\"]},\"doc\":\"Type of security event\"},{\"name\":\"resource\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Resource or endpoint involved in the security event\",\"default\":null},{\"name\":\"threat_level\",\"type\":{\"type\":\"enum\",\"name\":\"ThreatLevel\",\"symbols\":[\"LOW\",\"MEDIUM\",\"HIGH\",\"CRITICAL\"],\"default\":\"LOW\"},\"doc\":\"Assessed threat level of the event\"},{\"name\":\"client_ip\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"IP address of the client involved\",\"default\":null},{\"name\":\"user_agent\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"User agent string if applicable\",\"default\":null}]},{\"type\":\"record\",\"name\":\"PerformanceAlert\",\"doc\":\"Event fired when performance thresholds are breached\",\"fields\":[{\"name\":\"metric_name\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Name of the performance metric\"},{\"name\":\"current_value\",\"type\":\"double\",\"doc\":\"Current value of the metric\"},{\"name\":\"threshold_value\",\"type\":\"double\",\"doc\":\"Threshold t","hat was breached\"},{\"name\":\"alert_type\",\"type\":{\"type\":\"enum\",\"name\":\"AlertType\",\"symbols\":[\"THRESHOLD_EXCEEDED\",\"THRESHOLD_RECOVERED\",\"ANOMALY_DETECTED\"],\"default\":\"THRESHOLD_EXCEEDED\"},\"doc\":\"Type of performance alert\"},{\"name\":\"measurement_unit\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Unit of measurement (e.g., 'ms', 'MB', 'requests/sec')\",\"default\":\"count\"},{\"name\":\"duration_seconds\",\"type\":[\"null\",\"long\"],\"doc\":\"How long the condition has persisted\",\"default\":null}]},{\"type\":\"record\",\"name\":\"DeploymentEvent\",\"doc\":\"Event fired during deployment lifecycle\",\"fields\":[{\"name\":\"deployment_id\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Unique identifier for this deployment\"},{\"name\":\"deployment_stage\",\"type\":{\"type\":\"enum\",\"name\":\"DeploymentStage\",\"symbols\":[\"STARTED\",\"VALIDATING\",\"DEPLOYING\",\"HEALTH_CHECKING\",\"COMPLETED\",\"ROLLED_BACK\",\"FAILED\"],\"default\":\"STARTED\"},\"doc\":\"Current stage of deployment\"},{\"name\":\"from_version\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Version being replaced (null for initial deployment)\",\"default\":null},{\"name\":\"to_version\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Version being deployed\"},{\"name\":\"deployment_strategy\",\"type\":{\"type\":\"enum\",\"name\":\"DeploymentStrategy\",\"symbols\":[\"BLUE_GREEN\",\"ROLLING\",\"CANARY\",\"RECREATE\"],\"default\":\"ROLLING\"},\"doc\":\"Deployment strategy used\"},{\"name\":\"rollback_reason\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Reason for rollback if applicable\",\"default\":null}]}],\"doc\":\"Event body containing specific details based on event type\"},{\"name\":\"tags\",\"type\":{\"type\":\"map\",\"values\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"avro.java.string\":\"String\"},\"doc\":\"Additional key-value tags for flexible categorization and filtering\",\"default\":{}},{\"name\":\"metrics\",\"type\":{\"type\":\"map\",\"values\":\"double\",\"avro.java.string\":\"String\"},\"doc\":\"Numeric metrics associated with the event for analysis\",\"default\":{}}]}");
   public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
 
   private static final SpecificData MODEL$ = new SpecificData();
@@ -15,10 +15,10 @@ import org.apache.avro.message.SchemaStore;
 /** Standard header information for all lifecycle events */
 @org.apache.avro.specific.AvroGenerated
 public class EventHeader extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
-  private static final long serialVersionUID = 1418172905417568981L;
+  private static final long serialVersionUID = -6735829122395337024L;
 
 
-  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"EventHeader\",\"namespace\":\"com.tbw.security.securityevents\",\"doc\":\"Standard header information for all lifecycle events\",\"fields\":[{\"name\":\"event_id\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Unique identifier for this event (UUID recommended)\"},{\"name\":\"event_version\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Schema version for this event format\",\"default\":\"1.0\"},{\"name\":\"timestamp\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"},\"doc\":\"When the event occurred (milliseconds since epoch)\"},{\"name\":\"correlation_id\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"ID to correlate related events across services\",\"default\":null},{\"name\":\"trace_id\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Distributed tracing ID for request tracking\",\"default\":null},{\"name\":\"application_name\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Name of the application generating the event\"},{\"name\":\"application_version\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Version of the application (e.g., 1.2.3)\"},{\"name\":\"environment\",\"type\":{\"type\":\"enum\",\"name\":\"Environment\",\"symbols\":[\"DEVELOPMENT\",\"TESTING\",\"STAGING\",\"PRODUCTION\"],\"default\":\"DEVELOPMENT\"},\"doc\":\"Environment where the event occurred\"},{\"name\":\"source_host\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Hostname or IP of the machine generating the event\"},{\"name\":\"source_instance_id\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Instance/container ID if running in containerized environment\",\"default\":null},{\"name\":\"user_id\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"ID of user who triggered the event, if applicable\",\"default\":null},{\"name\":\"session_id\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Session ID associated with the event, if applicable\",\"default\":null},{\"name\":\"severity\",\"type\":{\"type\":\"enum\",\"name\":\"Severity\",\"symbols\":[\"DEBUG\",\"INFO\",\"WARN\",\"ERROR\",\"CRITICAL\"],\"default\":\"INFO\"},\"doc\":\"Severity level of the lifecycle event\"}]}");
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"EventHeader\",\"namespace\":\"com.tbw.security.securityevents\",\"doc\":\"Standard header information for all lifecycle events\",\"fields\":[{\"name\":\"event_id\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Unique identifier for this event (UUID recommended)\"},{\"name\":\"event_version\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Schema version for this event format\",\"default\":\"1.0\"},{\"name\":\"timestamp\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"},\"doc\":\"When the event occurred (milliseconds since epoch)\"},{\"name\":\"correlation_id\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"ID to correlate related events across services\",\"default\":null},{\"name\":\"trace_id\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Distributed tracing ID for request tracking\",\"default\":null},{\"name\":\"application_name\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Name of the application generating the event\"},{\"name\":\"application_version\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Version of the application (e.g., 1.2.3)\"},{\"name\":\"environment\",\"type\":{\"type\":\"enum\",\"name\":\"Environment\",\"symbols\":[\"DEVELOPMENT\",\"TESTING\",\"STAGING\",\"PRODUCTION\"],\"default\":\"DEVELOPMENT\"},\"doc\":\"Environment where the event occurred\"},{\"name\":\"source_host\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Hostname or IP of the machine generating the event\"},{\"name\":\"source_instance_id\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Instance/container ID if running in containerized environment\",\"default\":null},{\"name\":\"user_id\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"ID of user who triggered the event, if applicable\",\"default\":null},{\"name\":\"session_id\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Session ID associated with the event, if applicable\",\"default\":null},{\"name\":\"severity\",\"type\":{\"type\":\"enum\",\"name\":\"Severity\",\"symbols\":[\"DEBUG\",\"INFO\",\"WARN\",\"ERROR\",\"CRITICAL\"],\"default\":\"INFO\"},\"doc\":\"Severity level of the lifecycle event\"},{\"name\":\"event_id_bytes\",\"type\":[\"null\",{\"type\":\"fixed\",\"name\":\"EventIdBytes\",\"doc\":\"128-bit event ID in big-endian byte order\",\"size\":16}],\"doc\":\"Compact binary form of event_id for time-ordered IDs, if enabled\",\"default\":null}]}");
   public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
 
   private static final SpecificData MODEL$ = new SpecificData();
@@ -103,6 +103,8 @@ public class EventHeader extends org.apache.avro.specific.SpecificRecordBase imp
   private java.lang.String session_id;
   /** Severity level of the lifecycle event */
   private com.tbw.security.securityevents.Severity severity;
+  /** Compact binary form of event_id for time-ordered IDs, if enabled */
+  private com.tbw.security.securityevents.EventIdBytes event_id_bytes;
 
   /**
    * Default constructor.  Note that this does not initialize fields
@@ -126,8 +128,9 @@ public class EventHeader extends org.apache.avro.specific.SpecificRecordBase imp
    * @param user_id ID of user who triggered the event, if applicable
    * @param session_id Session ID associated with the event, if applicable
    * @param severity Severity level of the lifecycle event
+   * @param event_id_bytes Compact binary form of event_id for time-ordered IDs, if enabled
    */
-  public EventHeader(java.lang.String event_id, java.lang.String event_version, java.time.Instant timestamp, java.lang.String correlation_id, java.lang.String trace_id, java.lang.String application_name, java.lang.String application_version, com.tbw.security.securityevents.Environment environment, java.lang.String source_host, java.lang.String source_instance_id, java.lang.String user_id, java.lang.String session_id, com.tbw.security.securityevents.Severity severity) {
+  public EventHeader(java.lang.String event_id, java.lang.String event_version, java.time.Instant timestamp, java.lang.String correlation_id, java.lang.String trace_id, java.lang.String application_name, java.lang.String application_version, com.tbw.security.securityevents.Environment environment, java.lang.String source_host, java.lang.String source_instance_id, java.lang.String user_id, java.lang.String session_id, com.tbw.security.securityevents.Severity severity, com.tbw.security.securityevents.EventIdBytes event_id_bytes) {
     this.event_id = event_id;
     this.event_version = event_version;
     this.timestamp = timestamp.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
@@ -141,6 +144,7 @@ public class EventHeader extends org.apache.avro.specific.SpecificRecordBase imp
     this.user_id = user_id;
     this.session_id = session_id;
     this.severity = severity;
+    this.event_id_bytes = event_id_bytes;
   }
 
   @Override
@@ -166,6 +170,7 @@ public class EventHeader extends org.apache.avro.specific.SpecificRecordBase imp
     case 10: return user_id;
     case 11: return session_id;
     case 12: return severity;
+    case 13: return event_id_bytes;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -185,6 +190,7 @@ public class EventHeader extends org.apache.avro.specific.SpecificRecordBase imp
       null,
       null,
       null,
+      null,
       null
   };
 
@@ -211,6 +217,7 @@ public class EventHeader extends org.apache.avro.specific.SpecificRecordBase imp
     case 10: user_id = value$ != null ? value$.toString() : null; break;
     case 11: session_id = value$ != null ? value$.toString() : null; break;
     case 12: severity = (com.tbw.security.securityevents.Severity)value$; break;
+    case 13: event_id_bytes = (com.tbw.security.securityevents.EventIdBytes)value$; break;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -449,6 +456,24 @@ public class EventHeader extends org.apache.avro.specific.SpecificRecordBase imp
     this.severity = value;
   }
 
+  /**
+   * Gets the value of the 'event_id_bytes' field.
+   * @return Compact binary form of event_id for time-ordered IDs, if enabled
+   */
+  public com.tbw.security.securityevents.EventIdBytes getEventIdBytes() {
+    return event_id_bytes;
+  }
+
+
+  /**
+   * Sets the value of the 'event_id_bytes' field.
+   * Compact binary form of event_id for time-ordered IDs, if enabled
+   * @param value the value to set.
+   */
+  public void setEventIdBytes(com.tbw.security.securityevents.EventIdBytes value) {
+    this.event_id_bytes = value;
+  }
+
   /**
    * Creates a new EventHeader RecordBuilder.
    * @return A new EventHeader RecordBuilder
@@ -516,6 +541,8 @@ public class EventHeader extends org.apache.avro.specific.SpecificRecordBase imp
     private java.lang.String session_id;
     /** Severity level of the lifecycle event */
     private com.tbw.security.securityevents.Severity severity;
+    /** Compact binary form of event_id for time-ordered IDs, if enabled */
+    private com.tbw.security.securityevents.EventIdBytes event_id_bytes;
 
     /** Creates a new Builder */
     private Builder() {
@@ -580,6 +607,10 @@ public class EventHeader extends org.apache.avro.specific.SpecificRecordBase imp
         this.severity = data().deepCopy(fields()[12].schema(), other.severity);
         fieldSetFlags()[12] = other.fieldSetFlags()[12];
       }
+      if (isValidValue(fields()[13], other.event_id_bytes)) {
+        this.event_id_bytes = data().deepCopy(fields()[13].schema(), other.event_id_bytes);
+        fieldSetFlags()[13] = other.fieldSetFlags()[13];
+      }
     }
 
     /**
@@ -640,6 +671,10 @@ public class EventHeader extends org.apache.avro.specific.SpecificRecordBase imp
         this.severity = data().deepCopy(fields()[12].schema(), other.severity);
         fieldSetFlags()[12] = true;
       }
+      if (isValidValue(fields()[13], other.event_id_bytes)) {
+        this.event_id_bytes = data().deepCopy(fields()[13].schema(), other.event_id_bytes);
+        fieldSetFlags()[13] = true;
+      }
     }
 
     /**
@@ -1213,6 +1248,50 @@ public class EventHeader extends org.apache.avro.specific.SpecificRecordBase imp
       return this;
     }
 
+    /**
+      * Gets the value of the 'event_id_bytes' field.
+      * Compact binary form of event_id for time-ordered IDs, if enabled
+      * @return The value.
+      */
+    public com.tbw.security.securityevents.EventIdBytes getEventIdBytes() {
+      return event_id_bytes;
+    }
+
+
+    /**
+      * Sets the value of the 'event_id_bytes' field.
+      * Compact binary form of event_id for time-ordered IDs, if enabled
+      * @param value The value of 'event_id_bytes'.
+      * @return This builder.
+      */
+    public com.tbw.security.securityevents.EventHeader.Builder setEventIdBytes(com.tbw.security.securityevents.EventIdBytes value) {
+      validate(fields()[13], value);
+      this.event_id_bytes = value;
+      fieldSetFlags()[13] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'event_id_bytes' field has been set.
+      * Compact binary form of event_id for time-ordered IDs, if enabled
+      * @return True if the 'event_id_bytes' field has been set, false otherwise.
+      */
+    public boolean hasEventIdBytes() {
+      return fieldSetFlags()[13];
+    }
+
+
+    /**
+      * Clears the value of the 'event_id_bytes' field.
+      * Compact binary form of event_id for time-ordered IDs, if enabled
+      * @return This builder.
+      */
+    public com.tbw.security.securityevents.EventHeader.Builder clearEventIdBytes() {
+      event_id_bytes = null;
+      fieldSetFlags()[13] = false;
+      return this;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public EventHeader build() {
@@ -1231,6 +1310,7 @@ public class EventHeader extends org.apache.avro.specific.SpecificRecordBase imp
         record.user_id = fieldSetFlags()[10] ? this.user_id : (java.lang.String) defaultValue(fields()[10]);
         record.session_id = fieldSetFlags()[11] ? this.session_id : (java.lang.String) defaultValue(fields()[11]);
         record.severity = fieldSetFlags()[12] ? this.severity : (com.tbw.security.securityevents.Severity) defaultValue(fields()[12]);
+        record.event_id_bytes = fieldSetFlags()[13] ? this.event_id_bytes : (com.tbw.security.securityevents.EventIdBytes) defaultValue(fields()[13]);
         return record;
       } catch (org.apache.avro.AvroMissingFieldException e) {
         throw e;
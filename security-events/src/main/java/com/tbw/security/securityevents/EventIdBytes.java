@@ -0,0 +1,45 @@
+/**
+ * Autogenerated by Avro
+ *
+ * DO NOT EDIT DIRECTLY
+ */
+package com.tbw.security.securityevents;
+/** 128-bit event ID in big-endian byte order */
+@org.apache.avro.specific.FixedSize(16)
+@org.apache.avro.specific.AvroGenerated
+public class EventIdBytes extends org.apache.avro.specific.SpecificFixed {
+  private static final long serialVersionUID = -6718647747809534828L;
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"fixed\",\"name\":\"EventIdBytes\",\"namespace\":\"com.tbw.security.securityevents\",\"doc\":\"128-bit event ID in big-endian byte order\",\"size\":16}");
+  public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
+  public org.apache.avro.Schema getSchema() { return SCHEMA$; }
+
+  /** Creates a new EventIdBytes */
+  public EventIdBytes() {
+    super();
+  }
+
+  /**
+   * Creates a new EventIdBytes with the given bytes.
+   * @param bytes The bytes to create the new EventIdBytes.
+   */
+  public EventIdBytes(byte[] bytes) {
+    super(bytes);
+  }
+
+  private static final org.apache.avro.io.DatumWriter<EventIdBytes>
+    WRITER$ = new org.apache.avro.specific.SpecificDatumWriter<EventIdBytes>(SCHEMA$);
+
+  @Override public void writeExternal(java.io.ObjectOutput out)
+    throws java.io.IOException {
+    WRITER$.write(this, org.apache.avro.specific.SpecificData.getEncoder(out));
+  }
+
+  private static final org.apache.avro.io.DatumReader<EventIdBytes>
+    READER$ = new org.apache.avro.specific.SpecificDatumReader<EventIdBytes>(SCHEMA$);
+
+  @Override public void readExternal(java.io.ObjectInput in)
+    throws java.io.IOException {
+    READER$.read(this, org.apache.avro.specific.SpecificData.getDecoder(in));
+  }
+
+}
@@ -0,0 +1,63 @@
+package com.tbw.security.securityevents.alerting;
+
+import java.util.Map;
+
+/**
+ * Ring buffer of the most recent samples of one metric series. Samples are expected in time
+ * order; recording and aggregating lock the series and do not allocate.
+ */
+final class MetricSeries {
+
+    final String metricName;
+    final Map<String, String> tags;
+    private final long[] times;
+    private final double[] values;
+    private int head;
+    private int size;
+
+    MetricSeries(String metricName, Map<String, String> tags, int capacity) {
+        this.metricName = metricName;
+        this.tags = tags;
+        this.times = new long[capacity];
+        this.values = new double[capacity];
+    }
+
+    synchronized void record(long timeMillis, double value) {
+        times[head] = timeMillis;
+        values[head] = value;
+        head = head + 1 == times.length ? 0 : head + 1;
+        if (size < times.length) {
+            size++;
+        }
+    }
+
+    /**
+     * Aggregate of the samples taken after {@code fromMillis}, or {@code NaN} if there are none.
+     */
+    synchronized double aggregate(ThresholdRule.Aggregation aggregation, long fromMillis) {
+        double result = Double.NaN;
+        int count = 0;
+        int index = head;
+        for (int i = 0; i < size; i++) {
+            index = index == 0 ? times.length - 1 : index - 1;
+            if (times[index] <= fromMillis) {
+                break;
+            }
+            double value = values[index];
+            if (count++ == 0) {
+                result = value;
+                if (aggregation == ThresholdRule.Aggregation.LAST) {
+                    return result;
+                }
+                continue;
+            }
+            result = switch (aggregation) {
+                case AVERAGE -> result + value;
+                case MIN -> Math.min(result, value);
+                case MAX -> Math.max(result, value);
+                case LAST -> result;
+            };
+        }
+        return aggregation == ThresholdRule.Aggregation.AVERAGE && count > 0 ? result / count : result;
+    }
+}
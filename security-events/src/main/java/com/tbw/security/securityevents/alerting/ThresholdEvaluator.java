@@ -0,0 +1,310 @@
+package com.tbw.security.securityevents.alerting;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tbw.security.securityevents.AlertType;
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.EventHeader;
+import com.tbw.security.securityevents.PerformanceAlert;
+import com.tbw.security.securityevents.Severity;
+import com.tbw.security.securityevents.id.EventIdGenerator;
+import com.tbw.security.securityevents.id.EventIds;
+import com.tbw.security.securityevents.id.UuidV7EventIdGenerator;
+import com.tbw.security.securityevents.publisher.EventPublisher;
+
+/**
+ * Evaluates {@link ThresholdRule}s against metric samples recorded in process and publishes a
+ * {@link PerformanceAlert} event when a rule starts or stops firing for a series.
+ * <p>
+ * Callers {@linkplain #register register} each series once and then {@linkplain #record record}
+ * samples by the returned ID; samples go into a fixed-size ring buffer per series, so recording
+ * does not allocate. Every rule applies to all series of its metric. Each evaluation tick walks
+ * the (rule, series) pairs, whose state is kept in primitive arrays, and only allocates when it
+ * publishes an alert:
+ * <ul>
+ * <li>{@code THRESHOLD_EXCEEDED} once a rule has been breached for its sustain period, with
+ * {@code duration_seconds} set to how long it has been breached;</li>
+ * <li>{@code THRESHOLD_RECOVERED} once the aggregate is back past the recovery threshold, with
+ * {@code duration_seconds} set to how long the condition persisted.</li>
+ * </ul>
+ * Series without samples in a rule's window keep their state. Alert headers are copies of the
+ * configured template with a new event ID and the evaluation time; the series tags and the rule
+ * name (in the {@value #RULE_TAG} tag) are carried in the event's tags.
+ */
+public class ThresholdEvaluator implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ThresholdEvaluator.class);
+
+    public static final String RULE_TAG = "alert.rule";
+
+    private static final byte OK = 0;
+    private static final byte PENDING = 1;
+    private static final byte FIRING = 2;
+
+    private final EventPublisher publisher;
+    private final EventHeader headerTemplate;
+    private final EventIdGenerator idGenerator;
+    private final int samplesPerSeries;
+    private final ThresholdRule[] rules;
+    private final long[] ruleWindowMillis;
+    private final long[] ruleSustainMillis;
+    private final Map<String, int[]> rulesByMetric = new HashMap<>();
+    private final Map<String, Map<Map<String, String>, Integer>> seriesIds = new HashMap<>();
+    private final MetricSeries[] series;
+    private int seriesCount;
+
+    // One entry per (rule, series) pair, guarded by this
+    private int[] pairSeries = new int[16];
+    private int[] pairRules = new int[16];
+    private byte[] pairStates = new byte[16];
+    private long[] pairBreachedSince = new long[16];
+    private int pairCount;
+
+    private final LongAdder alertCount = new LongAdder();
+    private ScheduledExecutorService scheduler;
+
+    private ThresholdEvaluator(Builder builder) {
+        this.publisher = Objects.requireNonNull(builder.publisher, "publisher");
+        this.headerTemplate = Objects.requireNonNull(builder.headerTemplate, "headerTemplate");
+        this.idGenerator = builder.idGenerator;
+        this.samplesPerSeries = builder.samplesPerSeries;
+        this.rules = builder.rules.toArray(ThresholdRule[]::new);
+        this.ruleWindowMillis = new long[rules.length];
+        this.ruleSustainMillis = new long[rules.length];
+        Map<String, List<Integer>> byMetric = new HashMap<>();
+        for (int i = 0; i < rules.length; i++) {
+            ruleWindowMillis[i] = rules[i].getWindow().toMillis();
+            ruleSustainMillis[i] = rules[i].getSustain().toMillis();
+            byMetric.computeIfAbsent(rules[i].getMetricName(), ignored -> new ArrayList<>()).add(i);
+        }
+        byMetric.forEach((metric, indices) ->
+                rulesByMetric.put(metric, indices.stream().mapToInt(Integer::intValue).toArray()));
+        this.series = new MetricSeries[builder.maxSeries];
+    }
+
+    /**
+     * @param publisher      receives the alert events
+     * @param headerTemplate header copied into every alert, e.g. with the application name,
+     *                       version, environment and host filled in
+     */
+    public static Builder newBuilder(EventPublisher publisher, EventHeader headerTemplate) {
+        return new Builder(publisher, headerTemplate);
+    }
+
+    /**
+     * Returns the ID of the series of {@code metricName} with {@code tags}, registering it on
+     * first use.
+     *
+     * @throws IllegalStateException if the maximum number of series is already registered
+     */
+    public synchronized int register(String metricName, Map<String, String> tags) {
+        Map<Map<String, String>, Integer> byTags = seriesIds.computeIfAbsent(metricName, ignored -> new HashMap<>());
+        Integer existing = byTags.get(tags);
+        if (existing != null) {
+            return existing;
+        }
+        if (seriesCount == series.length) {
+            throw new IllegalStateException("Cannot register more than " + series.length + " series");
+        }
+        int id = seriesCount++;
+        Map<String, String> copy = Map.copyOf(tags);
+        series[id] = new MetricSeries(metricName, copy, samplesPerSeries);
+        byTags.put(copy, id);
+        for (int rule : rulesByMetric.getOrDefault(metricName, new int[0])) {
+            addPair(id, rule);
+        }
+        return id;
+    }
+
+    private void addPair(int seriesId, int rule) {
+        if (pairCount == pairSeries.length) {
+            int capacity = pairSeries.length * 2;
+            pairSeries = Arrays.copyOf(pairSeries, capacity);
+            pairRules = Arrays.copyOf(pairRules, capacity);
+            pairStates = Arrays.copyOf(pairStates, capacity);
+            pairBreachedSince = Arrays.copyOf(pairBreachedSince, capacity);
+        }
+        pairSeries[pairCount] = seriesId;
+        pairRules[pairCount] = rule;
+        pairCount++;
+    }
+
+    /** Records a sample of the series {@code seriesId} returned by {@link #register}. */
+    public void record(int seriesId, long timeMillis, double value) {
+        series[seriesId].record(timeMillis, value);
+    }
+
+    /**
+     * Evaluates every rule against every series of its metric at {@code nowMillis} and publishes
+     * the resulting alerts.
+     *
+     * @return the number of alerts published
+     */
+    public synchronized int evaluate(long nowMillis) {
+        int alerts = 0;
+        for (int pair = 0; pair < pairCount; pair++) {
+            int rule = pairRules[pair];
+            MetricSeries metricSeries = series[pairSeries[pair]];
+            ThresholdRule thresholdRule = rules[rule];
+            double value = metricSeries.aggregate(thresholdRule.getAggregation(), nowMillis - ruleWindowMillis[rule]);
+            if (Double.isNaN(value)) {
+                continue;
+            }
+            switch (pairStates[pair]) {
+                case OK -> {
+                    if (thresholdRule.isBreached(value)) {
+                        pairStates[pair] = PENDING;
+                        pairBreachedSince[pair] = nowMillis;
+                        if (ruleSustainMillis[rule] == 0) {
+                            pairStates[pair] = FIRING;
+                            alerts += publish(nowMillis, metricSeries, thresholdRule, AlertType.THRESHOLD_EXCEEDED,
+                                    value, 0);
+                        }
+                    }
+                }
+                case PENDING -> {
+                    if (!thresholdRule.isBreached(value)) {
+                        pairStates[pair] = OK;
+                    } else if (nowMillis - pairBreachedSince[pair] >= ruleSustainMillis[rule]) {
+                        pairStates[pair] = FIRING;
+                        alerts += publish(nowMillis, metricSeries, thresholdRule, AlertType.THRESHOLD_EXCEEDED, value,
+                                nowMillis - pairBreachedSince[pair]);
+                    }
+                }
+                case FIRING -> {
+                    if (thresholdRule.isRecovered(value)) {
+                        pairStates[pair] = OK;
+                        alerts += publish(nowMillis, metricSeries, thresholdRule, AlertType.THRESHOLD_RECOVERED, value,
+                                nowMillis - pairBreachedSince[pair]);
+                    }
+                }
+                default -> throw new IllegalStateException("Unknown state " + pairStates[pair]);
+            }
+        }
+        return alerts;
+    }
+
+    private int publish(long nowMillis, MetricSeries metricSeries, ThresholdRule rule, AlertType type,
+            double value, long durationMillis) {
+        boolean exceeded = type == AlertType.THRESHOLD_EXCEEDED;
+        UUID id = idGenerator.nextUuid();
+        EventHeader header = EventHeader.newBuilder(headerTemplate)
+                .setEventId(idGenerator.format(id))
+                .setEventIdBytes(EventIds.toBytes(id))
+                .setTimestamp(Instant.ofEpochMilli(nowMillis))
+                .setSeverity(exceeded ? rule.getSeverity() : Severity.INFO)
+                .build();
+        PerformanceAlert body = new PerformanceAlert(
+                metricSeries.metricName,
+                value,
+                exceeded ? rule.getThreshold() : rule.getRecoveryThreshold(),
+                type,
+                rule.getUnit(),
+                durationMillis / 1000);
+        Map<String, String> tags = new HashMap<>(metricSeries.tags);
+        tags.put(RULE_TAG, rule.getName());
+        try {
+            publisher.publish(new ApplicationLifecycleEvent(header, body, tags, Map.of()));
+            alertCount.increment();
+            return 1;
+        } catch (Exception e) {
+            LOGGER.warn("Failed to publish {} alert for rule {}", type, rule.getName(), e);
+            return 0;
+        }
+    }
+
+    /**
+     * Evaluates the rules every {@code interval} on a daemon thread until {@link #close()}.
+     */
+    public synchronized void start(Duration interval) {
+        if (scheduler != null) {
+            throw new IllegalStateException("Already started");
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "threshold-evaluator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = interval.toMillis();
+        scheduler.scheduleAtFixedRate(() -> evaluate(System.currentTimeMillis()), millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        ScheduledExecutorService running;
+        synchronized (this) {
+            running = scheduler;
+        }
+        if (running != null) {
+            running.shutdown();
+            running.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    /** Number of alerts published so far. */
+    public long getAlertCount() {
+        return alertCount.sum();
+    }
+
+    /** Number of registered series. */
+    public synchronized int getSeriesCount() {
+        return seriesCount;
+    }
+
+    public static class Builder {
+        private final EventPublisher publisher;
+        private final EventHeader headerTemplate;
+        private EventIdGenerator idGenerator = new UuidV7EventIdGenerator();
+        private final List<ThresholdRule> rules = new ArrayList<>();
+        private int samplesPerSeries = 64;
+        private int maxSeries = 64 * 1024;
+
+        private Builder(EventPublisher publisher, EventHeader headerTemplate) {
+            this.publisher = publisher;
+            this.headerTemplate = headerTemplate;
+        }
+
+        public Builder addRule(ThresholdRule rule) {
+            rules.add(Objects.requireNonNull(rule, "rule"));
+            return this;
+        }
+
+        public Builder setIdGenerator(EventIdGenerator idGenerator) {
+            this.idGenerator = Objects.requireNonNull(idGenerator, "idGenerator");
+            return this;
+        }
+
+        /**
+         * Samples kept per series; must cover the longest rule window at the sampling rate.
+         * Defaults to 64.
+         */
+        public Builder setSamplesPerSeries(int samplesPerSeries) {
+            this.samplesPerSeries = samplesPerSeries;
+            return this;
+        }
+
+        /** Maximum number of series that can be registered; defaults to 65536. */
+        public Builder setMaxSeries(int maxSeries) {
+            this.maxSeries = maxSeries;
+            return this;
+        }
+
+        public ThresholdEvaluator build() {
+            return new ThresholdEvaluator(this);
+        }
+    }
+}
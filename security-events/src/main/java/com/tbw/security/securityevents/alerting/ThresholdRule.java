@@ -0,0 +1,171 @@
+package com.tbw.security.securityevents.alerting;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import com.tbw.security.securityevents.Severity;
+
+/**
+ * A threshold on every series of one metric, evaluated by {@link ThresholdEvaluator}.
+ * <p>
+ * The rule aggregates each series' samples over {@link #getWindow() window} and is breached
+ * while the aggregate is beyond the threshold. It fires once it has been breached for
+ * {@link #getSustain() sustain}, and recovers only once the aggregate is back past the
+ * recovery threshold, which defaults to the threshold itself; a recovery threshold on the safe
+ * side of the threshold keeps a value hovering around it from flapping.
+ */
+public final class ThresholdRule {
+
+    public enum Direction {
+        ABOVE,
+        BELOW
+    }
+
+    public enum Aggregation {
+        LAST,
+        AVERAGE,
+        MIN,
+        MAX
+    }
+
+    private final String name;
+    private final String metricName;
+    private final Direction direction;
+    private final double threshold;
+    private final double recoveryThreshold;
+    private final Duration window;
+    private final Aggregation aggregation;
+    private final Duration sustain;
+    private final Severity severity;
+    private final String unit;
+
+    private ThresholdRule(Builder builder) {
+        this.name = builder.name;
+        this.metricName = builder.metricName;
+        this.direction = builder.direction;
+        this.threshold = builder.threshold;
+        this.recoveryThreshold = Double.isNaN(builder.recoveryThreshold) ? builder.threshold : builder.recoveryThreshold;
+        if (direction == Direction.ABOVE ? recoveryThreshold > threshold : recoveryThreshold < threshold) {
+            throw new IllegalArgumentException("Recovery threshold " + recoveryThreshold + " of rule " + name
+                    + " is on the breached side of " + threshold);
+        }
+        this.window = builder.window;
+        this.aggregation = builder.aggregation;
+        this.sustain = builder.sustain;
+        this.severity = builder.severity;
+        this.unit = builder.unit;
+    }
+
+    /** Rule breached while {@code metricName} is above {@code threshold}. */
+    public static Builder above(String name, String metricName, double threshold) {
+        return new Builder(name, metricName, Direction.ABOVE, threshold);
+    }
+
+    /** Rule breached while {@code metricName} is below {@code threshold}. */
+    public static Builder below(String name, String metricName, double threshold) {
+        return new Builder(name, metricName, Direction.BELOW, threshold);
+    }
+
+    boolean isBreached(double value) {
+        return direction == Direction.ABOVE ? value > threshold : value < threshold;
+    }
+
+    boolean isRecovered(double value) {
+        return direction == Direction.ABOVE ? value <= recoveryThreshold : value >= recoveryThreshold;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getMetricName() {
+        return metricName;
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+
+    public double getThreshold() {
+        return threshold;
+    }
+
+    public double getRecoveryThreshold() {
+        return recoveryThreshold;
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public Aggregation getAggregation() {
+        return aggregation;
+    }
+
+    public Duration getSustain() {
+        return sustain;
+    }
+
+    public Severity getSeverity() {
+        return severity;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public static class Builder {
+        private final String name;
+        private final String metricName;
+        private final Direction direction;
+        private final double threshold;
+        private double recoveryThreshold = Double.NaN;
+        private Duration window = Duration.ofMinutes(1);
+        private Aggregation aggregation = Aggregation.AVERAGE;
+        private Duration sustain = Duration.ZERO;
+        private Severity severity = Severity.WARN;
+        private String unit = "count";
+
+        private Builder(String name, String metricName, Direction direction, double threshold) {
+            this.name = Objects.requireNonNull(name, "name");
+            this.metricName = Objects.requireNonNull(metricName, "metricName");
+            this.direction = direction;
+            this.threshold = threshold;
+        }
+
+        /** Value the aggregate must return past before the rule recovers; defaults to the threshold. */
+        public Builder setRecoveryThreshold(double recoveryThreshold) {
+            this.recoveryThreshold = recoveryThreshold;
+            return this;
+        }
+
+        /** Samples aggregated at each evaluation; defaults to the average over one minute. */
+        public Builder setWindow(Duration window, Aggregation aggregation) {
+            this.window = Objects.requireNonNull(window, "window");
+            this.aggregation = Objects.requireNonNull(aggregation, "aggregation");
+            return this;
+        }
+
+        /** How long the rule must stay breached before it fires; defaults to firing at once. */
+        public Builder setSustain(Duration sustain) {
+            this.sustain = Objects.requireNonNull(sustain, "sustain");
+            return this;
+        }
+
+        /** Severity of {@code THRESHOLD_EXCEEDED} alerts; defaults to {@code WARN}. */
+        public Builder setSeverity(Severity severity) {
+            this.severity = Objects.requireNonNull(severity, "severity");
+            return this;
+        }
+
+        /** {@code PerformanceAlert.measurement_unit} of the alerts; defaults to {@code count}. */
+        public Builder setUnit(String unit) {
+            this.unit = Objects.requireNonNull(unit, "unit");
+            return this;
+        }
+
+        public ThresholdRule build() {
+            return new ThresholdRule(this);
+        }
+    }
+}
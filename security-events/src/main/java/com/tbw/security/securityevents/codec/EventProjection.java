@@ -0,0 +1,43 @@
+package com.tbw.security.securityevents.codec;
+
+import com.tbw.security.securityevents.Severity;
+
+/**
+ * The routing-relevant part of an {@link com.tbw.security.securityevents.ApplicationLifecycleEvent},
+ * filled in place by {@link EventProjectionDecoder}. Instances are meant to be reused.
+ */
+public final class EventProjection {
+
+    Severity severity;
+    long timestampMillis;
+    int bodyIndex;
+    String bodyName;
+
+    public Severity getSeverity() {
+        return severity;
+    }
+
+    /** {@code header.timestamp} in milliseconds since the epoch. */
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+
+    /**
+     * Position of the body's type in the compiled {@code body} union, e.g. {@code 5} for
+     * {@code SecurityEvent}, or {@code -1} if the writer used a type the compiled schema lacks.
+     */
+    public int getBodyIndex() {
+        return bodyIndex;
+    }
+
+    /** Simple name of the body record type, e.g. {@code SecurityEvent}. */
+    public String getBodyName() {
+        return bodyName;
+    }
+
+    @Override
+    public String toString() {
+        return "EventProjection{severity=" + severity + ", timestampMillis=" + timestampMillis
+                + ", body=" + bodyName + "}";
+    }
+}
@@ -0,0 +1,170 @@
+package com.tbw.security.securityevents.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DecoderFactory;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.Severity;
+
+/**
+ * Decodes only {@code header.severity}, {@code header.timestamp} and the {@code body} union
+ * branch of a binary {@link ApplicationLifecycleEvent}, for routing and filtering.
+ * <p>
+ * All other header fields are skipped without materializing strings, and decoding stops right
+ * after the union index, so the body, {@code tags} and {@code metrics} are never touched. When
+ * reading events back to back from a stream the remainder is skipped with Avro's block skipping
+ * instead. Field positions are worked out once from the writer schema, so data written with
+ * older schema versions can be projected too.
+ * <p>
+ * Instances are NOT thread-safe.
+ */
+public class EventProjectionDecoder {
+
+    private static final int SKIP = 0;
+    private static final int TIMESTAMP = 1;
+    private static final int SEVERITY = 2;
+
+    private final List<Schema.Field> eventFields;
+    private final int headerPosition;
+    private final int bodyPosition;
+    private final Schema[] headerFieldSchemas;
+    private final int[] headerFieldActions;
+    private final Severity[] severities;
+    private final List<Schema> bodyBranches;
+    private final int[] bodyIndices;
+    private final String[] bodyNames;
+    private BinaryDecoder decoder;
+
+    public EventProjectionDecoder() {
+        this(ApplicationLifecycleEvent.getClassSchema());
+    }
+
+    /**
+     * @param writerSchema the schema the events were written with, e.g. from
+     *                     {@link com.tbw.security.securityevents.schema.CachingSchemaStore}
+     */
+    public EventProjectionDecoder(Schema writerSchema) {
+        this.eventFields = writerSchema.getFields();
+        this.headerPosition = writerSchema.getField("header").pos();
+        this.bodyPosition = writerSchema.getField("body").pos();
+        if (headerPosition > bodyPosition) {
+            throw new IllegalArgumentException("header must precede body in " + writerSchema.getFullName());
+        }
+
+        List<Schema.Field> headerFields = writerSchema.getField("header").schema().getFields();
+        this.headerFieldSchemas = new Schema[headerFields.size()];
+        this.headerFieldActions = new int[headerFields.size()];
+        Severity[] severityBySymbol = new Severity[0];
+        for (Schema.Field field : headerFields) {
+            headerFieldSchemas[field.pos()] = field.schema();
+            switch (field.name()) {
+                case "timestamp" -> headerFieldActions[field.pos()] = TIMESTAMP;
+                case "severity" -> {
+                    headerFieldActions[field.pos()] = SEVERITY;
+                    severityBySymbol = field.schema().getEnumSymbols().stream()
+                            .map(EventProjectionDecoder::severity)
+                            .toArray(Severity[]::new);
+                }
+                default -> headerFieldActions[field.pos()] = SKIP;
+            }
+        }
+        this.severities = severityBySymbol;
+
+        List<Schema> compiledBranches = ApplicationLifecycleEvent.getClassSchema().getField("body").schema().getTypes();
+        this.bodyBranches = writerSchema.getField("body").schema().getTypes();
+        this.bodyIndices = new int[bodyBranches.size()];
+        this.bodyNames = new String[bodyBranches.size()];
+        for (int i = 0; i < bodyBranches.size(); i++) {
+            Schema branch = bodyBranches.get(i);
+            bodyNames[i] = branch.getName();
+            bodyIndices[i] = -1;
+            for (int j = 0; j < compiledBranches.size(); j++) {
+                if (compiledBranches.get(j).getName().equals(branch.getName())) {
+                    bodyIndices[i] = j;
+                }
+            }
+        }
+    }
+
+    private static Severity severity(String symbol) {
+        try {
+            return Severity.valueOf(symbol);
+        } catch (IllegalArgumentException e) {
+            return Severity.INFO;
+        }
+    }
+
+    /**
+     * Projects the single event encoded in {@code data[offset, offset + length)}.
+     */
+    public EventProjection project(byte[] data, int offset, int length, EventProjection into) throws IOException {
+        decoder = DecoderFactory.get().binaryDecoder(data, offset, length, decoder);
+        return project(decoder, into, false);
+    }
+
+    public EventProjection project(byte[] data, EventProjection into) throws IOException {
+        return project(data, 0, data.length, into);
+    }
+
+    /**
+     * Projects every event in a stream of back-to-back binary events, passing the same
+     * {@link EventProjection} instance to {@code handler} each time.
+     *
+     * @return the number of events read
+     */
+    public long forEach(InputStream input, Consumer<? super EventProjection> handler) throws IOException {
+        BinaryDecoder streamDecoder = new DecoderFactory()
+                .configureDecoderBufferSize(LifecycleEventStreamReader.BUFFER_SIZE)
+                .binaryDecoder(input, null);
+        EventProjection projection = new EventProjection();
+        long count = 0;
+        while (!streamDecoder.isEnd()) {
+            handler.accept(project(streamDecoder, projection, true));
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Projects the event at the decoder's position.
+     *
+     * @param skipRemainder whether to consume the rest of the event, leaving the decoder at the
+     *                      start of the next one
+     */
+    public EventProjection project(BinaryDecoder in, EventProjection into, boolean skipRemainder) throws IOException {
+        for (int position = 0; position < bodyPosition; position++) {
+            if (position == headerPosition) {
+                readHeader(in, into);
+            } else {
+                GenericDatumReader.skip(eventFields.get(position).schema(), in);
+            }
+        }
+        int branch = in.readIndex();
+        into.bodyIndex = bodyIndices[branch];
+        into.bodyName = bodyNames[branch];
+        if (skipRemainder) {
+            GenericDatumReader.skip(bodyBranches.get(branch), in);
+            for (int position = bodyPosition + 1; position < eventFields.size(); position++) {
+                GenericDatumReader.skip(eventFields.get(position).schema(), in);
+            }
+        }
+        return into;
+    }
+
+    private void readHeader(BinaryDecoder in, EventProjection into) throws IOException {
+        for (int i = 0; i < headerFieldActions.length; i++) {
+            switch (headerFieldActions[i]) {
+                case TIMESTAMP -> into.timestampMillis = in.readLong();
+                case SEVERITY -> into.severity = severities[in.readEnum()];
+                default -> GenericDatumReader.skip(headerFieldSchemas[i], in);
+            }
+        }
+    }
+}
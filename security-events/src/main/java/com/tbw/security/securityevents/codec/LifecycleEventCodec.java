@@ -0,0 +1,136 @@
+package com.tbw.security.securityevents.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificDatumWriter;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+
+/**
+ * Reusable binary Avro codec for {@link ApplicationLifecycleEvent}. Encoders, decoders and
+ * datum readers/writers are created once and reused across calls, and the {@code ByteBuffer}
+ * variants read and write caller-owned heap or direct buffers without intermediate arrays.
+ * <p>
+ * Instances are NOT thread-safe. Use {@link #get()} to obtain the instance confined to the
+ * calling thread.
+ */
+public final class LifecycleEventCodec {
+
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+    private static final int INITIAL_BUFFER_SIZE = 512;
+
+    private static final ThreadLocal<LifecycleEventCodec> CODECS = ThreadLocal.withInitial(LifecycleEventCodec::new);
+
+    private final DatumWriter<ApplicationLifecycleEvent> datumWriter =
+            new SpecificDatumWriter<>(ApplicationLifecycleEvent.class);
+    private final DatumReader<ApplicationLifecycleEvent> datumReader =
+            new SpecificDatumReader<>(ApplicationLifecycleEvent.class);
+    private final ByteBufferStreams.Output bufferOutput = new ByteBufferStreams.Output();
+    private final ByteBufferStreams.Input bufferInput = new ByteBufferStreams.Input();
+    private ReusableByteArrayOutputStream outputStream = new ReusableByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+    private BinaryEncoder binaryEncoder;
+    private BinaryEncoder directEncoder;
+    private BinaryDecoder binaryDecoder;
+    private BinaryDecoder directDecoder;
+
+    public LifecycleEventCodec() {
+    }
+
+    /**
+     * Returns the codec confined to the calling thread.
+     */
+    public static LifecycleEventCodec get() {
+        return CODECS.get();
+    }
+
+    public byte[] serialize(ApplicationLifecycleEvent event) throws IOException {
+        if (outputStream.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+            outputStream = new ReusableByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        } else {
+            outputStream.reset();
+        }
+        binaryEncoder = EncoderFactory.get().binaryEncoder(outputStream, binaryEncoder);
+        try {
+            datumWriter.write(event, binaryEncoder);
+            binaryEncoder.flush();
+        } catch (IOException | RuntimeException e) {
+            // The buffered encoder still holds the partial datum; reusing it would prepend those
+            // bytes to the next event
+            binaryEncoder = null;
+            throw e;
+        }
+        return outputStream.toByteArray();
+    }
+
+    public ApplicationLifecycleEvent deserialize(byte[] data, ApplicationLifecycleEvent reuse) throws IOException {
+        return deserialize(data, 0, data.length, reuse);
+    }
+
+    public ApplicationLifecycleEvent deserialize(byte[] data, int offset, int length,
+            ApplicationLifecycleEvent reuse) throws IOException {
+        binaryDecoder = DecoderFactory.get().binaryDecoder(data, offset, length, binaryDecoder);
+        return datumReader.read(reuse, binaryDecoder);
+    }
+
+    /**
+     * Encodes {@code event} straight into {@code buffer}, starting at its position, which is
+     * advanced past the written bytes.
+     *
+     * @return the number of bytes written
+     * @throws BufferOverflowException if the event does not fit; the buffer position is left
+     *                                 unchanged
+     */
+    public int serializeInto(ApplicationLifecycleEvent event, ByteBuffer buffer) throws IOException {
+        int start = buffer.position();
+        try {
+            directEncoder = EncoderFactory.get().directBinaryEncoder(bufferOutput.wrap(buffer), directEncoder);
+            datumWriter.write(event, directEncoder);
+            return buffer.position() - start;
+        } catch (BufferOverflowException e) {
+            buffer.position(start);
+            throw e;
+        } finally {
+            bufferOutput.wrap(null);
+        }
+    }
+
+    /**
+     * Decodes one event from {@code buffer}, starting at its position, which is advanced past
+     * the consumed bytes. Heap buffers are decoded in place from their backing array.
+     */
+    public ApplicationLifecycleEvent deserializeFrom(ByteBuffer buffer, ApplicationLifecycleEvent reuse)
+            throws IOException {
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset() + buffer.position();
+            ApplicationLifecycleEvent result = deserialize(buffer.array(), offset, buffer.remaining(), reuse);
+            buffer.position(buffer.limit() - binaryDecoder.inputStream().available());
+            return result;
+        }
+        try {
+            directDecoder = DecoderFactory.get().directBinaryDecoder(bufferInput.wrap(buffer), directDecoder);
+            return datumReader.read(reuse, directDecoder);
+        } finally {
+            bufferInput.wrap(null);
+        }
+    }
+
+    private static final class ReusableByteArrayOutputStream extends ByteArrayOutputStream {
+        ReusableByteArrayOutputStream(int size) {
+            super(size);
+        }
+
+        int capacity() {
+            return buf.length;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.tbw.security.securityevents.codec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.specific.SpecificDatumReader;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+
+/**
+ * Reads a file or stream of binary {@link ApplicationLifecycleEvent}s written back to back, as
+ * produced by {@link LifecycleEventCodec#serialize} or {@link LifecycleEventCodec#serializeInto},
+ * e.g. an incident-response dump.
+ * <p>
+ * A single buffered {@link BinaryDecoder} reads straight from the underlying stream or channel,
+ * so memory use does not depend on the file size. With record reuse enabled (the default) the
+ * same event instance, including its header and body records, is refilled for every event:
+ * consumers must copy anything they keep, e.g. with {@code ApplicationLifecycleEvent.newBuilder(event).build()}.
+ * <p>
+ * Instances are NOT thread-safe.
+ */
+public class LifecycleEventStreamReader implements Iterator<ApplicationLifecycleEvent>, Closeable {
+
+    /** Decoder buffer size; large reads keep per-byte overhead low on multi-GB files. */
+    static final int BUFFER_SIZE = 256 * 1024;
+
+    private final InputStream input;
+    private final boolean reuseRecords;
+    private final BinaryDecoder decoder;
+    private final SpecificDatumReader<ApplicationLifecycleEvent> datumReader =
+            new SpecificDatumReader<>(ApplicationLifecycleEvent.class);
+    private ApplicationLifecycleEvent current;
+    private long eventCount;
+
+    private LifecycleEventStreamReader(InputStream input, boolean reuseRecords) {
+        this.input = input;
+        this.reuseRecords = reuseRecords;
+        this.decoder = new DecoderFactory().configureDecoderBufferSize(BUFFER_SIZE).binaryDecoder(input, null);
+    }
+
+    public static LifecycleEventStreamReader open(Path file) throws IOException {
+        return of(FileChannel.open(file, StandardOpenOption.READ), true);
+    }
+
+    /**
+     * @param reuseRecords whether each event is decoded into the previous event's instance
+     */
+    public static LifecycleEventStreamReader of(ReadableByteChannel channel, boolean reuseRecords) {
+        return of(Channels.newInputStream(channel), reuseRecords);
+    }
+
+    /**
+     * @param reuseRecords whether each event is decoded into the previous event's instance
+     */
+    public static LifecycleEventStreamReader of(InputStream input, boolean reuseRecords) {
+        return new LifecycleEventStreamReader(input, reuseRecords);
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            return !decoder.isEnd();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public ApplicationLifecycleEvent next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            return read();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode event " + eventCount, e);
+        }
+    }
+
+    private ApplicationLifecycleEvent read() throws IOException {
+        current = datumReader.read(reuseRecords ? current : null, decoder);
+        eventCount++;
+        return current;
+    }
+
+    /**
+     * Passes every remaining event to {@code handler}.
+     *
+     * @return the number of events read
+     */
+    public long forEachEvent(Consumer<? super ApplicationLifecycleEvent> handler) throws IOException {
+        long start = eventCount;
+        while (!decoder.isEnd()) {
+            handler.accept(read());
+        }
+        return eventCount - start;
+    }
+
+    /**
+     * The remaining events as a sequential stream; closing the stream closes this reader.
+     */
+    public Stream<ApplicationLifecycleEvent> stream() {
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    /** Number of events read so far. */
+    public long getEventCount() {
+        return eventCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+}
@@ -0,0 +1,254 @@
+package com.tbw.security.securityevents.columnar;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.avro.Schema;
+import org.apache.avro.specific.SpecificRecord;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.EventHeader;
+import com.tbw.security.securityevents.SecurityEvent;
+
+/**
+ * In-process columnar store of {@link ApplicationLifecycleEvent}s for ad-hoc analyst queries
+ * such as "count AUTHENTICATION_FAILURE by client_ip in the last hour".
+ * <p>
+ * Events are kept column by column in fixed-capacity chunks of primitive arrays: timestamps as
+ * {@code long}s, enums (severity, body type, security event type, threat level) as ordinal
+ * {@code byte}s and hosts, users, client IPs and resources as dictionary codes. Chunks are grouped
+ * into time partitions, so a query only scans the partitions and chunks its time range overlaps,
+ * and whole partitions are dropped once they fall out of the retention window, together with
+ * dictionary entries no retained row uses. Queries narrow a selection vector of row indices one
+ * column at a time in tight loops over the arrays.
+ * <p>
+ * Only the columns above are stored; other fields, tags and metrics are discarded. Appends and
+ * queries are thread-safe; appends are serialized, queries run concurrently with each other.
+ */
+public class ColumnarEventStore {
+
+    static final Schema BODY_UNION = ApplicationLifecycleEvent.getClassSchema().getField("body").schema();
+    private static final int UNMAPPED = -2;
+
+    private final long partitionMillis;
+    private final long retentionMillis;
+    private final int chunkCapacity;
+    private final NavigableMap<Long, List<EventChunk>> partitions = new TreeMap<>();
+    private final Map<EventColumn, StringDictionary> dictionaries = new EnumMap<>(EventColumn.class);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long newestTimestamp = Long.MIN_VALUE;
+    private long size;
+
+    /**
+     * Hourly partitions of 64Ki-row chunks, retained for a day.
+     */
+    public ColumnarEventStore() {
+        this(Duration.ofHours(1), Duration.ofDays(1), 64 * 1024);
+    }
+
+    /**
+     * @param partitionSize time span of each partition
+     * @param retention     partitions older than this, relative to the newest event, are dropped
+     * @param chunkCapacity rows per chunk
+     */
+    public ColumnarEventStore(Duration partitionSize, Duration retention, int chunkCapacity) {
+        if (partitionSize.toMillis() < 1 || chunkCapacity < 1) {
+            throw new IllegalArgumentException("partitionSize and chunkCapacity must be positive");
+        }
+        this.partitionMillis = partitionSize.toMillis();
+        this.retentionMillis = retention.toMillis();
+        this.chunkCapacity = chunkCapacity;
+        for (EventColumn column : EventColumn.values()) {
+            if (column.isDictionaryEncoded()) {
+                dictionaries.put(column, new StringDictionary());
+            }
+        }
+    }
+
+    public void append(ApplicationLifecycleEvent event) {
+        lock.writeLock().lock();
+        try {
+            appendLocked(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void appendAll(Iterable<ApplicationLifecycleEvent> events) {
+        lock.writeLock().lock();
+        try {
+            for (ApplicationLifecycleEvent event : events) {
+                appendLocked(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void appendLocked(ApplicationLifecycleEvent event) {
+        EventHeader header = event.getHeader();
+        long timestamp = header.getTimestamp().toEpochMilli();
+        Object body = event.getBody();
+        byte bodyType = (byte) bodyIndex(((SpecificRecord) body).getSchema().getFullName());
+        List<EventChunk> chunks = partitions.computeIfAbsent(Math.floorDiv(timestamp, partitionMillis),
+                ignored -> new ArrayList<>());
+        EventChunk chunk = chunks.isEmpty() ? null : chunks.get(chunks.size() - 1);
+        if (chunk == null || chunk.isFull()) {
+            chunk = new EventChunk(chunkCapacity);
+            chunks.add(chunk);
+        }
+
+        int row = chunk.size++;
+        chunk.timestamps[row] = timestamp;
+        chunk.minTimestamp = Math.min(chunk.minTimestamp, timestamp);
+        chunk.maxTimestamp = Math.max(chunk.maxTimestamp, timestamp);
+        chunk.severities[row] = (byte) header.getSeverity().ordinal();
+        chunk.sourceHosts[row] = dictionaries.get(EventColumn.SOURCE_HOST).encode(header.getSourceHost());
+        chunk.userIds[row] = dictionaries.get(EventColumn.USER_ID).encode(header.getUserId());
+        chunk.bodyTypes[row] = bodyType;
+        if (body instanceof SecurityEvent securityEvent) {
+            chunk.securityEventTypes[row] = (byte) securityEvent.getEventType().ordinal();
+            chunk.threatLevels[row] = (byte) securityEvent.getThreatLevel().ordinal();
+            chunk.clientIps[row] = dictionaries.get(EventColumn.CLIENT_IP).encode(securityEvent.getClientIp());
+            chunk.resources[row] = dictionaries.get(EventColumn.RESOURCE).encode(securityEvent.getResource());
+        } else {
+            chunk.securityEventTypes[row] = -1;
+            chunk.threatLevels[row] = -1;
+            chunk.clientIps[row] = StringDictionary.NULL_CODE;
+            chunk.resources[row] = StringDictionary.NULL_CODE;
+        }
+        size++;
+
+        if (timestamp > newestTimestamp) {
+            newestTimestamp = timestamp;
+            evictBeforeLocked(newestTimestamp - retentionMillis);
+        }
+    }
+
+    /**
+     * Position of the body type {@code fullName} in the {@code body} union.
+     *
+     * @throws IllegalArgumentException if the union has no such branch
+     */
+    static int bodyIndex(String fullName) {
+        Integer index = BODY_UNION.getIndexNamed(fullName);
+        if (index == null) {
+            throw new IllegalArgumentException(fullName + " is not a body type of ApplicationLifecycleEvent");
+        }
+        return index;
+    }
+
+    /**
+     * Drops every partition that lies entirely before {@code cutoff}, and the dictionary entries
+     * only those partitions used.
+     */
+    public void evictBefore(Instant cutoff) {
+        lock.writeLock().lock();
+        try {
+            evictBeforeLocked(cutoff.toEpochMilli());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void evictBeforeLocked(long cutoffMillis) {
+        Iterator<Map.Entry<Long, List<EventChunk>>> iterator =
+                partitions.headMap(Math.floorDiv(cutoffMillis, partitionMillis), false).entrySet().iterator();
+        if (!iterator.hasNext()) {
+            return;
+        }
+        while (iterator.hasNext()) {
+            for (EventChunk chunk : iterator.next().getValue()) {
+                size -= chunk.size;
+            }
+            iterator.remove();
+        }
+        rebuildDictionariesLocked();
+    }
+
+    /**
+     * Re-encodes the retained rows into fresh dictionaries, so values seen only in evicted
+     * partitions are released. Runs once per eviction, which drops at least a whole partition.
+     */
+    private void rebuildDictionariesLocked() {
+        for (Map.Entry<EventColumn, StringDictionary> entry : dictionaries.entrySet()) {
+            StringDictionary old = entry.getValue();
+            StringDictionary rebuilt = new StringDictionary();
+            int[] remap = new int[old.size()];
+            Arrays.fill(remap, UNMAPPED);
+            for (List<EventChunk> partition : partitions.values()) {
+                for (EventChunk chunk : partition) {
+                    int[] codes = chunk.intColumn(entry.getKey());
+                    for (int row = 0; row < chunk.size; row++) {
+                        int code = codes[row];
+                        if (code >= 0) {
+                            if (remap[code] == UNMAPPED) {
+                                remap[code] = rebuilt.encode(old.decode(code));
+                            }
+                            codes[row] = remap[code];
+                        }
+                    }
+                }
+            }
+            entry.setValue(rebuilt);
+        }
+    }
+
+    /** Number of events currently held. */
+    public long size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Starts a query over all retained events; narrow it with the query's filter methods. */
+    public EventQuery query() {
+        return new EventQuery(this);
+    }
+
+    // Used by EventQuery, which holds the read lock while scanning
+
+    ReadWriteLock lock() {
+        return lock;
+    }
+
+    int chunkCapacity() {
+        return chunkCapacity;
+    }
+
+    StringDictionary dictionary(EventColumn column) {
+        return dictionaries.get(column);
+    }
+
+    /** Chunks of the partitions overlapping {@code [from, to)}, oldest first. */
+    List<EventChunk> chunks(long from, long to) {
+        List<EventChunk> chunks = new ArrayList<>();
+        if (from >= to) {
+            return chunks;
+        }
+        Long first = partitions.floorKey(Math.floorDiv(from, partitionMillis));
+        long fromKey = first != null ? first : Long.MIN_VALUE;
+        long toKey = to == Long.MAX_VALUE ? Long.MAX_VALUE : Math.floorDiv(to - 1, partitionMillis);
+        for (List<EventChunk> partition : partitions.subMap(fromKey, true, toKey, true).values()) {
+            for (EventChunk chunk : partition) {
+                if (chunk.maxTimestamp >= from && chunk.minTimestamp < to) {
+                    chunks.add(chunk);
+                }
+            }
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,112 @@
+package com.tbw.security.securityevents.columnar;
+
+/**
+ * A fixed-capacity slice of a {@link ColumnarEventStore} partition. Every column is a primitive
+ * array indexed by row; enum columns hold ordinals and string columns dictionary codes, with
+ * {@code -1} for null.
+ */
+final class EventChunk {
+
+    final long[] timestamps;
+    final byte[] severities;
+    final byte[] bodyTypes;
+    final byte[] securityEventTypes;
+    final byte[] threatLevels;
+    final int[] sourceHosts;
+    final int[] userIds;
+    final int[] clientIps;
+    final int[] resources;
+    int size;
+    long minTimestamp = Long.MAX_VALUE;
+    long maxTimestamp = Long.MIN_VALUE;
+
+    EventChunk(int capacity) {
+        timestamps = new long[capacity];
+        severities = new byte[capacity];
+        bodyTypes = new byte[capacity];
+        securityEventTypes = new byte[capacity];
+        threatLevels = new byte[capacity];
+        sourceHosts = new int[capacity];
+        userIds = new int[capacity];
+        clientIps = new int[capacity];
+        resources = new int[capacity];
+    }
+
+    boolean isFull() {
+        return size == timestamps.length;
+    }
+
+    int capacity() {
+        return timestamps.length;
+    }
+
+    /** The enum ordinal column for {@code column}. */
+    byte[] byteColumn(EventColumn column) {
+        return switch (column) {
+            case SEVERITY -> severities;
+            case BODY_TYPE -> bodyTypes;
+            case SECURITY_EVENT_TYPE -> securityEventTypes;
+            case THREAT_LEVEL -> threatLevels;
+            default -> throw new IllegalArgumentException(column + " is dictionary encoded");
+        };
+    }
+
+    /** The dictionary code column for {@code column}. */
+    int[] intColumn(EventColumn column) {
+        return switch (column) {
+            case SOURCE_HOST -> sourceHosts;
+            case USER_ID -> userIds;
+            case CLIENT_IP -> clientIps;
+            case RESOURCE -> resources;
+            default -> throw new IllegalArgumentException(column + " is not dictionary encoded");
+        };
+    }
+
+    /**
+     * Writes the rows with a timestamp in {@code [from, to)} into {@code selection}.
+     *
+     * @return the number of selected rows
+     */
+    int selectTimeRange(long from, long to, int[] selection) {
+        int selected = 0;
+        if (minTimestamp >= from && maxTimestamp < to) {
+            for (int row = 0; row < size; row++) {
+                selection[selected++] = row;
+            }
+            return selected;
+        }
+        long[] column = timestamps;
+        for (int row = 0; row < size; row++) {
+            long timestamp = column[row];
+            if (timestamp >= from && timestamp < to) {
+                selection[selected++] = row;
+            }
+        }
+        return selected;
+    }
+
+    /** Keeps the selected rows whose ordinal is allowed by {@code mask}. */
+    static int filter(byte[] column, boolean[] mask, int[] selection, int selected) {
+        int kept = 0;
+        for (int i = 0; i < selected; i++) {
+            int row = selection[i];
+            int ordinal = column[row];
+            if (ordinal >= 0 && mask[ordinal]) {
+                selection[kept++] = row;
+            }
+        }
+        return kept;
+    }
+
+    /** Keeps the selected rows whose code equals {@code code}. */
+    static int filter(int[] column, int code, int[] selection, int selected) {
+        int kept = 0;
+        for (int i = 0; i < selected; i++) {
+            int row = selection[i];
+            if (column[row] == code) {
+                selection[kept++] = row;
+            }
+        }
+        return kept;
+    }
+}
@@ -0,0 +1,33 @@
+package com.tbw.security.securityevents.columnar;
+
+/**
+ * Columns of a {@link ColumnarEventStore} that queries can filter on and group by.
+ */
+public enum EventColumn {
+    /** {@code header.source_host}, dictionary encoded. */
+    SOURCE_HOST(true),
+    /** {@code header.user_id}, dictionary encoded. */
+    USER_ID(true),
+    /** {@code SecurityEvent.client_ip}, dictionary encoded; null for other bodies. */
+    CLIENT_IP(true),
+    /** {@code SecurityEvent.resource}, dictionary encoded; null for other bodies. */
+    RESOURCE(true),
+    /** {@code header.severity} ordinal. */
+    SEVERITY(false),
+    /** Position of the body type in the {@code body} union. */
+    BODY_TYPE(false),
+    /** {@code SecurityEvent.event_type} ordinal; null for other bodies. */
+    SECURITY_EVENT_TYPE(false),
+    /** {@code SecurityEvent.threat_level} ordinal; null for other bodies. */
+    THREAT_LEVEL(false);
+
+    private final boolean dictionaryEncoded;
+
+    EventColumn(boolean dictionaryEncoded) {
+        this.dictionaryEncoded = dictionaryEncoded;
+    }
+
+    boolean isDictionaryEncoded() {
+        return dictionaryEncoded;
+    }
+}
@@ -0,0 +1,243 @@
+package com.tbw.security.securityevents.columnar;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import org.apache.avro.Schema;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificRecord;
+
+import com.tbw.security.securityevents.SecurityEventType;
+import com.tbw.security.securityevents.Severity;
+import com.tbw.security.securityevents.ThreatLevel;
+
+/**
+ * A filter over a {@link ColumnarEventStore}, finished by {@link #count()} or
+ * {@link #countBy(EventColumn)}. Filters are combined with AND. For example:
+ *
+ * <pre>{@code
+ * store.query()
+ *     .since(Instant.now().minus(Duration.ofHours(1)))
+ *     .securityEventType(SecurityEventType.AUTHENTICATION_FAILURE)
+ *     .countBy(EventColumn.CLIENT_IP);
+ * }</pre>
+ *
+ * A query can be run more than once, each time seeing the store's current contents.
+ */
+public class EventQuery {
+
+    private final ColumnarEventStore store;
+    private long from = Long.MIN_VALUE;
+    private long to = Long.MAX_VALUE;
+    private final Map<EventColumn, boolean[]> ordinalMasks = new EnumMap<>(EventColumn.class);
+    private final Map<EventColumn, String> equalities = new EnumMap<>(EventColumn.class);
+
+    EventQuery(ColumnarEventStore store) {
+        this.store = store;
+    }
+
+    /** Only events with a timestamp in {@code [from, to)}. */
+    public EventQuery between(Instant from, Instant to) {
+        this.from = from.toEpochMilli();
+        this.to = to.toEpochMilli();
+        return this;
+    }
+
+    /** Only events at or after {@code from}. */
+    public EventQuery since(Instant from) {
+        this.from = from.toEpochMilli();
+        return this;
+    }
+
+    public EventQuery severity(Severity... severities) {
+        boolean[] mask = new boolean[Severity.values().length];
+        for (Severity severity : severities) {
+            mask[severity.ordinal()] = true;
+        }
+        ordinalMasks.put(EventColumn.SEVERITY, mask);
+        return this;
+    }
+
+    /**
+     * Only events whose body is of {@code bodyType}, e.g. {@code SecurityEvent.class}.
+     *
+     * @throws IllegalArgumentException if {@code bodyType} is not a body type of the event
+     */
+    public EventQuery bodyType(Class<? extends SpecificRecord> bodyType) {
+        boolean[] mask = new boolean[ColumnarEventStore.BODY_UNION.getTypes().size()];
+        mask[ColumnarEventStore.bodyIndex(SpecificData.get().getSchema(bodyType).getFullName())] = true;
+        ordinalMasks.put(EventColumn.BODY_TYPE, mask);
+        return this;
+    }
+
+    public EventQuery securityEventType(SecurityEventType... types) {
+        boolean[] mask = new boolean[SecurityEventType.values().length];
+        for (SecurityEventType type : types) {
+            mask[type.ordinal()] = true;
+        }
+        ordinalMasks.put(EventColumn.SECURITY_EVENT_TYPE, mask);
+        return this;
+    }
+
+    public EventQuery threatLevelAtLeast(ThreatLevel minimum) {
+        boolean[] mask = new boolean[ThreatLevel.values().length];
+        for (int ordinal = minimum.ordinal(); ordinal < mask.length; ordinal++) {
+            mask[ordinal] = true;
+        }
+        ordinalMasks.put(EventColumn.THREAT_LEVEL, mask);
+        return this;
+    }
+
+    /** Only events whose dictionary-encoded {@code column} equals {@code value}. */
+    public EventQuery where(EventColumn column, String value) {
+        if (!column.isDictionaryEncoded()) {
+            throw new IllegalArgumentException("Use the typed filter for " + column);
+        }
+        equalities.put(column, value);
+        return this;
+    }
+
+    /** Number of matching events. */
+    public long count() {
+        long count = 0;
+        store.lock().readLock().lock();
+        try {
+            int[] selection = new int[store.chunkCapacity()];
+            int[] codes = codes();
+            if (codes == null) {
+                return 0;
+            }
+            for (EventChunk chunk : store.chunks(from, to)) {
+                count += select(chunk, codes, selection);
+            }
+        } finally {
+            store.lock().readLock().unlock();
+        }
+        return count;
+    }
+
+    /**
+     * Number of matching events per value of {@code column}, largest count first. Events whose
+     * value is null (e.g. the client IP of a non-security event) are not counted.
+     */
+    public Map<String, Long> countBy(EventColumn column) {
+        store.lock().readLock().lock();
+        try {
+            // Codes are only stable while the read lock keeps eviction from rebuilding dictionaries
+            StringDictionary dictionary = column.isDictionaryEncoded() ? store.dictionary(column) : null;
+            String[] labels = dictionary == null ? labels(column) : null;
+            long[] counts = new long[dictionary != null ? dictionary.size() : labels.length];
+            int[] selection = new int[store.chunkCapacity()];
+            int[] codes = codes();
+            if (codes != null) {
+                for (EventChunk chunk : store.chunks(from, to)) {
+                    int selected = select(chunk, codes, selection);
+                    if (dictionary != null) {
+                        int[] values = chunk.intColumn(column);
+                        for (int i = 0; i < selected; i++) {
+                            int code = values[selection[i]];
+                            if (code >= 0) {
+                                counts[code]++;
+                            }
+                        }
+                    } else {
+                        byte[] values = chunk.byteColumn(column);
+                        for (int i = 0; i < selected; i++) {
+                            int ordinal = values[selection[i]];
+                            if (ordinal >= 0) {
+                                counts[ordinal]++;
+                            }
+                        }
+                    }
+                }
+            }
+            return byCount(counts, dictionary != null ? dictionary::decode : code -> labels[code]);
+        } finally {
+            store.lock().readLock().unlock();
+        }
+    }
+
+    /** The non-zero counts keyed by label, largest first; only those are sorted. */
+    private static Map<String, Long> byCount(long[] counts, IntFunction<String> label) {
+        int nonZero = 0;
+        for (long count : counts) {
+            if (count > 0) {
+                nonZero++;
+            }
+        }
+        Integer[] order = new Integer[nonZero];
+        int next = 0;
+        for (int index = 0; index < counts.length; index++) {
+            if (counts[index] > 0) {
+                order[next++] = index;
+            }
+        }
+        Arrays.sort(order, Comparator.comparingLong((Integer i) -> counts[i]).reversed());
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (int index : order) {
+            result.put(label.apply(index), counts[index]);
+        }
+        return result;
+    }
+
+    /** Names of the ordinals of an enum-like column. */
+    private static String[] labels(EventColumn column) {
+        return switch (column) {
+            case SEVERITY -> names(Severity.values());
+            case SECURITY_EVENT_TYPE -> names(SecurityEventType.values());
+            case THREAT_LEVEL -> names(ThreatLevel.values());
+            case BODY_TYPE -> ColumnarEventStore.BODY_UNION.getTypes().stream()
+                    .map(Schema::getName)
+                    .toArray(String[]::new);
+            default -> throw new IllegalArgumentException(column + " is dictionary encoded");
+        };
+    }
+
+    private static String[] names(Enum<?>[] constants) {
+        String[] names = new String[constants.length];
+        for (Enum<?> constant : constants) {
+            names[constant.ordinal()] = constant.name();
+        }
+        return names;
+    }
+
+    /**
+     * Dictionary codes of the equality filters, in {@link #equalities} order, or {@code null}
+     * if a value was never stored and nothing can match.
+     */
+    private int[] codes() {
+        int[] codes = new int[equalities.size()];
+        int i = 0;
+        for (Map.Entry<EventColumn, String> equality : equalities.entrySet()) {
+            int code = store.dictionary(equality.getKey()).lookup(equality.getValue());
+            if (code == StringDictionary.NULL_CODE) {
+                return null;
+            }
+            codes[i++] = code;
+        }
+        return codes;
+    }
+
+    private int select(EventChunk chunk, int[] codes, int[] selection) {
+        int selected = chunk.selectTimeRange(from, to, selection);
+        for (Map.Entry<EventColumn, boolean[]> mask : ordinalMasks.entrySet()) {
+            if (selected == 0) {
+                return 0;
+            }
+            selected = EventChunk.filter(chunk.byteColumn(mask.getKey()), mask.getValue(), selection, selected);
+        }
+        int i = 0;
+        for (EventColumn column : equalities.keySet()) {
+            if (selected == 0) {
+                return 0;
+            }
+            selected = EventChunk.filter(chunk.intColumn(column), codes[i++], selection, selected);
+        }
+        return selected;
+    }
+}
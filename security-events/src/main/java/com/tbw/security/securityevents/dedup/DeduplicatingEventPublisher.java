@@ -0,0 +1,253 @@
+package com.tbw.security.securityevents.dedup;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.publisher.EventPublisher;
+
+/**
+ * Suppresses repeats of the same event, e.g. from a flapping service or a noisy scanner, in
+ * front of another publisher. Events are identified by their {@link EventContentHasher content
+ * hash}, so repeats that differ only in event ID, timestamp or metrics are recognized.
+ * <p>
+ * The first occurrence is forwarded. Repeats within the TTL are counted instead, and at most
+ * once per summary interval the latest repeat is forwarded as a summary, with the number of
+ * repeats it stands for in the {@value #SUPPRESSED_COUNT_METRIC} metric. Once the TTL has passed
+ * since the first occurrence, the next occurrence is forwarded as a new first occurrence. Repeats
+ * that are still unreported when their entry expires or is evicted, or when
+ * {@link #publishSummaries} or {@link #flush()} is called, are reported then, so no count is lost.
+ * <p>
+ * Entries live in a fixed-size table of {@value #WAYS}-way sets keyed by the hash. When a set is
+ * full, an expired entry is reused first, otherwise the least frequently repeated one, so
+ * persistent floods stay suppressed while one-off events are recycled. Times are event times
+ * ({@code header.timestamp}). Updates lock one of {@value #STRIPES} stripes.
+ */
+public class DeduplicatingEventPublisher implements EventPublisher {
+
+    public static final String SUPPRESSED_COUNT_METRIC = "suppressed_count";
+
+    static final int WAYS = 8;
+    private static final int STRIPES = 64;
+
+    private final EventPublisher delegate;
+    private final long ttlMillis;
+    private final long summaryIntervalMillis;
+    private final int sets;
+    private final Object[] locks = new Object[STRIPES];
+
+    private final long[] hashes;
+    private final long[] firstSeen;
+    private final long[] lastSummary;
+    private final int[] frequencies;
+    private final int[] suppressedCounts;
+    private final ApplicationLifecycleEvent[] lastRepeats;
+
+    private final LongAdder forwardedCount = new LongAdder();
+    private final LongAdder suppressedCount = new LongAdder();
+    private final LongAdder summaryCount = new LongAdder();
+
+    private DeduplicatingEventPublisher(Builder builder) {
+        this.delegate = Objects.requireNonNull(builder.delegate, "delegate");
+        this.ttlMillis = builder.ttl.toMillis();
+        this.summaryIntervalMillis = builder.summaryInterval.toMillis();
+        int slots = Integer.highestOneBit(Math.max(builder.capacity, WAYS) - 1) << 1;
+        this.sets = slots / WAYS;
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        hashes = new long[slots];
+        firstSeen = new long[slots];
+        lastSummary = new long[slots];
+        frequencies = new int[slots];
+        suppressedCounts = new int[slots];
+        lastRepeats = new ApplicationLifecycleEvent[slots];
+    }
+
+    /**
+     * @param delegate receives first occurrences and summaries
+     */
+    public static Builder newBuilder(EventPublisher delegate) {
+        return new Builder(delegate);
+    }
+
+    @Override
+    public void publish(ApplicationLifecycleEvent event) throws Exception {
+        long hash = EventContentHasher.get().hash(event);
+        if (hash == 0) {
+            hash = 1;
+        }
+        long now = event.getHeader().getTimestamp().toEpochMilli();
+        int set = (int) (hash >>> 32) & (sets - 1);
+        ApplicationLifecycleEvent repeat = null;
+        int repeats = 0;
+        boolean forward;
+        synchronized (locks[set & (STRIPES - 1)]) {
+            int slot = find(set * WAYS, hash);
+            if (slot >= 0 && now - firstSeen[slot] < ttlMillis) {
+                forward = false;
+                suppressedCount.increment();
+                suppressedCounts[slot]++;
+                lastRepeats[slot] = event;
+                if (frequencies[slot] < Integer.MAX_VALUE) {
+                    frequencies[slot]++;
+                }
+                if (now - lastSummary[slot] >= summaryIntervalMillis) {
+                    repeat = event;
+                    repeats = takeSuppressed(slot, now);
+                }
+            } else {
+                forward = true;
+                if (slot < 0) {
+                    slot = victim(set * WAYS, now);
+                }
+                repeat = lastRepeats[slot];
+                repeats = takeSuppressed(slot, now);
+                hashes[slot] = hash;
+                firstSeen[slot] = now;
+                frequencies[slot] = 1;
+            }
+        }
+        try {
+            if (repeats > 0) {
+                publishSummary(repeat, repeats);
+            }
+        } finally {
+            // A failed summary must not lose the event itself
+            if (forward) {
+                forwardedCount.increment();
+                delegate.publish(event);
+            }
+        }
+    }
+
+    private int find(int first, long hash) {
+        for (int slot = first; slot < first + WAYS; slot++) {
+            if (hashes[slot] == hash) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /** An empty or expired slot of the set if there is one, otherwise the least frequent. */
+    private int victim(int first, long now) {
+        int victim = first;
+        for (int slot = first; slot < first + WAYS; slot++) {
+            if (hashes[slot] == 0 || now - firstSeen[slot] >= ttlMillis) {
+                return slot;
+            }
+            if (frequencies[slot] < frequencies[victim]) {
+                victim = slot;
+            }
+        }
+        return victim;
+    }
+
+    /** Resets the slot's unreported repeats, returning how many there were. */
+    private int takeSuppressed(int slot, long now) {
+        int repeats = suppressedCounts[slot];
+        suppressedCounts[slot] = 0;
+        lastRepeats[slot] = null;
+        lastSummary[slot] = now;
+        return repeats;
+    }
+
+    private void publishSummary(ApplicationLifecycleEvent repeat, int repeats) throws Exception {
+        Map<String, Double> metrics = new HashMap<>(repeat.getMetrics());
+        metrics.put(SUPPRESSED_COUNT_METRIC, (double) repeats);
+        summaryCount.increment();
+        delegate.publish(new ApplicationLifecycleEvent(repeat.getHeader(), repeat.getBody(), repeat.getTags(), metrics));
+    }
+
+    /**
+     * Publishes a summary for every entry whose repeats have not been reported for at least the
+     * summary interval at {@code nowMillis}, e.g. from a scheduled task so that a flood that
+     * stops is still reported.
+     */
+    public void publishSummaries(long nowMillis) throws Exception {
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            for (int set = stripe; set < sets; set += STRIPES) {
+                for (int slot = set * WAYS; slot < (set + 1) * WAYS; slot++) {
+                    ApplicationLifecycleEvent repeat;
+                    int repeats;
+                    synchronized (locks[stripe]) {
+                        if (suppressedCounts[slot] == 0 || nowMillis - lastSummary[slot] < summaryIntervalMillis) {
+                            continue;
+                        }
+                        repeat = lastRepeats[slot];
+                        repeats = takeSuppressed(slot, nowMillis);
+                    }
+                    publishSummary(repeat, repeats);
+                }
+            }
+        }
+    }
+
+    /** Publishes summaries for all unreported repeats and flushes the delegate. */
+    @Override
+    public void flush() throws Exception {
+        publishSummaries(Long.MAX_VALUE);
+        delegate.flush();
+    }
+
+    @Override
+    public void close() throws Exception {
+        try {
+            publishSummaries(Long.MAX_VALUE);
+        } finally {
+            delegate.close();
+        }
+    }
+
+    /** Number of first occurrences forwarded so far, excluding summaries. */
+    public long getForwardedCount() {
+        return forwardedCount.sum();
+    }
+
+    /** Number of repeats suppressed so far. */
+    public long getSuppressedCount() {
+        return suppressedCount.sum();
+    }
+
+    /** Number of summaries forwarded so far. */
+    public long getSummaryCount() {
+        return summaryCount.sum();
+    }
+
+    public static class Builder {
+        private final EventPublisher delegate;
+        private Duration ttl = Duration.ofMinutes(5);
+        private Duration summaryInterval = Duration.ofMinutes(1);
+        private int capacity = 64 * 1024;
+
+        private Builder(EventPublisher delegate) {
+            this.delegate = delegate;
+        }
+
+        /** How long after a first occurrence repeats are suppressed; defaults to five minutes. */
+        public Builder setTtl(Duration ttl) {
+            this.ttl = Objects.requireNonNull(ttl, "ttl");
+            return this;
+        }
+
+        /** Minimum time between summaries of one event; defaults to one minute. */
+        public Builder setSummaryInterval(Duration summaryInterval) {
+            this.summaryInterval = Objects.requireNonNull(summaryInterval, "summaryInterval");
+            return this;
+        }
+
+        /** Maximum number of distinct events tracked; defaults to 65536. */
+        public Builder setCapacity(int capacity) {
+            this.capacity = capacity;
+            return this;
+        }
+
+        public DeduplicatingEventPublisher build() {
+            return new DeduplicatingEventPublisher(this);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.tbw.security.securityevents.dedup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumWriter;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.EventHeader;
+
+/**
+ * Hashes the content of an {@link ApplicationLifecycleEvent}: {@link XxHash64} over the binary
+ * Avro encoding of the event with its per-occurrence fields blanked. Events that differ only in
+ * {@code event_id}, {@code event_id_bytes}, {@code timestamp} or {@code metrics} hash alike;
+ * any other difference in header, body or tags gives a different hash. Tags are hashed in key
+ * order, so equal tag maps hash alike whatever their iteration order.
+ * <p>
+ * The event is not modified; its fields are copied by reference into a scratch event that is
+ * encoded into a reused buffer. Instances are NOT thread-safe. Use {@link #get()} to obtain the
+ * instance confined to the calling thread.
+ */
+public final class EventContentHasher {
+
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+    private static final int INITIAL_BUFFER_SIZE = 512;
+
+    private static final ThreadLocal<EventContentHasher> HASHERS = ThreadLocal.withInitial(EventContentHasher::new);
+
+    private final DatumWriter<ApplicationLifecycleEvent> datumWriter =
+            new SpecificDatumWriter<>(ApplicationLifecycleEvent.class);
+    private final EventHeader header = new EventHeader();
+    private final ApplicationLifecycleEvent event = new ApplicationLifecycleEvent();
+    private final TreeMap<String, String> sortedTags = new TreeMap<>();
+    private Buffer buffer = new Buffer();
+    private BinaryEncoder encoder;
+
+    public EventContentHasher() {
+        header.setEventId("");
+        header.setTimestamp(Instant.EPOCH);
+        header.setEventIdBytes(null);
+        event.setHeader(header);
+        event.setMetrics(Map.of());
+    }
+
+    /**
+     * Returns the hasher confined to the calling thread.
+     */
+    public static EventContentHasher get() {
+        return HASHERS.get();
+    }
+
+    public long hash(ApplicationLifecycleEvent source) {
+        EventHeader sourceHeader = source.getHeader();
+        header.setEventVersion(sourceHeader.getEventVersion());
+        header.setCorrelationId(sourceHeader.getCorrelationId());
+        header.setTraceId(sourceHeader.getTraceId());
+        header.setApplicationName(sourceHeader.getApplicationName());
+        header.setApplicationVersion(sourceHeader.getApplicationVersion());
+        header.setEnvironment(sourceHeader.getEnvironment());
+        header.setSourceHost(sourceHeader.getSourceHost());
+        header.setSourceInstanceId(sourceHeader.getSourceInstanceId());
+        header.setUserId(sourceHeader.getUserId());
+        header.setSessionId(sourceHeader.getSessionId());
+        header.setSeverity(sourceHeader.getSeverity());
+        event.setBody(source.getBody());
+        event.setTags(sorted(source.getTags()));
+
+        if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+            buffer = new Buffer();
+        } else {
+            buffer.reset();
+        }
+        try {
+            encoder = EncoderFactory.get().directBinaryEncoder(buffer, encoder);
+            datumWriter.write(event, encoder);
+        } catch (IOException e) {
+            // Writing to memory only fails for events that cannot be encoded at all
+            throw new UncheckedIOException(e);
+        } finally {
+            event.setBody(null);
+            event.setTags(null);
+            sortedTags.clear();
+        }
+        return buffer.hash();
+    }
+
+    private Map<String, String> sorted(Map<String, String> tags) {
+        if (tags == null || tags.size() < 2) {
+            return tags;
+        }
+        sortedTags.putAll(tags);
+        return sortedTags;
+    }
+
+    private static final class Buffer extends ByteArrayOutputStream {
+        Buffer() {
+            super(INITIAL_BUFFER_SIZE);
+        }
+
+        int capacity() {
+            return buf.length;
+        }
+
+        long hash() {
+            return XxHash64.hash(buf, 0, count, 0);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.tbw.security.securityevents.detection;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.EventHeader;
+import com.tbw.security.securityevents.SecurityEvent;
+import com.tbw.security.securityevents.SecurityEventType;
+import com.tbw.security.securityevents.Severity;
+import com.tbw.security.securityevents.ThreatLevel;
+import com.tbw.security.securityevents.id.EventIdGenerator;
+import com.tbw.security.securityevents.id.EventIds;
+import com.tbw.security.securityevents.id.UuidV7EventIdGenerator;
+import com.tbw.security.securityevents.publisher.EventPublisher;
+
+/**
+ * Detects bursts of {@link SecurityEventType#AUTHENTICATION_FAILURE} events per
+ * {@code client_ip} and per {@code resource} as they are published, and publishes a
+ * {@link SecurityEventType#SUSPICIOUS_ACTIVITY} event to the alert publisher when a key's
+ * failure count over the sliding window reaches a threshold.
+ * <p>
+ * Each threshold maps to a {@link ThreatLevel}; a key is reported once per level it escalates
+ * to, and again only after a whole window without failures. The alert copies the triggering
+ * event's header with a new event ID and a severity matching the threat level, carries the
+ * dimension in the {@code detector.dimension} tag and the window count in the
+ * {@code failure_count} metric.
+ * <p>
+ * Windows are measured in event time ({@code header.timestamp}). Counts are kept in
+ * preallocated tables of bounded size (see {@link SlidingWindowCounter}), so counting allocates
+ * nothing and memory does not grow with the number of attacking IPs; only alerts allocate.
+ * The detector is thread-safe and is usually placed in front of, or alongside, the regular
+ * publishers.
+ */
+public class BruteForceDetector implements EventPublisher {
+
+    public static final String DETECTOR_TAG = "detector";
+    public static final String DIMENSION_TAG = "detector.dimension";
+    public static final String FAILURE_COUNT_METRIC = "failure_count";
+    public static final String WINDOW_SECONDS_METRIC = "window_seconds";
+
+    static final String DETECTOR_NAME = "brute-force";
+    static final String CLIENT_IP_DIMENSION = "client_ip";
+    static final String RESOURCE_DIMENSION = "resource";
+
+    private final EventPublisher alertPublisher;
+    private final EventIdGenerator idGenerator;
+    private final double windowSeconds;
+    private final SlidingWindowCounter clientIps;
+    private final ThreatLevel[] clientIpLevels;
+    private final SlidingWindowCounter resources;
+    private final ThreatLevel[] resourceLevels;
+
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder alertCount = new LongAdder();
+
+    private BruteForceDetector(Builder builder) {
+        this.alertPublisher = Objects.requireNonNull(builder.alertPublisher, "alertPublisher");
+        this.idGenerator = builder.idGenerator;
+        this.windowSeconds = builder.window.toMillis() / 1000.0;
+        this.clientIpLevels = builder.clientIpThresholds.keySet().toArray(ThreatLevel[]::new);
+        this.clientIps = new SlidingWindowCounter(builder.capacity, builder.window.toMillis(), builder.buckets,
+                thresholds(builder.clientIpThresholds));
+        this.resourceLevels = builder.resourceThresholds.keySet().toArray(ThreatLevel[]::new);
+        this.resources = new SlidingWindowCounter(builder.capacity, builder.window.toMillis(), builder.buckets,
+                thresholds(builder.resourceThresholds));
+    }
+
+    public static Builder newBuilder(EventPublisher alertPublisher) {
+        return new Builder(alertPublisher);
+    }
+
+    private static int[] thresholds(Map<ThreatLevel, Integer> thresholds) {
+        int[] counts = thresholds.values().stream().mapToInt(Integer::intValue).toArray();
+        for (int i = 1; i < counts.length; i++) {
+            if (counts[i] <= counts[i - 1]) {
+                throw new IllegalArgumentException("Thresholds must increase with the threat level: " + thresholds);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Counts {@code event} if it is an authentication failure and publishes an alert for every
+     * key that escalated. Other events are ignored.
+     */
+    @Override
+    public void publish(ApplicationLifecycleEvent event) throws Exception {
+        if (!(event.getBody() instanceof SecurityEvent failure)
+                || failure.getEventType() != SecurityEventType.AUTHENTICATION_FAILURE) {
+            return;
+        }
+        failureCount.increment();
+        long timestamp = event.getHeader().getTimestamp().toEpochMilli();
+        if (failure.getClientIp() != null) {
+            int count = clientIps.increment(failure.getClientIp(), timestamp);
+            if (count > 0) {
+                alert(event, failure, CLIENT_IP_DIMENSION, clientIpLevels[clientIps.level(count) - 1], count);
+            }
+        }
+        if (failure.getResource() != null) {
+            int count = resources.increment(failure.getResource(), timestamp);
+            if (count > 0) {
+                alert(event, failure, RESOURCE_DIMENSION, resourceLevels[resources.level(count) - 1], count);
+            }
+        }
+    }
+
+    private void alert(ApplicationLifecycleEvent trigger, SecurityEvent failure, String dimension,
+            ThreatLevel level, int count) throws Exception {
+        if (failure.getThreatLevel().compareTo(level) > 0) {
+            level = failure.getThreatLevel();
+        }
+        boolean perClientIp = CLIENT_IP_DIMENSION.equals(dimension);
+        UUID id = idGenerator.nextUuid();
+        EventHeader header = EventHeader.newBuilder(trigger.getHeader())
+                .setEventId(idGenerator.format(id))
+                .setEventIdBytes(EventIds.toBytes(id))
+                .setSeverity(severity(level))
+                .build();
+        SecurityEvent body = new SecurityEvent(
+                SecurityEventType.SUSPICIOUS_ACTIVITY,
+                failure.getResource(),
+                level,
+                perClientIp ? failure.getClientIp() : null,
+                perClientIp ? failure.getUserAgent() : null);
+        alertCount.increment();
+        alertPublisher.publish(new ApplicationLifecycleEvent(header, body,
+                Map.of(DETECTOR_TAG, DETECTOR_NAME, DIMENSION_TAG, dimension),
+                Map.of(FAILURE_COUNT_METRIC, (double) count, WINDOW_SECONDS_METRIC, windowSeconds)));
+    }
+
+    static Severity severity(ThreatLevel level) {
+        return switch (level) {
+            case LOW -> Severity.INFO;
+            case MEDIUM -> Severity.WARN;
+            case HIGH -> Severity.ERROR;
+            case CRITICAL -> Severity.CRITICAL;
+        };
+    }
+
+    @Override
+    public void flush() throws Exception {
+        alertPublisher.flush();
+    }
+
+    /** Number of authentication failures counted so far. */
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    /** Number of {@code SUSPICIOUS_ACTIVITY} events published so far. */
+    public long getAlertCount() {
+        return alertCount.sum();
+    }
+
+    public static class Builder {
+        private final EventPublisher alertPublisher;
+        private EventIdGenerator idGenerator = new UuidV7EventIdGenerator();
+        private Duration window = Duration.ofMinutes(1);
+        private int buckets = 12;
+        private int capacity = 64 * 1024;
+        private final Map<ThreatLevel, Integer> clientIpThresholds = new EnumMap<>(Map.of(
+                ThreatLevel.MEDIUM, 10, ThreatLevel.HIGH, 50, ThreatLevel.CRITICAL, 250));
+        private final Map<ThreatLevel, Integer> resourceThresholds = new EnumMap<>(Map.of(
+                ThreatLevel.MEDIUM, 100, ThreatLevel.HIGH, 500, ThreatLevel.CRITICAL, 2500));
+
+        private Builder(EventPublisher alertPublisher) {
+            this.alertPublisher = alertPublisher;
+        }
+
+        public Builder setIdGenerator(EventIdGenerator idGenerator) {
+            this.idGenerator = Objects.requireNonNull(idGenerator, "idGenerator");
+            return this;
+        }
+
+        /** Length of the sliding window; defaults to one minute. */
+        public Builder setWindow(Duration window) {
+            this.window = Objects.requireNonNull(window, "window");
+            return this;
+        }
+
+        /** Number of sub-windows the window slides by; defaults to 12. */
+        public Builder setBuckets(int buckets) {
+            if (buckets < 2) {
+                throw new IllegalArgumentException("buckets must be at least 2");
+            }
+            this.buckets = buckets;
+            return this;
+        }
+
+        /** Maximum number of keys tracked per dimension; defaults to 65536. */
+        public Builder setCapacity(int capacity) {
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * Failures per window from one client IP at which it is reported at {@code level};
+         * defaults to 10, 50 and 250 for {@code MEDIUM}, {@code HIGH} and {@code CRITICAL}.
+         * A count of 0 or less removes the level.
+         */
+        public Builder setClientIpThreshold(ThreatLevel level, int count) {
+            put(clientIpThresholds, level, count);
+            return this;
+        }
+
+        /**
+         * Failures per window against one resource at which it is reported at {@code level};
+         * defaults to 100, 500 and 2500 for {@code MEDIUM}, {@code HIGH} and {@code CRITICAL}.
+         * A count of 0 or less removes the level.
+         */
+        public Builder setResourceThreshold(ThreatLevel level, int count) {
+            put(resourceThresholds, level, count);
+            return this;
+        }
+
+        private static void put(Map<ThreatLevel, Integer> thresholds, ThreatLevel level, int count) {
+            if (count > 0) {
+                thresholds.put(level, count);
+            } else {
+                thresholds.remove(level);
+            }
+        }
+
+        public BruteForceDetector build() {
+            return new BruteForceDetector(this);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.tbw.security.securityevents.detection;
+
+import com.tbw.security.securityevents.sketch.StringHash;
+
+/**
+ * Fixed-capacity table of per-key sliding-window counts with escalation tracking.
+ * <p>
+ * Keys are 64-bit hashes placed in {@value #WAYS}-way sets, so memory is allocated once up
+ * front and never grows, however many distinct keys are seen. When a set is full the slot whose
+ * window has expired, or failing that the one with the lowest count, is reused; keys that keep
+ * failing therefore stay resident while one-off keys are recycled. Distinct keys whose hashes
+ * collide share a count.
+ * <p>
+ * Each slot keeps a ring of {@code buckets} sub-window counts, so the reported count covers the
+ * last {@code buckets - 1} full buckets plus the current one. A key is reported once per level
+ * it reaches and is only re-armed after a whole window without occurrences, so a sustained
+ * attack hovering around a threshold does not produce an alert per bucket. Updates lock one of
+ * {@value #STRIPES} stripes and do not allocate.
+ */
+final class SlidingWindowCounter {
+
+    static final int WAYS = 8;
+    private static final int STRIPES = 64;
+
+    private final int sets;
+    private final int buckets;
+    private final long bucketMillis;
+    private final int[] thresholds;
+    private final Object[] locks = new Object[STRIPES];
+
+    private final long[] keys;
+    private final long[] lastBuckets;
+    private final int[] totals;
+    private final int[] counts;
+    private final byte[] alertLevels;
+
+    /**
+     * @param capacity     maximum number of keys tracked, rounded up to a power of two
+     * @param windowMillis length of the sliding window
+     * @param buckets      number of sub-windows the window is divided into
+     * @param thresholds   ascending counts at which the key escalates to the next level
+     */
+    SlidingWindowCounter(int capacity, long windowMillis, int buckets, int[] thresholds) {
+        int slots = Integer.highestOneBit(Math.max(capacity, WAYS) - 1) << 1;
+        this.sets = slots / WAYS;
+        this.buckets = buckets;
+        this.bucketMillis = Math.max(1, windowMillis / buckets);
+        this.thresholds = thresholds.clone();
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        keys = new long[slots];
+        lastBuckets = new long[slots];
+        totals = new int[slots];
+        counts = new int[slots * buckets];
+        alertLevels = new byte[slots];
+    }
+
+    /**
+     * Counts one occurrence of {@code key} at {@code timeMillis}.
+     *
+     * @return the key's window count if it just reached a higher level than it had already
+     *         been reported at, otherwise 0
+     */
+    int increment(String key, long timeMillis) {
+        long hash = StringHash.hash64(key);
+        long bucket = Math.floorDiv(timeMillis, bucketMillis);
+        int set = (int) (hash >>> 32) & (sets - 1);
+        synchronized (locks[set & (STRIPES - 1)]) {
+            int slot = findSlot(set * WAYS, hash, bucket);
+            long last = lastBuckets[slot];
+            if (bucket <= last - buckets) {
+                // Older than the window
+                return 0;
+            }
+            if (bucket > last) {
+                advance(slot, last, bucket);
+            }
+            counts[slot * buckets + (int) Math.floorMod(bucket, (long) buckets)]++;
+            int total = ++totals[slot];
+            int level = level(total);
+            if (level > alertLevels[slot]) {
+                alertLevels[slot] = (byte) level;
+                return total;
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * Escalation level of {@code count}: 0 below the first threshold, otherwise one more than
+     * the index of the highest threshold reached.
+     */
+    int level(int count) {
+        int level = 0;
+        while (level < thresholds.length && count >= thresholds[level]) {
+            level++;
+        }
+        return level;
+    }
+
+    private int findSlot(int first, long hash, long bucket) {
+        int victim = first;
+        int victimTotal = Integer.MAX_VALUE;
+        for (int slot = first; slot < first + WAYS; slot++) {
+            if (keys[slot] == hash) {
+                return slot;
+            }
+            int total = keys[slot] == 0 || lastBuckets[slot] <= bucket - buckets ? 0 : totals[slot];
+            if (total < victimTotal) {
+                victim = slot;
+                victimTotal = total;
+            }
+        }
+        keys[victim] = hash;
+        lastBuckets[victim] = bucket;
+        totals[victim] = 0;
+        alertLevels[victim] = 0;
+        int offset = victim * buckets;
+        for (int i = 0; i < buckets; i++) {
+            counts[offset + i] = 0;
+        }
+        return victim;
+    }
+
+    /** Clears the buckets that slid out of the window between {@code last} and {@code bucket}. */
+    private void advance(int slot, long last, long bucket) {
+        long steps = Math.min(bucket - last, buckets);
+        int offset = slot * buckets;
+        for (long b = bucket - steps + 1; b <= bucket; b++) {
+            int index = offset + (int) Math.floorMod(b, (long) buckets);
+            totals[slot] -= counts[index];
+            counts[index] = 0;
+        }
+        lastBuckets[slot] = bucket;
+        if (totals[slot] == 0) {
+            // A whole window without failures ends the burst; the next one is reported afresh
+            alertLevels[slot] = 0;
+        }
+    }
+}
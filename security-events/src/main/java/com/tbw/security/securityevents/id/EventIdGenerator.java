@@ -0,0 +1,21 @@
+package com.tbw.security.securityevents.id;
+
+import java.util.UUID;
+
+/**
+ * Source of {@code EventHeader.event_id} values. IDs are 128-bit values carried in a
+ * {@link UUID}; {@link #format} renders the string stored in {@code event_id} and
+ * {@link EventIds#toBytes} the compact form stored in {@code event_id_bytes}.
+ * <p>
+ * Implementations must be thread-safe.
+ */
+public interface EventIdGenerator {
+
+    UUID nextUuid();
+
+    String format(UUID id);
+
+    default String nextId() {
+        return format(nextUuid());
+    }
+}
@@ -0,0 +1,78 @@
+package com.tbw.security.securityevents.id;
+
+import java.util.UUID;
+
+import com.tbw.security.securityevents.EventIdBytes;
+
+/**
+ * Conversions between the {@link UUID}, string and binary forms of event IDs.
+ */
+public final class EventIds {
+
+    public static final String PREFIX = "evt-";
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private EventIds() {
+    }
+
+    /**
+     * Returns the 16 bytes of {@code id} in big-endian order, which sort in the same order as
+     * time-ordered IDs.
+     */
+    public static EventIdBytes toBytes(UUID id) {
+        byte[] bytes = new byte[16];
+        putLong(bytes, 0, id.getMostSignificantBits());
+        putLong(bytes, 8, id.getLeastSignificantBits());
+        return new EventIdBytes(bytes);
+    }
+
+    public static UUID fromBytes(EventIdBytes bytes) {
+        byte[] b = bytes.bytes();
+        return new UUID(getLong(b, 0), getLong(b, 8));
+    }
+
+    /**
+     * Returns {@link #PREFIX} followed by the canonical 36-character form of {@code id}.
+     */
+    static String formatUuid(UUID id) {
+        char[] chars = new char[PREFIX.length() + 36];
+        PREFIX.getChars(0, PREFIX.length(), chars, 0);
+        int offset = PREFIX.length();
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        offset = hex(msb >>> 32, 8, chars, offset);
+        chars[offset++] = '-';
+        offset = hex(msb >>> 16, 4, chars, offset);
+        chars[offset++] = '-';
+        offset = hex(msb, 4, chars, offset);
+        chars[offset++] = '-';
+        offset = hex(lsb >>> 48, 4, chars, offset);
+        chars[offset++] = '-';
+        hex(lsb, 12, chars, offset);
+        return new String(chars);
+    }
+
+    private static int hex(long value, int digits, char[] chars, int offset) {
+        for (int i = digits - 1; i >= 0; i--) {
+            chars[offset + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+        return offset + digits;
+    }
+
+    private static void putLong(byte[] bytes, int offset, long value) {
+        for (int i = 7; i >= 0; i--) {
+            bytes[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    private static long getLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,21 @@
+package com.tbw.security.securityevents.id;
+
+import java.util.UUID;
+
+/**
+ * The original {@code evt-<random UUID>} scheme. IDs are not time-ordered and generation goes
+ * through {@code SecureRandom}; prefer {@link UuidV7EventIdGenerator} unless downstream systems
+ * rely on version 4 UUIDs.
+ */
+public final class RandomUuidEventIdGenerator implements EventIdGenerator {
+
+    @Override
+    public UUID nextUuid() {
+        return UUID.randomUUID();
+    }
+
+    @Override
+    public String format(UUID id) {
+        return EventIds.formatUuid(id);
+    }
+}
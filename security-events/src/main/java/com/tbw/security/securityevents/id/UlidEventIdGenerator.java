@@ -0,0 +1,73 @@
+package com.tbw.security.securityevents.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates {@code evt-<ulid>} event IDs: a 48-bit Unix millisecond timestamp followed by 80
+ * random bits, rendered as 26 Crockford base32 characters that sort lexicographically by time.
+ * <p>
+ * Monotonic per thread: within the same millisecond the random part is incremented instead of
+ * redrawn. Generation is lock-free and uses {@link ThreadLocalRandom}.
+ */
+public final class UlidEventIdGenerator implements EventIdGenerator {
+
+    private static final char[] CROCKFORD = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final long RANDOM_HIGH_MASK = 0xFFFFL;
+
+    private static final ThreadLocal<ThreadState> STATE = ThreadLocal.withInitial(ThreadState::new);
+
+    @Override
+    public UUID nextUuid() {
+        ThreadState state = STATE.get();
+        long now = System.currentTimeMillis();
+        if (now > state.lastMillis) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            state.lastMillis = now;
+            state.randomHigh = random.nextLong() & RANDOM_HIGH_MASK;
+            state.randomLow = random.nextLong();
+        } else {
+            state.randomLow++;
+            if (state.randomLow == 0) {
+                state.randomHigh = (state.randomHigh + 1) & RANDOM_HIGH_MASK;
+                if (state.randomHigh == 0) {
+                    // 80-bit overflow, or the clock went backwards: borrow from the next millisecond
+                    state.lastMillis++;
+                }
+            }
+        }
+        return new UUID((state.lastMillis << 16) | state.randomHigh, state.randomLow);
+    }
+
+    /**
+     * Returns {@code evt-} followed by the 26-character ULID.
+     */
+    @Override
+    public String format(UUID id) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        char[] chars = new char[EventIds.PREFIX.length() + 26];
+        EventIds.PREFIX.getChars(0, EventIds.PREFIX.length(), chars, 0);
+        int offset = EventIds.PREFIX.length();
+        // 128 bits as 26 five-bit groups, the first group holding only the top 3 bits
+        for (int i = 25; i >= 0; i--) {
+            int bit = (25 - i) * 5;
+            int value;
+            if (bit + 5 <= 64) {
+                value = (int) (lsb >>> bit) & 0x1F;
+            } else if (bit < 64) {
+                value = (int) ((lsb >>> bit) | (msb << (64 - bit))) & 0x1F;
+            } else {
+                value = (int) (msb >>> (bit - 64)) & 0x1F;
+            }
+            chars[offset + i] = CROCKFORD[value];
+        }
+        return new String(chars);
+    }
+
+    private static final class ThreadState {
+        long lastMillis;
+        long randomHigh;
+        long randomLow;
+    }
+}
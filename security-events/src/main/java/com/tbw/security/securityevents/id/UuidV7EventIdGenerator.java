@@ -0,0 +1,53 @@
+package com.tbw.security.securityevents.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates {@code evt-<uuid>} event IDs where the UUID is a version 7 UUID: a 48-bit Unix
+ * millisecond timestamp, a 12-bit per-thread sequence and 62 random bits.
+ * <p>
+ * Each thread keeps its own clock and sequence, so generation never contends and IDs from one
+ * thread are strictly increasing even within the same millisecond. Randomness comes from
+ * {@link ThreadLocalRandom} rather than {@code SecureRandom}; the IDs are unique, not secret.
+ */
+public final class UuidV7EventIdGenerator implements EventIdGenerator {
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final int MAX_SEQUENCE = (1 << SEQUENCE_BITS) - 1;
+
+    private static final ThreadLocal<ThreadState> STATE = ThreadLocal.withInitial(ThreadState::new);
+
+    @Override
+    public UUID nextUuid() {
+        ThreadState state = STATE.get();
+        long now = System.currentTimeMillis();
+        if (now > state.lastMillis) {
+            state.lastMillis = now;
+            // Start low in the sequence space to leave room for a burst within this millisecond
+            state.sequence = ThreadLocalRandom.current().nextInt(1 << (SEQUENCE_BITS - 1));
+        } else if (state.sequence < MAX_SEQUENCE) {
+            state.sequence++;
+        } else {
+            // Sequence exhausted, or the clock went backwards: borrow from the next millisecond
+            state.lastMillis++;
+            state.sequence = 0;
+        }
+        long mostSigBits = (state.lastMillis << 16) | (0x7L << 12) | state.sequence;
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Returns {@code evt-} followed by the canonical UUID form.
+     */
+    @Override
+    public String format(UUID id) {
+        return EventIds.formatUuid(id);
+    }
+
+    private static final class ThreadState {
+        long lastMillis;
+        int sequence;
+    }
+}
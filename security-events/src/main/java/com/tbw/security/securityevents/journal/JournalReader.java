@@ -0,0 +1,181 @@
+package com.tbw.security.securityevents.journal;
+
+import static com.tbw.security.securityevents.journal.JournalSegments.END_OF_SEGMENT;
+import static com.tbw.security.securityevents.journal.JournalSegments.INT;
+import static com.tbw.security.securityevents.journal.JournalSegments.RECORD_HEADER_SIZE;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.codec.LifecycleEventCodec;
+import com.tbw.security.securityevents.publisher.EventPublisher;
+
+/**
+ * Reads a {@link MappedEventJournal} from a durable cursor. The cursor only moves on disk when
+ * {@link #commit()} is called, so after a restart reading resumes at the last committed
+ * record; segments before the committed position are deleted.
+ * <p>
+ * {@link #forwardTo} drains the journal to a downstream publisher with at-least-once
+ * semantics. Not thread-safe; one reader per journal.
+ */
+public class JournalReader implements Closeable {
+
+    private final Path directory;
+    private final FileChannel cursorChannel;
+    private final ByteBuffer cursorBuffer = ByteBuffer.allocate(16);
+    private final CRC32C crc = new CRC32C();
+
+    private MappedByteBuffer segment;
+    private ByteBuffer payloadView;
+    private int segmentSize;
+    private long segmentIndex;
+    private int position;
+
+    public JournalReader(Path directory) throws IOException {
+        this.directory = directory;
+        this.cursorChannel = FileChannel.open(directory.resolve(JournalSegments.CURSOR_FILE),
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+        if (cursorChannel.read(cursorBuffer, 0) == 16) {
+            this.segmentIndex = cursorBuffer.getLong(0);
+            this.position = (int) cursorBuffer.getLong(8);
+        } else {
+            long[] existing = JournalSegments.segmentIndexes(directory);
+            this.segmentIndex = existing.length == 0 ? 0 : existing[0];
+            this.position = 0;
+        }
+    }
+
+    /**
+     * Reads the next event, decoding into {@code reuse} when it is not {@code null}.
+     *
+     * @return the event, or {@code null} if the reader has caught up with the writer
+     * @throws IOException if the record is corrupt
+     */
+    public ApplicationLifecycleEvent poll(ApplicationLifecycleEvent reuse) throws IOException {
+        while (true) {
+            if (segment == null && !mapSegment()) {
+                return null;
+            }
+            if (!JournalSegments.hasRoomForHeader(position, segmentSize)) {
+                if (!nextSegment()) {
+                    return null;
+                }
+                continue;
+            }
+            int length = (int) INT.getAcquire(segment, position);
+            if (length == 0) {
+                return null;
+            }
+            if (length == END_OF_SEGMENT) {
+                if (!nextSegment()) {
+                    return null;
+                }
+                continue;
+            }
+            int payloadStart = position + RECORD_HEADER_SIZE;
+            payloadView.limit(payloadStart + length).position(payloadStart);
+            crc.reset();
+            crc.update(payloadView);
+            if ((int) crc.getValue() != segment.getInt(position + 4)) {
+                throw new IOException("Corrupt journal record in segment " + segmentIndex + " at " + position);
+            }
+            payloadView.position(payloadStart);
+            ApplicationLifecycleEvent event = LifecycleEventCodec.get().deserializeFrom(payloadView, reuse);
+            position = JournalSegments.align(payloadStart + length);
+            return event;
+        }
+    }
+
+    /**
+     * Publishes up to {@code maxEvents} events to {@code downstream}, flushes it and commits
+     * the cursor. If the downstream publisher fails nothing is committed, so the same events
+     * are delivered again by the next call.
+     *
+     * @return the number of events forwarded
+     */
+    public int forwardTo(EventPublisher downstream, int maxEvents) throws Exception {
+        long startSegment = segmentIndex;
+        int startPosition = position;
+        List<ApplicationLifecycleEvent> batch = new ArrayList<>(Math.min(maxEvents, 1024));
+        try {
+            ApplicationLifecycleEvent event;
+            while (batch.size() < maxEvents && (event = poll(null)) != null) {
+                batch.add(event);
+            }
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            downstream.publishAll(batch);
+            downstream.flush();
+        } catch (Exception e) {
+            seek(startSegment, startPosition);
+            throw e;
+        }
+        commit();
+        return batch.size();
+    }
+
+    /**
+     * Durably records the current position and deletes segments that have been fully read.
+     */
+    public void commit() throws IOException {
+        cursorBuffer.clear();
+        cursorBuffer.putLong(segmentIndex).putLong(position).flip();
+        cursorChannel.write(cursorBuffer, 0);
+        cursorChannel.force(false);
+        for (long index : JournalSegments.segmentIndexes(directory)) {
+            if (index < segmentIndex) {
+                Files.deleteIfExists(JournalSegments.segmentPath(directory, index));
+            }
+        }
+    }
+
+    private void seek(long index, int newPosition) {
+        if (index != segmentIndex) {
+            segment = null;
+            payloadView = null;
+        }
+        segmentIndex = index;
+        position = newPosition;
+    }
+
+    private boolean mapSegment() throws IOException {
+        Path path = JournalSegments.segmentPath(directory, segmentIndex);
+        // A segment the writer is still creating may be empty for a moment
+        if (!Files.exists(path) || Files.size(path) == 0) {
+            return false;
+        }
+        segmentSize = (int) Files.size(path);
+        segment = JournalSegments.map(path, FileChannel.MapMode.READ_ONLY, segmentSize);
+        payloadView = segment.duplicate();
+        return true;
+    }
+
+    private boolean nextSegment() throws IOException {
+        if (!Files.exists(JournalSegments.segmentPath(directory, segmentIndex + 1))) {
+            return false;
+        }
+        segmentIndex++;
+        position = 0;
+        segment = null;
+        payloadView = null;
+        return mapSegment();
+    }
+
+    @Override
+    public void close() throws IOException {
+        cursorChannel.close();
+        segment = null;
+        payloadView = null;
+    }
+}
@@ -0,0 +1,73 @@
+package com.tbw.security.securityevents.journal;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+
+/**
+ * On-disk layout shared by {@link MappedEventJournal} and {@link JournalReader}.
+ * <p>
+ * A journal is a directory of fixed-size segment files named by a zero-padded sequence number.
+ * Each record starts on an 8-byte boundary with a 4-byte length, a 4-byte CRC32C of the
+ * payload and the binary-encoded event. A length of {@code 0} means nothing has been written
+ * there yet and {@link #END_OF_SEGMENT} means the writer moved on to the next segment. The
+ * length is written last with release semantics, so a reader that sees it also sees the
+ * payload.
+ */
+final class JournalSegments {
+
+    static final int RECORD_HEADER_SIZE = 8;
+    static final int END_OF_SEGMENT = -1;
+    static final String SEGMENT_SUFFIX = ".segment";
+    static final String CURSOR_FILE = "reader.cursor";
+
+    static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    private JournalSegments() {
+    }
+
+    static Path segmentPath(Path directory, long index) {
+        return directory.resolve(String.format("%020d%s", index, SEGMENT_SUFFIX));
+    }
+
+    static long segmentIndex(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    static long[] segmentIndexes(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(f -> f.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .mapToLong(JournalSegments::segmentIndex)
+                    .sorted()
+                    .toArray();
+        }
+    }
+
+    static MappedByteBuffer map(Path segment, FileChannel.MapMode mode, int size) throws IOException {
+        StandardOpenOption[] options = mode == FileChannel.MapMode.READ_ONLY
+                ? new StandardOpenOption[] {StandardOpenOption.READ}
+                : new StandardOpenOption[] {StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE};
+        try (FileChannel channel = FileChannel.open(segment, options)) {
+            return channel.map(mode, 0, size);
+        }
+    }
+
+    static int align(int position) {
+        return (position + 7) & ~7;
+    }
+
+    /**
+     * Whether a record header still fits at {@code position}.
+     */
+    static boolean hasRoomForHeader(int position, int segmentSize) {
+        return position + RECORD_HEADER_SIZE <= segmentSize;
+    }
+}
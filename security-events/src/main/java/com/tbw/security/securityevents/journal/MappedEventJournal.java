@@ -0,0 +1,177 @@
+package com.tbw.security.securityevents.journal;
+
+import static com.tbw.security.securityevents.journal.JournalSegments.END_OF_SEGMENT;
+import static com.tbw.security.securityevents.journal.JournalSegments.INT;
+import static com.tbw.security.securityevents.journal.JournalSegments.RECORD_HEADER_SIZE;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32C;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.codec.LifecycleEventCodec;
+import com.tbw.security.securityevents.publisher.EventPublisher;
+
+/**
+ * Append-only journal of {@link ApplicationLifecycleEvent}s stored in memory-mapped segment
+ * files of a fixed size, used to buffer events locally while the downstream transport is
+ * unreachable. Events are encoded straight into the mapped segment, so an append costs one
+ * binary encode and a CRC.
+ * <p>
+ * Appended events survive a crash of the JVM as soon as {@link #publish} returns, because the
+ * data lives in the OS page cache. Call {@link #flush()} to force segments to the device when
+ * they must also survive a crash of the host.
+ * <p>
+ * Use {@link JournalReader} to drain the journal. One writer per directory.
+ */
+public class MappedEventJournal implements EventPublisher {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final CRC32C crc = new CRC32C();
+
+    private MappedByteBuffer segment;
+    private ByteBuffer payloadView;
+    private long segmentIndex;
+    private int position;
+    private boolean closed;
+
+    public MappedEventJournal(Path directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Opens the journal in {@code directory}, creating it if needed. When the journal already
+     * exists, appending resumes after the last intact record of the newest segment.
+     */
+    public MappedEventJournal(Path directory, int segmentSize) throws IOException {
+        if (segmentSize < 1024) {
+            throw new IllegalArgumentException("segmentSize must be at least 1024 bytes: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        Files.createDirectories(directory);
+        long[] existing = JournalSegments.segmentIndexes(directory);
+        if (existing.length == 0) {
+            openSegment(0);
+        } else {
+            openSegment(existing[existing.length - 1]);
+            recover();
+        }
+    }
+
+    /**
+     * Appends {@code event} to the journal.
+     *
+     * @throws IllegalArgumentException if the encoded event is larger than a segment
+     */
+    @Override
+    public synchronized void publish(ApplicationLifecycleEvent event) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Journal is closed");
+        }
+        if (!tryAppend(event)) {
+            rollSegment();
+            if (!tryAppend(event)) {
+                throw new IllegalArgumentException("Event does not fit in a journal segment of " + segmentSize + " bytes");
+            }
+        }
+    }
+
+    private boolean tryAppend(ApplicationLifecycleEvent event) throws IOException {
+        if (!JournalSegments.hasRoomForHeader(position, segmentSize)) {
+            return false;
+        }
+        int payloadStart = position + RECORD_HEADER_SIZE;
+        payloadView.limit(segmentSize).position(payloadStart);
+        int length;
+        try {
+            length = LifecycleEventCodec.get().serializeInto(event, payloadView);
+        } catch (BufferOverflowException e) {
+            return false;
+        }
+        payloadView.position(payloadStart).limit(payloadStart + length);
+        crc.reset();
+        crc.update(payloadView);
+        segment.putInt(position + 4, (int) crc.getValue());
+        INT.setRelease(segment, position, length);
+        position = JournalSegments.align(payloadStart + length);
+        return true;
+    }
+
+    private void rollSegment() throws IOException {
+        if (JournalSegments.hasRoomForHeader(position, segmentSize)) {
+            INT.setRelease(segment, position, END_OF_SEGMENT);
+        }
+        segment.force();
+        openSegment(segmentIndex + 1);
+    }
+
+    private void openSegment(long index) throws IOException {
+        segment = JournalSegments.map(JournalSegments.segmentPath(directory, index), FileChannel.MapMode.READ_WRITE, segmentSize);
+        payloadView = segment.duplicate();
+        segmentIndex = index;
+        position = 0;
+    }
+
+    /**
+     * Finds the end of the intact records in the current segment and clears anything after
+     * it, e.g. a record whose payload was only partly written when the process died.
+     */
+    private void recover() {
+        CRC32C check = new CRC32C();
+        ByteBuffer view = segment.duplicate();
+        while (JournalSegments.hasRoomForHeader(position, segmentSize)) {
+            int length = (int) INT.getAcquire(segment, position);
+            if (length == END_OF_SEGMENT) {
+                position = segmentSize;
+                return;
+            }
+            int payloadStart = position + RECORD_HEADER_SIZE;
+            if (length <= 0 || payloadStart + length > segmentSize) {
+                break;
+            }
+            view.limit(payloadStart + length).position(payloadStart);
+            check.reset();
+            check.update(view);
+            if ((int) check.getValue() != segment.getInt(position + 4)) {
+                break;
+            }
+            position = JournalSegments.align(payloadStart + length);
+        }
+        for (int i = position; i < segmentSize; i++) {
+            segment.put(i, (byte) 0);
+        }
+    }
+
+    /**
+     * Forces the current segment to the storage device.
+     */
+    @Override
+    public synchronized void flush() {
+        segment.force();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!closed) {
+            segment.force();
+            closed = true;
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+}
@@ -0,0 +1,434 @@
+package com.tbw.security.securityevents.publisher;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.avro.file.CodecFactory;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+
+/**
+ * Spools {@link ApplicationLifecycleEvent}s to Avro Object Container Files for offline replay.
+ * <p>
+ * Publishing only enqueues the event; a single writer thread owns the {@link DataFileWriter}
+ * and does all disk I/O. Files are written with an {@value #IN_PROGRESS_SUFFIX} suffix and
+ * renamed to {@code .avro} when they are rolled, either because they reached the configured
+ * size or age, or because the publisher was closed.
+ * <p>
+ * Writing snappy or zstandard files requires {@code snappy-java} or {@code zstd-jni} on the
+ * classpath.
+ */
+public class ContainerFileEventPublisher implements EventPublisher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContainerFileEventPublisher.class);
+
+    public static final String FILE_SUFFIX = ".avro";
+    public static final String IN_PROGRESS_SUFFIX = ".avro.inprogress";
+
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneOffset.UTC);
+    private static final Object CLOSE = new Object();
+    private static final long FLUSH_CHECK_INTERVAL_MILLIS = 100;
+
+    private final Path directory;
+    private final String filePrefix;
+    private final CodecFactory codec;
+    private final int syncInterval;
+    private final long maxFileSize;
+    private final long maxFileAgeNanos;
+    private final long flushIntervalNanos;
+    private final BlockingQueue<Object> queue;
+    private final Thread writerThread;
+
+    private final LongAdder writtenCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder rolledFileCount = new LongAdder();
+    private final SerializationListener serializationListener;
+
+    private final AtomicBoolean running = new AtomicBoolean(true);
+    private volatile boolean writerExited;
+
+    // Owned by the writer thread
+    private final SpecificDatumWriter<ApplicationLifecycleEvent> datumWriter =
+            new SpecificDatumWriter<>(ApplicationLifecycleEvent.class);
+    private final EncodedDatum encoded = new EncodedDatum();
+    private BinaryEncoder encoder;
+    private DataFileWriter<ApplicationLifecycleEvent> fileWriter;
+    private CountingOutputStream fileOutput;
+    private Path currentFile;
+    private long currentFileOpenedNanos;
+    private long lastFlushNanos;
+    private int fileSequence;
+
+    private ContainerFileEventPublisher(Builder builder) throws IOException {
+        this.directory = Objects.requireNonNull(builder.directory, "directory");
+        this.filePrefix = builder.filePrefix;
+        this.codec = builder.codec;
+        this.syncInterval = builder.syncInterval;
+        this.maxFileSize = builder.maxFileSize;
+        this.maxFileAgeNanos = builder.maxFileAge.toNanos();
+        this.flushIntervalNanos = builder.flushInterval.toNanos();
+        this.queue = new ArrayBlockingQueue<>(builder.queueCapacity);
+        this.serializationListener = builder.serializationListener;
+        Files.createDirectories(directory);
+        this.writerThread = new Thread(this::writeLoop, "container-file-event-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    public static Builder newBuilder(Path directory) {
+        return new Builder(directory);
+    }
+
+    /**
+     * Enqueues {@code event} for the writer thread, waiting for space if the queue is full. An
+     * event that only gets in after the writer thread has exited is counted as failed.
+     */
+    @Override
+    public void publish(ApplicationLifecycleEvent event) throws InterruptedException {
+        if (!running.get()) {
+            throw new IllegalStateException("Publisher is closed");
+        }
+        queue.put(event);
+        if (writerExited) {
+            // The writer made its last pass before this event arrived
+            discardQueued();
+        }
+    }
+
+    /**
+     * Waits until the writer thread has written and flushed every event enqueued so far. Returns
+     * at once if the publisher is closed, and as soon as the writer thread exits.
+     */
+    @Override
+    public void flush() throws InterruptedException {
+        if (!running.get()) {
+            return;
+        }
+        CountDownLatch flushed = new CountDownLatch(1);
+        queue.put(flushed);
+        // The writer may have exited after the check above, leaving the latch unread
+        while (!flushed.await(FLUSH_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (!writerThread.isAlive()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Writes all queued events, closes the current file and renames it to its final name.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        if (!running.compareAndSet(true, false)) {
+            return;
+        }
+        queue.put(CLOSE);
+        writerThread.join();
+    }
+
+    private void writeLoop() {
+        List<Object> batch = new ArrayList<>();
+        int processed = 0;
+        boolean closing = false;
+        while (!closing) {
+            try {
+                Object first = queue.poll(pollTimeoutNanos(), TimeUnit.NANOSECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch);
+                }
+                for (processed = 0; processed < batch.size(); processed++) {
+                    Object item = batch.get(processed);
+                    if (item == CLOSE) {
+                        closing = true;
+                    } else if (item instanceof CountDownLatch flushed) {
+                        flushFile();
+                        flushed.countDown();
+                    } else {
+                        append((ApplicationLifecycleEvent) item);
+                    }
+                }
+                batch.clear();
+                processed = 0;
+                if (fileWriter != null && System.nanoTime() - lastFlushNanos >= flushIntervalNanos) {
+                    flushFile();
+                }
+                if (fileWriter != null && System.nanoTime() - currentFileOpenedNanos >= maxFileAgeNanos) {
+                    rollFile();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                closing = true;
+            } catch (IOException | RuntimeException e) {
+                LOGGER.error("Failed to write events to {}", currentFile, e);
+                // Items before the failing one were handled; the rest are dropped with it
+                closing |= discard(batch.subList(Math.min(processed, batch.size()), batch.size()));
+                batch.clear();
+                processed = 0;
+                abandonFile();
+            }
+        }
+        running.set(false);
+        try {
+            rollFile();
+        } catch (IOException e) {
+            LOGGER.error("Failed to close {}", currentFile, e);
+        }
+        writerExited = true;
+        discardQueued();
+    }
+
+    private void discardQueued() {
+        List<Object> items = new ArrayList<>();
+        queue.drainTo(items);
+        discard(items);
+    }
+
+    /**
+     * Drops {@code items} without writing them: events are counted as failed and flush waiters
+     * released.
+     *
+     * @return whether the items included the close marker
+     */
+    private boolean discard(List<Object> items) {
+        boolean close = false;
+        for (Object item : items) {
+            if (item == CLOSE) {
+                close = true;
+            } else if (item instanceof CountDownLatch flushed) {
+                flushed.countDown();
+            } else {
+                failedCount.increment();
+            }
+        }
+        return close;
+    }
+
+    private long pollTimeoutNanos() {
+        if (fileWriter == null) {
+            return flushIntervalNanos;
+        }
+        long untilFlush = flushIntervalNanos - (System.nanoTime() - lastFlushNanos);
+        long untilRoll = maxFileAgeNanos - (System.nanoTime() - currentFileOpenedNanos);
+        return Math.max(0, Math.min(untilFlush, untilRoll));
+    }
+
+    private void append(ApplicationLifecycleEvent event) throws IOException {
+        if (fileWriter == null) {
+            openFile();
+        }
+        // Encoded apart from the file so the datum's own size and cost can be reported
+        long start = System.nanoTime();
+        encoded.reset();
+        try {
+            encoder = EncoderFactory.get().directBinaryEncoder(encoded, encoder);
+            datumWriter.write(event, encoder);
+        } catch (RuntimeException e) {
+            // The event could not be serialized; the file itself is still usable
+            failedCount.increment();
+            LOGGER.error("Dropping event that could not be serialized", e);
+            return;
+        }
+        serializationListener.serialized(event, System.nanoTime() - start, encoded.size());
+        fileWriter.appendEncoded(encoded.toByteBuffer());
+        writtenCount.increment();
+        if (fileOutput.count >= maxFileSize) {
+            rollFile();
+        }
+    }
+
+    private void openFile() throws IOException {
+        String timestamp = FILE_TIMESTAMP.format(Instant.now());
+        currentFile = directory.resolve(filePrefix + "-" + timestamp + "-" + (fileSequence++) + IN_PROGRESS_SUFFIX);
+        fileOutput = new CountingOutputStream(new BufferedOutputStream(Files.newOutputStream(currentFile)));
+        fileWriter = new DataFileWriter<>(datumWriter)
+                .setCodec(codec)
+                .setSyncInterval(syncInterval)
+                .create(ApplicationLifecycleEvent.getClassSchema(), fileOutput);
+        currentFileOpenedNanos = System.nanoTime();
+        lastFlushNanos = currentFileOpenedNanos;
+    }
+
+    private void flushFile() throws IOException {
+        if (fileWriter != null) {
+            fileWriter.flush();
+        }
+        lastFlushNanos = System.nanoTime();
+    }
+
+    private void rollFile() throws IOException {
+        if (fileWriter == null) {
+            return;
+        }
+        try {
+            fileWriter.close();
+            String name = currentFile.getFileName().toString();
+            Path completed = currentFile.resolveSibling(
+                    name.substring(0, name.length() - IN_PROGRESS_SUFFIX.length()) + FILE_SUFFIX);
+            Files.move(currentFile, completed, StandardCopyOption.ATOMIC_MOVE);
+            rolledFileCount.increment();
+        } finally {
+            fileWriter = null;
+            fileOutput = null;
+            currentFile = null;
+        }
+    }
+
+    private void abandonFile() {
+        if (fileWriter != null) {
+            try {
+                fileWriter.close();
+            } catch (IOException | RuntimeException e) {
+                LOGGER.warn("Failed to close {} after write error", currentFile, e);
+            }
+        }
+        fileWriter = null;
+        fileOutput = null;
+        currentFile = null;
+    }
+
+    /** Number of events currently waiting for the writer thread. */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.sum();
+    }
+
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    /** Number of files completed and renamed to their final name. */
+    public long getRolledFileCount() {
+        return rolledFileCount.sum();
+    }
+
+    /** Reusable buffer for one encoded datum. */
+    private static final class EncodedDatum extends ByteArrayOutputStream {
+
+        ByteBuffer toByteBuffer() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+    public static class Builder {
+        private final Path directory;
+        private String filePrefix = "events";
+        private CodecFactory codec = CodecFactory.deflateCodec(CodecFactory.DEFAULT_DEFLATE_LEVEL);
+        private int syncInterval = 64 * 1024;
+        private long maxFileSize = 128L * 1024 * 1024;
+        private Duration maxFileAge = Duration.ofHours(1);
+        private Duration flushInterval = Duration.ofSeconds(1);
+        private int queueCapacity = 8192;
+        private SerializationListener serializationListener = SerializationListener.NOOP;
+
+        private Builder(Path directory) {
+            this.directory = directory;
+        }
+
+        public Builder setFilePrefix(String filePrefix) {
+            this.filePrefix = Objects.requireNonNull(filePrefix, "filePrefix");
+            return this;
+        }
+
+        /**
+         * Block codec, e.g. {@code CodecFactory.snappyCodec()} or
+         * {@code CodecFactory.fromString("zstandard")}. Defaults to deflate.
+         */
+        public Builder setCodec(CodecFactory codec) {
+            this.codec = Objects.requireNonNull(codec, "codec");
+            return this;
+        }
+
+        /** Approximate uncompressed block size in bytes; defaults to 64 KiB. */
+        public Builder setSyncInterval(int syncInterval) {
+            this.syncInterval = syncInterval;
+            return this;
+        }
+
+        /** Roll once the file reaches this many bytes on disk; defaults to 128 MiB. */
+        public Builder setMaxFileSize(long maxFileSize) {
+            this.maxFileSize = maxFileSize;
+            return this;
+        }
+
+        /** Roll once the file has been open this long; defaults to one hour. */
+        public Builder setMaxFileAge(Duration maxFileAge) {
+            this.maxFileAge = Objects.requireNonNull(maxFileAge, "maxFileAge");
+            return this;
+        }
+
+        /** How often buffered blocks are flushed to the file; defaults to one second. */
+        public Builder setFlushInterval(Duration flushInterval) {
+            this.flushInterval = Objects.requireNonNull(flushInterval, "flushInterval");
+            return this;
+        }
+
+        /** Events the writer thread may fall behind by before publishers block; defaults to 8192. */
+        public Builder setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Told the uncompressed size of each event and how long it took to encode, on the writer
+         * thread.
+         */
+        public Builder setSerializationListener(SerializationListener serializationListener) {
+            this.serializationListener = Objects.requireNonNull(serializationListener, "serializationListener");
+            return this;
+        }
+
+        public ContainerFileEventPublisher build() throws IOException {
+            return new ContainerFileEventPublisher(this);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.tbw.security.securityevents.publisher;
+
+import java.util.List;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+
+/**
+ * Contract for transports that deliver {@link ApplicationLifecycleEvent}s, e.g. Kafka or local
+ * files.
+ */
+public interface EventPublisher extends AutoCloseable {
+
+    void publish(ApplicationLifecycleEvent event) throws Exception;
+
+    /**
+     * Publishes a batch of events. Publishers that can write batches more cheaply than one
+     * event at a time should override this.
+     */
+    default void publishAll(List<ApplicationLifecycleEvent> events) throws Exception {
+        for (ApplicationLifecycleEvent event : events) {
+            publish(event);
+        }
+    }
+
+    /**
+     * Blocks until every event published so far has been handed to the transport.
+     */
+    default void flush() throws Exception {
+    }
+
+    @Override
+    default void close() throws Exception {
+    }
+}
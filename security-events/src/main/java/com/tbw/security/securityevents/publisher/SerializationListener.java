@@ -0,0 +1,17 @@
+package com.tbw.security.securityevents.publisher;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+
+/**
+ * Told by a publisher how long each event took to serialize and how large the encoded event was,
+ * before any compression the transport applies. Called on the thread that serializes, so
+ * implementations must be thread-safe and cheap.
+ */
+@FunctionalInterface
+public interface SerializationListener {
+
+    SerializationListener NOOP = (event, durationNanos, payloadBytes) -> {
+    };
+
+    void serialized(ApplicationLifecycleEvent event, long durationNanos, int payloadBytes);
+}
@@ -0,0 +1,177 @@
+package com.tbw.security.securityevents.replay;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.apache.avro.file.DataFileReader;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+
+/**
+ * Decodes an Avro Object Container File of {@link ApplicationLifecycleEvent}s, e.g. one written
+ * by {@link com.tbw.security.securityevents.publisher.ContainerFileEventPublisher}, on a
+ * {@link ForkJoinPool}.
+ * <p>
+ * The file is cut into byte-range splits. Each split starts at the first sync marker at or after
+ * its start offset and ends with the block that crosses its end offset, so every block, and
+ * therefore every event, belongs to exactly one split. Splits are decoded independently and
+ * decompressed by whichever worker picks them up. {@link DataFileReader}s are pooled by the
+ * instance: a worker borrows one for each split and returns it afterwards, so a reader, with its
+ * codec and decoder, is reused for many splits and never more readers are opened than splits
+ * are decoded at once. Nothing is left behind on the worker threads.
+ * <p>
+ * Results are available in file order through {@link #forEachOrdered}, which keeps a bounded
+ * window of splits in flight, or unordered through {@link #forEach} and {@link #parallelStream}.
+ * <p>
+ * A split is decoded into a list of events before any of them is passed on, so memory is
+ * proportional to the split size times the number of splits held at once: one per worker for
+ * the unordered methods, and the in-flight window for {@link #forEachOrdered}, which is at most
+ * twice the pool's parallelism and at most 64 MiB of file. Decoded
+ * events take several times the space of their compressed blocks; lower the split size to
+ * bound memory more tightly.
+ */
+public class ParallelContainerFileReader implements Closeable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelContainerFileReader.class);
+
+    public static final long DEFAULT_SPLIT_SIZE = 8L * 1024 * 1024;
+    static final long MAX_IN_FLIGHT_BYTES = 64L * 1024 * 1024;
+
+    private final Path file;
+    private final ForkJoinPool pool;
+    private final long splitSize;
+    private final List<Split> splits;
+    private final Queue<DataFileReader<ApplicationLifecycleEvent>> openReaders = new ConcurrentLinkedQueue<>();
+    private final Queue<DataFileReader<ApplicationLifecycleEvent>> idleReaders = new ConcurrentLinkedQueue<>();
+
+    public ParallelContainerFileReader(Path file) throws IOException {
+        this(file, ForkJoinPool.commonPool(), DEFAULT_SPLIT_SIZE);
+    }
+
+    /**
+     * @param splitSize bytes of file per unit of work; each split holds one or more blocks
+     */
+    public ParallelContainerFileReader(Path file, ForkJoinPool pool, long splitSize) throws IOException {
+        if (splitSize < 1) {
+            throw new IllegalArgumentException("splitSize must be positive: " + splitSize);
+        }
+        this.file = Objects.requireNonNull(file, "file");
+        this.pool = Objects.requireNonNull(pool, "pool");
+        this.splitSize = splitSize;
+        long length = Files.size(file);
+        List<Split> computed = new ArrayList<>();
+        for (long start = 0; start < length; start += splitSize) {
+            computed.add(new Split(start, Math.min(length, start + splitSize)));
+        }
+        this.splits = List.copyOf(computed);
+    }
+
+    private DataFileReader<ApplicationLifecycleEvent> openReader() {
+        try {
+            DataFileReader<ApplicationLifecycleEvent> reader =
+                    new DataFileReader<>(file.toFile(), new SpecificDatumReader<>(ApplicationLifecycleEvent.class));
+            openReaders.add(reader);
+            return reader;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open " + file, e);
+        }
+    }
+
+    private List<ApplicationLifecycleEvent> decode(Split split) {
+        DataFileReader<ApplicationLifecycleEvent> reader = idleReaders.poll();
+        if (reader == null) {
+            reader = openReader();
+        }
+        List<ApplicationLifecycleEvent> events = new ArrayList<>();
+        try {
+            reader.sync(split.start());
+            while (reader.hasNext() && !reader.pastSync(split.end())) {
+                events.add(reader.next(null));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode " + file + " at " + split, e);
+        } finally {
+            idleReaders.add(reader);
+        }
+        return events;
+    }
+
+    /**
+     * Passes every event to {@code consumer} in file order, on the calling thread. At most twice
+     * the pool's parallelism splits, and no more than 64 MiB of file
+     * unless that is less than two splits, are decoded ahead of the consumer.
+     */
+    public void forEachOrdered(Consumer<? super ApplicationLifecycleEvent> consumer) {
+        int window = (int) Math.max(2, Math.min(pool.getParallelism() * 2L, MAX_IN_FLIGHT_BYTES / splitSize));
+        Deque<ForkJoinTask<List<ApplicationLifecycleEvent>>> inFlight = new ArrayDeque<>(window);
+        int next = 0;
+        while (next < splits.size() || !inFlight.isEmpty()) {
+            while (next < splits.size() && inFlight.size() < window) {
+                Split split = splits.get(next++);
+                inFlight.add(pool.submit(() -> decode(split)));
+            }
+            inFlight.poll().join().forEach(consumer);
+        }
+    }
+
+    /**
+     * Passes every event to {@code consumer} from the pool's worker threads, in no particular
+     * order. {@code consumer} must be thread-safe. Returns once all events were consumed.
+     */
+    public void forEach(Consumer<? super ApplicationLifecycleEvent> consumer) {
+        pool.submit(() -> splits.parallelStream().forEach(split -> decode(split).forEach(consumer))).join();
+    }
+
+    /**
+     * An unordered parallel stream of all events. Like any parallel stream it runs on the pool
+     * the terminal operation is invoked from, normally the common pool.
+     */
+    public Stream<ApplicationLifecycleEvent> parallelStream() {
+        return splits.parallelStream().unordered().flatMap(split -> decode(split).stream());
+    }
+
+    /** Number of splits the file was cut into. */
+    public int getSplitCount() {
+        return splits.size();
+    }
+
+    /** Number of readers opened and not yet closed. */
+    int getOpenReaderCount() {
+        return openReaders.size();
+    }
+
+    /**
+     * Closes the pooled readers. Must not be called while decoding is in progress.
+     */
+    @Override
+    public void close() {
+        idleReaders.clear();
+        DataFileReader<ApplicationLifecycleEvent> reader;
+        while ((reader = openReaders.poll()) != null) {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                LOGGER.warn("Failed to close reader for {}", file, e);
+            }
+        }
+    }
+
+    record Split(long start, long end) {
+    }
+}
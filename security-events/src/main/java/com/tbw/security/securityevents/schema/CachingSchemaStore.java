@@ -0,0 +1,95 @@
+package com.tbw.security.securityevents.schema;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+import org.apache.avro.message.SchemaStore;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+
+/**
+ * {@link SchemaStore} that keeps one canonical {@link Schema} instance per 64-bit CRC parsing
+ * fingerprint ({@link SchemaNormalization#parsingFingerprint64}).
+ * <p>
+ * Schemas come from {@link #register}, from {@code .avsc} files via {@link #fromDirectory}, or
+ * from an optional fallback store (e.g. a remote registry) whose answers are memoized. The
+ * compiled {@link ApplicationLifecycleEvent} schema is always present.
+ * <p>
+ * Handing out the same instance for a fingerprint matters for decoding: Avro caches resolved
+ * writer/reader grammars by schema identity, so a fresh instance per message would resolve the
+ * schemas again every time.
+ */
+public class CachingSchemaStore implements SchemaStore {
+
+    private final Map<Long, Schema> schemas = new ConcurrentHashMap<>();
+    private final SchemaStore fallback;
+
+    public CachingSchemaStore() {
+        this(null);
+    }
+
+    /**
+     * @param fallback consulted for unknown fingerprints; may be {@code null}
+     */
+    public CachingSchemaStore(SchemaStore fallback) {
+        this.fallback = fallback;
+        register(ApplicationLifecycleEvent.getClassSchema());
+    }
+
+    /**
+     * Creates a store holding every {@code *.avsc} file in {@code directory}. Each file must
+     * define a single, self-contained schema.
+     */
+    public static CachingSchemaStore fromDirectory(Path directory) throws IOException {
+        CachingSchemaStore store = new CachingSchemaStore();
+        List<Path> schemaFiles;
+        try (Stream<Path> files = Files.list(directory)) {
+            schemaFiles = files.filter(file -> file.getFileName().toString().endsWith(".avsc")).sorted().toList();
+        }
+        for (Path file : schemaFiles) {
+            store.register(new Schema.Parser().parse(file.toFile()));
+        }
+        return store;
+    }
+
+    /**
+     * Adds {@code schema} unless a schema with the same fingerprint is already present.
+     *
+     * @return the schema's fingerprint
+     */
+    public long register(Schema schema) {
+        long fingerprint = SchemaNormalization.parsingFingerprint64(schema);
+        schemas.putIfAbsent(fingerprint, schema);
+        return fingerprint;
+    }
+
+    /**
+     * Returns the canonical schema for {@code fingerprint}, asking the fallback store on a miss,
+     * or {@code null} if neither knows it.
+     */
+    @Override
+    public Schema findByFingerprint(long fingerprint) {
+        Schema schema = schemas.get(fingerprint);
+        if (schema != null || fallback == null) {
+            return schema;
+        }
+        Schema fetched = fallback.findByFingerprint(fingerprint);
+        if (fetched == null) {
+            return null;
+        }
+        Schema existing = schemas.putIfAbsent(fingerprint, fetched);
+        return existing != null ? existing : fetched;
+    }
+
+    public Collection<Schema> getSchemas() {
+        return List.copyOf(schemas.values());
+    }
+}
@@ -0,0 +1,80 @@
+package com.tbw.security.securityevents.schema;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.MissingSchemaException;
+import org.apache.avro.specific.SpecificDatumReader;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+
+/**
+ * Decodes {@link ApplicationLifecycleEvent}s written with any schema version known to a
+ * {@link CachingSchemaStore} into the compiled reader schema.
+ * <p>
+ * There is one {@link SpecificDatumReader} per writer fingerprint, built with the store's
+ * canonical writer schema. Avro keeps the resolved writer/reader grammar per datum reader thread
+ * and schema pair, so schemas are resolved once per version instead of once per message. The
+ * binary decoder is reused across calls.
+ * <p>
+ * Instances are NOT thread-safe; use one per consuming thread.
+ */
+public class MixedVersionEventDecoder {
+
+    private final CachingSchemaStore schemaStore;
+    private final Schema readerSchema = ApplicationLifecycleEvent.getClassSchema();
+    private final Map<Long, SpecificDatumReader<ApplicationLifecycleEvent>> readers = new HashMap<>();
+    private final BinaryMessageDecoder<ApplicationLifecycleEvent> messageDecoder;
+    private BinaryDecoder binaryDecoder;
+
+    public MixedVersionEventDecoder(CachingSchemaStore schemaStore) {
+        this.schemaStore = Objects.requireNonNull(schemaStore, "schemaStore");
+        this.messageDecoder = ApplicationLifecycleEvent.createDecoder(schemaStore);
+    }
+
+    /**
+     * Decodes a plain binary datum whose writer schema is identified out of band, e.g. by a
+     * Kafka record header or a file header.
+     *
+     * @throws MissingSchemaException if the store does not know {@code writerFingerprint}
+     */
+    public ApplicationLifecycleEvent decode(long writerFingerprint, byte[] data, int offset, int length,
+            ApplicationLifecycleEvent reuse) throws IOException {
+        binaryDecoder = DecoderFactory.get().binaryDecoder(data, offset, length, binaryDecoder);
+        return readerFor(writerFingerprint).read(reuse, binaryDecoder);
+    }
+
+    public ApplicationLifecycleEvent decode(long writerFingerprint, byte[] data, ApplicationLifecycleEvent reuse)
+            throws IOException {
+        return decode(writerFingerprint, data, 0, data.length, reuse);
+    }
+
+    /**
+     * Decodes an Avro single-object encoded message, which carries its writer fingerprint.
+     * Writer schemas are looked up in the store once and then cached by the message decoder.
+     */
+    public ApplicationLifecycleEvent decodeSingleObject(ByteBuffer message, ApplicationLifecycleEvent reuse)
+            throws IOException {
+        return messageDecoder.decode(message, reuse);
+    }
+
+    private SpecificDatumReader<ApplicationLifecycleEvent> readerFor(long writerFingerprint) {
+        SpecificDatumReader<ApplicationLifecycleEvent> reader = readers.get(writerFingerprint);
+        if (reader == null) {
+            Schema writerSchema = schemaStore.findByFingerprint(writerFingerprint);
+            if (writerSchema == null) {
+                throw new MissingSchemaException("Unknown writer schema fingerprint: " + writerFingerprint);
+            }
+            reader = new SpecificDatumReader<>(writerSchema, readerSchema);
+            readers.put(writerFingerprint, reader);
+        }
+        return reader;
+    }
+}
@@ -0,0 +1,75 @@
+package com.tbw.security.securityevents.sketch;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-Min Sketch over 64-bit key hashes: a fixed {@code depth x width} table of counters
+ * whose estimates never undercount and overcount by at most {@code e/width} of the total with
+ * probability {@code 1 - exp(-depth)}.
+ * <p>
+ * Counters are updated with atomic adds, so concurrent updates never lock.
+ */
+public final class CountMinSketch {
+
+    private final int depth;
+    private final int mask;
+    private final AtomicLongArray counters;
+
+    /**
+     * @param width counters per row, rounded up to a power of two
+     * @param depth number of rows
+     */
+    public CountMinSketch(int width, int depth) {
+        if (width < 1 || depth < 1) {
+            throw new IllegalArgumentException("width and depth must be positive");
+        }
+        int rowWidth = width == 1 ? 1 : Integer.highestOneBit(width - 1) << 1;
+        this.depth = depth;
+        this.mask = rowWidth - 1;
+        this.counters = new AtomicLongArray(rowWidth * depth);
+    }
+
+    /**
+     * Sketch whose estimates exceed the true count by at most {@code epsilon} times the total
+     * count, except with probability {@code delta}.
+     */
+    public static CountMinSketch withError(double epsilon, double delta) {
+        return new CountMinSketch((int) Math.ceil(Math.E / epsilon), (int) Math.ceil(Math.log(1 / delta)));
+    }
+
+    /**
+     * Adds {@code count} to the key with hash {@code hash}.
+     *
+     * @return the key's estimated count including this update
+     */
+    public long add(long hash, long count) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int column = (h1 + row * h2) & mask;
+            estimate = Math.min(estimate, counters.addAndGet(row * (mask + 1) + column, count));
+        }
+        return estimate;
+    }
+
+    /** Estimated count of the key with hash {@code hash}. */
+    public long estimate(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int column = (h1 + row * h2) & mask;
+            estimate = Math.min(estimate, counters.get(row * (mask + 1) + column));
+        }
+        return estimate;
+    }
+
+    public int getWidth() {
+        return mask + 1;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+}
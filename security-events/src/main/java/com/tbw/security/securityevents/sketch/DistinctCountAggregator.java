@@ -0,0 +1,281 @@
+package com.tbw.security.securityevents.sketch;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.SecurityEvent;
+import com.tbw.security.securityevents.SecurityEventType;
+import com.tbw.security.securityevents.publisher.EventPublisher;
+
+/**
+ * Counts distinct values of one {@link DistinctKey} among {@link SecurityEvent}s, optionally per
+ * value of another, in event-time windows. For example, distinct users hitting
+ * {@code AUTHORIZATION_FAILURE}:
+ *
+ * <pre>{@code
+ * DistinctCountAggregator users = DistinctCountAggregator.newBuilder(DistinctKey.USER_ID)
+ *     .setEventTypes(Set.of(SecurityEventType.AUTHORIZATION_FAILURE))
+ *     .build();
+ * users.distinctCount(Duration.ofMinutes(5));
+ * }</pre>
+ *
+ * or distinct resources probed per client IP with {@code newBuilder(DistinctKey.RESOURCE)
+ * .setGroupBy(DistinctKey.CLIENT_IP)} and {@code distinctCount("10.0.0.1", duration)}.
+ * <p>
+ * Each window keeps one {@link HyperLogLog} (per group), and a query merges the sketches of the
+ * windows it spans, counted back from the newest window seen. A ring of
+ * {@code retainedWindows} windows is kept and reused as time moves on. Sketches returned by
+ * {@link #sketch} and {@link #sketches} are copies that can be serialized and merged with those of
+ * other application instances. The number of groups per window is capped; events for further
+ * groups are counted by {@link #getDroppedCount()} and otherwise ignored.
+ */
+public class DistinctCountAggregator implements EventPublisher {
+
+    private final DistinctKey key;
+    private final DistinctKey groupBy;
+    private final Set<SecurityEventType> eventTypes;
+    private final long windowMillis;
+    private final int precision;
+    private final int maxGroups;
+    private final Window[] windows;
+    private final LongAdder droppedCount = new LongAdder();
+    private volatile long newestIndex = Long.MIN_VALUE;
+
+    private DistinctCountAggregator(Builder builder) {
+        this.key = builder.key;
+        this.groupBy = builder.groupBy;
+        this.eventTypes = EnumSet.copyOf(builder.eventTypes);
+        this.windowMillis = builder.window.toMillis();
+        this.precision = builder.precision;
+        this.maxGroups = builder.maxGroups;
+        this.windows = new Window[builder.retainedWindows];
+    }
+
+    /** Aggregator counting distinct values of {@code key}. */
+    public static Builder newBuilder(DistinctKey key) {
+        return new Builder(key);
+    }
+
+    @Override
+    public void publish(ApplicationLifecycleEvent event) {
+        if (!(event.getBody() instanceof SecurityEvent body) || !eventTypes.contains(body.getEventType())) {
+            return;
+        }
+        String value = key.of(event, body);
+        if (value == null) {
+            return;
+        }
+        Window window = window(Math.floorDiv(event.getHeader().getTimestamp().toEpochMilli(), windowMillis));
+        if (window == null) {
+            return;
+        }
+        if (groupBy == null) {
+            window.total.add(value);
+            return;
+        }
+        String group = groupBy.of(event, body);
+        if (group == null) {
+            return;
+        }
+        HyperLogLog sketch = window.groups.get(group);
+        if (sketch == null) {
+            sketch = window.groups.computeIfAbsent(group,
+                    ignored -> window.reserveGroup() ? new HyperLogLog(precision) : null);
+            if (sketch == null) {
+                droppedCount.increment();
+                return;
+            }
+        }
+        sketch.add(value);
+    }
+
+    private Window window(long index) {
+        int slot = (int) Math.floorMod(index, (long) windows.length);
+        Window window = windows[slot];
+        if (window != null && window.index == index) {
+            return window;
+        }
+        synchronized (this) {
+            window = windows[slot];
+            if (window == null || window.index < index) {
+                if (newestIndex != Long.MIN_VALUE && index <= newestIndex - windows.length) {
+                    return null;
+                }
+                window = new Window(index);
+                windows[slot] = window;
+                if (index > newestIndex) {
+                    newestIndex = index;
+                }
+            }
+            return window.index == index ? window : null;
+        }
+    }
+
+    /** Estimated distinct values over the windows spanning the last {@code duration}. */
+    public long distinctCount(Duration duration) {
+        return sketch(duration).estimate();
+    }
+
+    /** Estimated distinct values in {@code group} over the windows spanning the last {@code duration}. */
+    public long distinctCount(String group, Duration duration) {
+        return sketch(group, duration).estimate();
+    }
+
+    /**
+     * Union of the sketches of the windows spanning the last {@code duration}; of all groups if
+     * the aggregator is grouped.
+     */
+    public HyperLogLog sketch(Duration duration) {
+        HyperLogLog union = new HyperLogLog(precision);
+        for (Window window : windows(duration)) {
+            if (groupBy == null) {
+                union.merge(window.total);
+            } else {
+                window.groups.values().forEach(union::merge);
+            }
+        }
+        return union;
+    }
+
+    /** Union of {@code group}'s sketches over the windows spanning the last {@code duration}. */
+    public HyperLogLog sketch(String group, Duration duration) {
+        HyperLogLog union = new HyperLogLog(precision);
+        for (Window window : windows(duration)) {
+            HyperLogLog sketch = window.groups.get(group);
+            if (sketch != null) {
+                union.merge(sketch);
+            }
+        }
+        return union;
+    }
+
+    /** Per-group unions over the windows spanning the last {@code duration}. */
+    public Map<String, HyperLogLog> sketches(Duration duration) {
+        Map<String, HyperLogLog> unions = new HashMap<>();
+        for (Window window : windows(duration)) {
+            window.groups.forEach((group, sketch) ->
+                    unions.computeIfAbsent(group, ignored -> new HyperLogLog(precision)).merge(sketch));
+        }
+        return unions;
+    }
+
+    private Window[] windows(Duration duration) {
+        long count = Math.min(windows.length, Math.max(1, Math.ceilDiv(duration.toMillis(), windowMillis)));
+        long newest = newestIndex;
+        return Arrays.stream(windows.clone())
+                .filter(window -> window != null && window.index <= newest && window.index > newest - count)
+                .toArray(Window[]::new);
+    }
+
+    /** Events ignored because their window already held the maximum number of groups. */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    private final class Window {
+        final long index;
+        final HyperLogLog total;
+        final Map<String, HyperLogLog> groups;
+        final AtomicInteger groupCount = new AtomicInteger();
+
+        Window(long index) {
+            this.index = index;
+            this.total = groupBy == null ? new HyperLogLog(precision) : null;
+            this.groups = groupBy == null ? Map.of() : new ConcurrentHashMap<>();
+        }
+
+        /** Claims room for one more group, unless the window is full. */
+        boolean reserveGroup() {
+            int count;
+            do {
+                count = groupCount.get();
+                if (count >= maxGroups) {
+                    return false;
+                }
+            } while (!groupCount.compareAndSet(count, count + 1));
+            return true;
+        }
+    }
+
+    /**
+     * Sketches are allocated as events arrive, so memory grows to at most
+     * {@code retainedWindows × maxGroups × 2^precision} bytes, plus one sketch per window when
+     * ungrouped. With the defaults of 60 windows, 256 groups and precision 12 that is 60 MiB;
+     * lower the precision or the group cap if many groups are expected to be active at once.
+     */
+    public static class Builder {
+        private final DistinctKey key;
+        private DistinctKey groupBy;
+        private Set<SecurityEventType> eventTypes = EnumSet.allOf(SecurityEventType.class);
+        private Duration window = Duration.ofMinutes(1);
+        private int retainedWindows = 60;
+        private int precision = HyperLogLog.DEFAULT_PRECISION;
+        private int maxGroups = 256;
+
+        private Builder(DistinctKey key) {
+            this.key = Objects.requireNonNull(key, "key");
+        }
+
+        /** Counts distinct values per value of {@code groupBy}; ungrouped by default. */
+        public Builder setGroupBy(DistinctKey groupBy) {
+            if (groupBy == key) {
+                throw new IllegalArgumentException("Cannot group " + key + " by itself");
+            }
+            this.groupBy = groupBy;
+            return this;
+        }
+
+        /** Security event types counted; all by default. */
+        public Builder setEventTypes(Set<SecurityEventType> eventTypes) {
+            if (eventTypes.isEmpty()) {
+                throw new IllegalArgumentException("eventTypes must not be empty");
+            }
+            this.eventTypes = eventTypes;
+            return this;
+        }
+
+        /** Length of each window, the resolution of queries; defaults to one minute. */
+        public Builder setWindow(Duration window) {
+            this.window = Objects.requireNonNull(window, "window");
+            return this;
+        }
+
+        /** Number of windows kept, the longest span a query can cover; defaults to 60. */
+        public Builder setRetainedWindows(int retainedWindows) {
+            this.retainedWindows = retainedWindows;
+            return this;
+        }
+
+        /**
+         * {@link HyperLogLog} precision; defaults to 12, i.e. 4 KiB per sketch and about 1.6%
+         * error.
+         */
+        public Builder setPrecision(int precision) {
+            if (precision < HyperLogLog.MIN_PRECISION || precision > HyperLogLog.MAX_PRECISION) {
+                throw new IllegalArgumentException("precision must be between " + HyperLogLog.MIN_PRECISION
+                        + " and " + HyperLogLog.MAX_PRECISION + ": " + precision);
+            }
+            this.precision = precision;
+            return this;
+        }
+
+        /** Maximum groups per window; defaults to 256. */
+        public Builder setMaxGroups(int maxGroups) {
+            this.maxGroups = maxGroups;
+            return this;
+        }
+
+        public DistinctCountAggregator build() {
+            return new DistinctCountAggregator(this);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.tbw.security.securityevents.sketch;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.SecurityEvent;
+
+/**
+ * Event fields that {@link DistinctCountAggregator} can count distinct values of or group by.
+ */
+public enum DistinctKey {
+    /** {@code EventHeader.user_id}. */
+    USER_ID,
+    /** {@code SecurityEvent.client_ip}. */
+    CLIENT_IP,
+    /** {@code SecurityEvent.resource}. */
+    RESOURCE;
+
+    /** The field's value in {@code event}, whose body is {@code body}; possibly {@code null}. */
+    String of(ApplicationLifecycleEvent event, SecurityEvent body) {
+        return switch (this) {
+            case USER_ID -> event.getHeader().getUserId();
+            case CLIENT_IP -> body.getClientIp();
+            case RESOURCE -> body.getResource();
+        };
+    }
+}
@@ -0,0 +1,7 @@
+package com.tbw.security.securityevents.sketch;
+
+/**
+ * A frequent key and its estimated count, which may overcount but never undercounts.
+ */
+public record HeavyHitter(String key, long estimatedCount) {
+}
@@ -0,0 +1,115 @@
+package com.tbw.security.securityevents.sketch;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Tracks the most frequent keys of a stream in fixed memory: a {@link CountMinSketch} estimates
+ * every key's count and a bounded candidate table remembers the keys with the highest estimates,
+ * evicting the lowest candidate when a key overtakes it (as in SpaceSaving).
+ * <p>
+ * Candidates are split into stripes by key hash, each with its own lock and room for
+ * {@code capacity} keys. Updates only take a stripe lock when the key's estimate exceeds that
+ * stripe's lowest candidate, so the long tail of rare keys is counted without locking.
+ */
+public final class HeavyHitterSketch {
+
+    private static final int STRIPES = 16;
+
+    private final CountMinSketch sketch;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    /**
+     * @param capacity keys remembered per stripe; at least the largest {@code n} passed to
+     *                 {@link #top(int)}
+     * @param width    Count-Min Sketch row width
+     * @param depth    Count-Min Sketch rows
+     */
+    public HeavyHitterSketch(int capacity, int width, int depth) {
+        this.sketch = new CountMinSketch(width, depth);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(capacity);
+        }
+    }
+
+    public void add(String key) {
+        add(key, StringHash.hash64(key), 1);
+    }
+
+    public void add(String key, long hash, long count) {
+        long estimate = sketch.add(hash, count);
+        Stripe stripe = stripes[(int) (hash >>> 60)];
+        if (estimate > stripe.admissionThreshold) {
+            stripe.offer(key, hash, estimate);
+        }
+    }
+
+    /** Estimated count of {@code key}, whether or not it is a candidate. */
+    public long estimate(String key) {
+        return sketch.estimate(StringHash.hash64(key));
+    }
+
+    /** Up to {@code n} keys with the highest estimated counts, highest first. */
+    public List<HeavyHitter> top(int n) {
+        List<HeavyHitter> candidates = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            stripe.collect(sketch, candidates);
+        }
+        candidates.sort(Comparator.comparingLong(HeavyHitter::estimatedCount).reversed()
+                .thenComparing(HeavyHitter::key));
+        return List.copyOf(candidates.subList(0, Math.min(n, candidates.size())));
+    }
+
+    private static final class Stripe {
+        private final String[] keys;
+        private final long[] hashes;
+        private final long[] counts;
+        private int size;
+        private int minIndex;
+        /** Lowest candidate count once full; estimates at or below it cannot be admitted. */
+        private volatile long admissionThreshold;
+
+        Stripe(int capacity) {
+            keys = new String[capacity];
+            hashes = new long[capacity];
+            counts = new long[capacity];
+        }
+
+        synchronized void offer(String key, long hash, long estimate) {
+            int index = -1;
+            for (int i = 0; i < size; i++) {
+                if (hashes[i] == hash) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) {
+                if (size < keys.length) {
+                    index = size++;
+                } else if (estimate > counts[minIndex]) {
+                    index = minIndex;
+                } else {
+                    return;
+                }
+                keys[index] = key;
+                hashes[index] = hash;
+            }
+            counts[index] = estimate;
+            if (size == keys.length) {
+                for (int i = 0; i < size; i++) {
+                    if (counts[i] < counts[minIndex]) {
+                        minIndex = i;
+                    }
+                }
+                admissionThreshold = counts[minIndex];
+            }
+        }
+
+        synchronized void collect(CountMinSketch sketch, List<HeavyHitter> into) {
+            for (int i = 0; i < size; i++) {
+                into.add(new HeavyHitter(keys[i], sketch.estimate(hashes[i])));
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.tbw.security.securityevents.sketch;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * HyperLogLog distinct-count sketch over 64-bit hashes with {@code 2^precision} one-byte
+ * registers and a standard error of about {@code 1.04 / sqrt(2^precision)}, e.g. 1.6% at the
+ * default precision of 12 (4 KiB).
+ * <p>
+ * Sketches of the same precision can be {@linkplain #merge merged}, giving the distinct count of
+ * the union of their inputs, and {@linkplain #toByteArray serialized}, so sketches built on
+ * several application instances can be shipped and combined. Adds and merges raise registers
+ * with compare-and-set and never lock.
+ */
+public final class HyperLogLog {
+
+    public static final int DEFAULT_PRECISION = 12;
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 18;
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final VarHandle REGISTER = MethodHandles.arrayElementVarHandle(byte[].class);
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+
+    public HyperLogLog(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("precision must be between " + MIN_PRECISION + " and "
+                    + MAX_PRECISION + ": " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    public void add(String value) {
+        add(StringHash.hash64(value));
+    }
+
+    /** Adds a value by its 64-bit hash, which must be well mixed. */
+    public void add(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        // Sentinel bit bounds the rank for hashes whose remaining bits are all zero
+        int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+        raise(index, (byte) rank);
+    }
+
+    private void raise(int index, byte rank) {
+        byte current = (byte) REGISTER.getVolatile(registers, index);
+        while (rank > current) {
+            if (REGISTER.compareAndSet(registers, index, current, rank)) {
+                return;
+            }
+            current = (byte) REGISTER.getVolatile(registers, index);
+        }
+    }
+
+    /** Adds every value counted by {@code other} to this sketch. */
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Cannot merge precision " + other.precision + " into " + precision);
+        }
+        for (int i = 0; i < registers.length; i++) {
+            byte rank = (byte) REGISTER.getVolatile(other.registers, i);
+            if (rank != 0) {
+                raise(i, rank);
+            }
+        }
+    }
+
+    /** Estimated number of distinct values added. */
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (int i = 0; i < m; i++) {
+            byte rank = (byte) REGISTER.getVolatile(registers, i);
+            sum += Double.longBitsToDouble((1023L - rank) << 52); // 2^-rank
+            if (rank == 0) {
+                zeros++;
+            }
+        }
+        double estimate = alpha(m) * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            // Linear counting is more accurate for small cardinalities
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    private static double alpha(int m) {
+        return switch (m) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / m);
+        };
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    public HyperLogLog copy() {
+        HyperLogLog copy = new HyperLogLog(precision);
+        copy.merge(this);
+        return copy;
+    }
+
+    /** Serialized form: a format version byte, the precision and the registers. */
+    public byte[] toByteArray() {
+        byte[] bytes = new byte[2 + registers.length];
+        bytes[0] = FORMAT_VERSION;
+        bytes[1] = (byte) precision;
+        for (int i = 0; i < registers.length; i++) {
+            bytes[2 + i] = (byte) REGISTER.getVolatile(registers, i);
+        }
+        return bytes;
+    }
+
+    public static HyperLogLog fromByteArray(byte[] bytes) {
+        if (bytes.length < 2 || bytes[0] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Not a serialized HyperLogLog");
+        }
+        HyperLogLog sketch = new HyperLogLog(bytes[1]);
+        if (bytes.length != 2 + sketch.registers.length) {
+            throw new IllegalArgumentException("Expected " + (2 + sketch.registers.length) + " bytes for precision "
+                    + bytes[1] + " but got " + bytes.length);
+        }
+        System.arraycopy(bytes, 2, sketch.registers, 0, sketch.registers.length);
+        return sketch;
+    }
+}
@@ -0,0 +1,166 @@
+package com.tbw.security.securityevents.sketch;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.SecurityEvent;
+import com.tbw.security.securityevents.SecurityEventType;
+import com.tbw.security.securityevents.publisher.EventPublisher;
+
+/**
+ * Tracks the most frequent client IPs, resources and user agents of {@link SecurityEvent}s in
+ * tumbling windows, e.g. to answer "top 10 attacking IPs in the last minute" during a
+ * distributed attack without an exact per-IP map.
+ * <p>
+ * Each window holds one {@link HeavyHitterSketch} per {@link SecurityEventKey}, so memory is
+ * fixed by the sketch dimensions rather than by the number of distinct keys. Windows are
+ * measured in event time ({@code header.timestamp}); the first event of a new window starts it
+ * and retires the current one, which then answers {@link #topOfPreviousWindow} queries. Events
+ * arriving for the previous window still count towards it, older ones are dropped.
+ * <p>
+ * Only events whose type is among the tracked types are counted; by default authentication and
+ * authorization failures and suspicious activity.
+ */
+public class SecurityEventHeavyHitters implements EventPublisher {
+
+    private final long windowMillis;
+    private final Set<SecurityEventType> eventTypes;
+    private final int capacity;
+    private final int width;
+    private final int depth;
+
+    private volatile Window current;
+    private volatile Window previous;
+
+    private SecurityEventHeavyHitters(Builder builder) {
+        this.windowMillis = builder.window.toMillis();
+        this.eventTypes = EnumSet.copyOf(builder.eventTypes);
+        this.capacity = builder.capacity;
+        this.width = builder.width;
+        this.depth = builder.depth;
+        this.current = new Window(Long.MIN_VALUE);
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    @Override
+    public void publish(ApplicationLifecycleEvent event) {
+        if (!(event.getBody() instanceof SecurityEvent securityEvent)
+                || !eventTypes.contains(securityEvent.getEventType())) {
+            return;
+        }
+        Window window = window(Math.floorDiv(event.getHeader().getTimestamp().toEpochMilli(), windowMillis));
+        if (window == null) {
+            return;
+        }
+        for (SecurityEventKey key : SecurityEventKey.values()) {
+            String value = key.of(securityEvent);
+            if (value != null) {
+                window.sketches[key.ordinal()].add(value);
+            }
+        }
+    }
+
+    private Window window(long index) {
+        Window window = current;
+        if (index == window.index) {
+            return window;
+        }
+        if (index > window.index) {
+            synchronized (this) {
+                window = current;
+                if (index > window.index) {
+                    previous = window.index == index - 1 ? window : null;
+                    window = new Window(index);
+                    current = window;
+                }
+                return index == window.index ? window : null;
+            }
+        }
+        Window last = previous;
+        return last != null && last.index == index ? last : null;
+    }
+
+    /** Up to {@code n} most frequent values of {@code key} in the current window, highest first. */
+    public List<HeavyHitter> top(SecurityEventKey key, int n) {
+        return current.sketches[key.ordinal()].top(n);
+    }
+
+    /**
+     * Up to {@code n} most frequent values of {@code key} in the last completed window, highest
+     * first; empty if no events were seen in that window.
+     */
+    public List<HeavyHitter> topOfPreviousWindow(SecurityEventKey key, int n) {
+        Window last = previous;
+        return last == null ? List.of() : last.sketches[key.ordinal()].top(n);
+    }
+
+    /** The {@code n} client IPs with the most tracked events in the last completed window. */
+    public List<HeavyHitter> topAttackers(int n) {
+        return topOfPreviousWindow(SecurityEventKey.CLIENT_IP, n);
+    }
+
+    private final class Window {
+        final long index;
+        final HeavyHitterSketch[] sketches = new HeavyHitterSketch[SecurityEventKey.values().length];
+
+        Window(long index) {
+            this.index = index;
+            for (int i = 0; i < sketches.length; i++) {
+                sketches[i] = new HeavyHitterSketch(capacity, width, depth);
+            }
+        }
+    }
+
+    public static class Builder {
+        private Duration window = Duration.ofMinutes(1);
+        private Set<SecurityEventType> eventTypes = EnumSet.of(SecurityEventType.AUTHENTICATION_FAILURE,
+                SecurityEventType.AUTHORIZATION_FAILURE, SecurityEventType.SUSPICIOUS_ACTIVITY);
+        private int capacity = 64;
+        private int width = 16 * 1024;
+        private int depth = 4;
+
+        private Builder() {
+        }
+
+        /** Length of each tumbling window; defaults to one minute. */
+        public Builder setWindow(Duration window) {
+            this.window = Objects.requireNonNull(window, "window");
+            return this;
+        }
+
+        public Builder setEventTypes(Set<SecurityEventType> eventTypes) {
+            if (eventTypes.isEmpty()) {
+                throw new IllegalArgumentException("eventTypes must not be empty");
+            }
+            this.eventTypes = eventTypes;
+            return this;
+        }
+
+        /** Candidate keys kept per sketch stripe, bounding {@code n} in queries; defaults to 64. */
+        public Builder setCapacity(int capacity) {
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * Count-Min Sketch dimensions; default to 16384 counters by 4 rows, i.e. 512 KiB per key
+         * per window.
+         */
+        public Builder setSketchSize(int width, int depth) {
+            this.width = width;
+            this.depth = depth;
+            return this;
+        }
+
+        public SecurityEventHeavyHitters build() {
+            return new SecurityEventHeavyHitters(this);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.tbw.security.securityevents.sketch;
+
+import com.tbw.security.securityevents.SecurityEvent;
+
+/**
+ * {@link SecurityEvent} fields that sketches can be keyed by.
+ */
+public enum SecurityEventKey {
+    CLIENT_IP,
+    RESOURCE,
+    USER_AGENT;
+
+    /** The field's value in {@code event}, possibly {@code null}. */
+    public String of(SecurityEvent event) {
+        return switch (this) {
+            case CLIENT_IP -> event.getClientIp();
+            case RESOURCE -> event.getResource();
+            case USER_AGENT -> event.getUserAgent();
+        };
+    }
+}
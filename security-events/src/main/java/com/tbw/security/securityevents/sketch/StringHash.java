@@ -0,0 +1,27 @@
+package com.tbw.security.securityevents.sketch;
+
+/**
+ * Allocation-free 64-bit hash of strings for sketches and fixed-size tables.
+ */
+public final class StringHash {
+
+    private StringHash() {
+    }
+
+    /**
+     * FNV-1a over the UTF-16 code units followed by the MurmurHash3 finalizer, so every output
+     * bit depends on every input bit. Never returns 0, which tables may use to mark empty slots.
+     */
+    public static long hash64(CharSequence value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash == 0 ? 1 : hash;
+    }
+}
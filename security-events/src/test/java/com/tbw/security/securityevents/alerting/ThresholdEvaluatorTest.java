@@ -0,0 +1,138 @@
+package com.tbw.security.securityevents.alerting;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.tbw.security.securityevents.AlertType;
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.Environment;
+import com.tbw.security.securityevents.EventHeader;
+import com.tbw.security.securityevents.PerformanceAlert;
+import com.tbw.security.securityevents.Severity;
+
+class ThresholdEvaluatorTest {
+
+    private static final EventHeader TEMPLATE = EventHeader.newBuilder()
+        .setEventId("")
+        .setTimestamp(Instant.EPOCH)
+        .setApplicationName("security-app")
+        .setApplicationVersion("2.0.0")
+        .setEnvironment(Environment.PRODUCTION)
+        .setSourceHost("app-server-01")
+        .setSeverity(Severity.INFO)
+        .build();
+
+    private final List<ApplicationLifecycleEvent> alerts = new ArrayList<>();
+
+    private ThresholdEvaluator evaluator(ThresholdRule... rules) {
+        ThresholdEvaluator.Builder builder = ThresholdEvaluator.newBuilder(alerts::add, TEMPLATE);
+        for (ThresholdRule rule : rules) {
+            builder.addRule(rule);
+        }
+        return builder.build();
+    }
+
+    private static PerformanceAlert body(ApplicationLifecycleEvent event) {
+        return (PerformanceAlert) event.getBody();
+    }
+
+    @Test
+    void testFiresAfterSustainAndRecoversWithHysteresis() {
+        ThresholdEvaluator evaluator = evaluator(ThresholdRule.above("heap-high", "heap.used", 0.9)
+            .setRecoveryThreshold(0.8)
+            .setWindow(Duration.ofSeconds(10), ThresholdRule.Aggregation.AVERAGE)
+            .setSustain(Duration.ofSeconds(30))
+            .setSeverity(Severity.ERROR)
+            .setUnit("ratio")
+            .build());
+        int heap = evaluator.register("heap.used", Map.of("host", "app-server-01"));
+        double[] samples = {0.5, 0.95, 0.95, 0.95, 0.95, 0.85, 0.85, 0.75, 0.95};
+        int[] published = new int[samples.length];
+        for (int tick = 0; tick < samples.length; tick++) {
+            long now = 10_000L * (tick + 1);
+            evaluator.record(heap, now - 1, samples[tick]);
+            published[tick] = evaluator.evaluate(now);
+        }
+
+        // Breached from the second tick, fires three ticks (30 s) later, stays firing at 0.85,
+        // recovers below 0.8 and is pending again on the last sample
+        assertArrayEquals(new int[] {0, 0, 0, 0, 1, 0, 0, 1, 0}, published);
+        assertEquals(2, alerts.size());
+
+        PerformanceAlert exceeded = body(alerts.get(0));
+        assertEquals(AlertType.THRESHOLD_EXCEEDED, exceeded.getAlertType());
+        assertEquals("heap.used", exceeded.getMetricName());
+        assertEquals(0.95, exceeded.getCurrentValue());
+        assertEquals(0.9, exceeded.getThresholdValue());
+        assertEquals("ratio", exceeded.getMeasurementUnit());
+        assertEquals(30L, exceeded.getDurationSeconds());
+        assertEquals(Severity.ERROR, alerts.get(0).getHeader().getSeverity());
+        assertEquals(Instant.ofEpochMilli(50_000), alerts.get(0).getHeader().getTimestamp());
+        assertEquals(Map.of("host", "app-server-01", ThresholdEvaluator.RULE_TAG, "heap-high"), alerts.get(0).getTags());
+        assertEquals("security-app", alerts.get(0).getHeader().getApplicationName());
+
+        PerformanceAlert recovered = body(alerts.get(1));
+        assertEquals(AlertType.THRESHOLD_RECOVERED, recovered.getAlertType());
+        assertEquals(0.8, recovered.getThresholdValue());
+        assertEquals(60L, recovered.getDurationSeconds());
+        assertEquals(Severity.INFO, alerts.get(1).getHeader().getSeverity());
+        assertNotEquals(alerts.get(0).getHeader().getEventId(), alerts.get(1).getHeader().getEventId());
+    }
+
+    @Test
+    void testAppliesRulesToEverySeriesOfMetric() {
+        ThresholdEvaluator evaluator = evaluator(
+            ThresholdRule.below("throughput-low", "requests.rate", 10)
+                .setWindow(Duration.ofSeconds(5), ThresholdRule.Aggregation.MAX)
+                .build(),
+            ThresholdRule.above("latency-high", "latency.p99", 250).build());
+        int[] rates = new int[1000];
+        for (int i = 0; i < rates.length; i++) {
+            rates[i] = evaluator.register("requests.rate", Map.of("instance", "i-" + i));
+        }
+        int latency = evaluator.register("latency.p99", Map.of());
+        assertEquals(latency, evaluator.register("latency.p99", Map.of()));
+        assertEquals(1001, evaluator.getSeriesCount());
+
+        for (int i = 0; i < rates.length; i++) {
+            evaluator.record(rates[i], 1_000, 20);
+            evaluator.record(rates[i], 2_000, i % 100 == 0 ? 5 : 20);
+        }
+        evaluator.record(latency, 2_000, 300);
+        assertEquals(1, evaluator.evaluate(3_000));
+
+        for (int i = 0; i < rates.length; i++) {
+            evaluator.record(rates[i], 7_000, i % 100 == 0 ? 5 : 20);
+        }
+        assertEquals(10, evaluator.evaluate(8_000));
+        assertTrue(alerts.stream().allMatch(alert -> body(alert).getAlertType() == AlertType.THRESHOLD_EXCEEDED));
+        assertEquals(11, evaluator.getAlertCount());
+    }
+
+    @Test
+    void testSeriesWithoutSamplesKeepState() {
+        ThresholdEvaluator evaluator = evaluator(ThresholdRule.above("errors", "errors.rate", 1)
+            .setWindow(Duration.ofSeconds(5), ThresholdRule.Aggregation.LAST)
+            .build());
+        int errors = evaluator.register("errors.rate", Map.of());
+        evaluator.record(errors, 1_000, 3);
+        assertEquals(1, evaluator.evaluate(2_000));
+        assertEquals(0, evaluator.evaluate(60_000));
+        evaluator.record(errors, 61_000, 0);
+        assertEquals(1, evaluator.evaluate(62_000));
+        assertEquals(AlertType.THRESHOLD_RECOVERED, body(alerts.get(1)).getAlertType());
+    }
+
+    @Test
+    void testRejectsRecoveryThresholdOnBreachedSide() {
+        assertThrows(IllegalArgumentException.class,
+            () -> ThresholdRule.above("heap-high", "heap.used", 0.9).setRecoveryThreshold(0.95).build());
+    }
+}
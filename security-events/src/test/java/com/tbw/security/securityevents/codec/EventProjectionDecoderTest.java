@@ -0,0 +1,98 @@
+package com.tbw.security.securityevents.codec;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.tbw.security.securityevents.AlertType;
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.Environment;
+import com.tbw.security.securityevents.EventHeader;
+import com.tbw.security.securityevents.EventIdBytes;
+import com.tbw.security.securityevents.PerformanceAlert;
+import com.tbw.security.securityevents.SecurityEvent;
+import com.tbw.security.securityevents.SecurityEventType;
+import com.tbw.security.securityevents.Severity;
+import com.tbw.security.securityevents.ThreatLevel;
+
+class EventProjectionDecoderTest {
+
+    private static EventHeader header(long timestamp, Severity severity) {
+        return EventHeader.newBuilder()
+            .setEventId("evt-" + timestamp)
+            .setTimestamp(Instant.ofEpochMilli(timestamp))
+            .setCorrelationId("corr-1")
+            .setApplicationName("security-app")
+            .setApplicationVersion("2.0.0")
+            .setEnvironment(Environment.PRODUCTION)
+            .setSourceHost("app-server-01")
+            .setUserId("user-42")
+            .setSeverity(severity)
+            .setEventIdBytes(new EventIdBytes(new byte[16]))
+            .build();
+    }
+
+    private static ApplicationLifecycleEvent securityEvent(long timestamp) {
+        return ApplicationLifecycleEvent.newBuilder()
+            .setHeader(header(timestamp, Severity.ERROR))
+            .setBody(SecurityEvent.newBuilder()
+                .setEventType(SecurityEventType.AUTHENTICATION_FAILURE)
+                .setResource("/login")
+                .setThreatLevel(ThreatLevel.HIGH)
+                .setClientIp("10.0.0.1")
+                .build())
+            .setTags(Map.of("region", "eu-west-1", "team", "identity"))
+            .setMetrics(Map.of("attempts", 12.0))
+            .build();
+    }
+
+    private static ApplicationLifecycleEvent alert(long timestamp) {
+        return ApplicationLifecycleEvent.newBuilder()
+            .setHeader(header(timestamp, Severity.WARN))
+            .setBody(PerformanceAlert.newBuilder()
+                .setMetricName("heap.used")
+                .setCurrentValue(0.93)
+                .setThresholdValue(0.9)
+                .setAlertType(AlertType.THRESHOLD_EXCEEDED)
+                .build())
+            .build();
+    }
+
+    @Test
+    void testProjectsSeverityTimestampAndBodyType() throws Exception {
+        byte[] data = LifecycleEventCodec.get().serialize(securityEvent(1_700_000_000_123L));
+
+        EventProjection projection = new EventProjectionDecoder().project(data, new EventProjection());
+
+        assertEquals(Severity.ERROR, projection.getSeverity());
+        assertEquals(1_700_000_000_123L, projection.getTimestampMillis());
+        assertEquals("SecurityEvent", projection.getBodyName());
+        assertEquals(5, projection.getBodyIndex());
+    }
+
+    @Test
+    void testStreamOfMixedEventsIsProjectedInOrder() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        LifecycleEventCodec codec = LifecycleEventCodec.get();
+        for (int i = 0; i < 100; i++) {
+            out.write(codec.serialize(i % 2 == 0 ? securityEvent(i) : alert(i)));
+        }
+
+        List<String> seen = new ArrayList<>();
+        long count = new EventProjectionDecoder().forEach(new ByteArrayInputStream(out.toByteArray()),
+            projection -> seen.add(projection.getTimestampMillis() + ":" + projection.getBodyName()
+                + ":" + projection.getSeverity()));
+
+        assertEquals(100, count);
+        assertEquals("0:SecurityEvent:ERROR", seen.get(0));
+        assertEquals("1:PerformanceAlert:WARN", seen.get(1));
+        assertEquals("99:PerformanceAlert:WARN", seen.get(99));
+    }
+}
@@ -0,0 +1,113 @@
+package com.tbw.security.securityevents.codec;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.Environment;
+import com.tbw.security.securityevents.EventHeader;
+import com.tbw.security.securityevents.SecurityEvent;
+import com.tbw.security.securityevents.SecurityEventType;
+import com.tbw.security.securityevents.Severity;
+import com.tbw.security.securityevents.ThreatLevel;
+
+class LifecycleEventCodecTest {
+
+    private static ApplicationLifecycleEvent event(String eventId, String clientIp) {
+        EventHeader header = EventHeader.newBuilder()
+            .setEventId(eventId)
+            .setTimestamp(Instant.ofEpochMilli(1_700_000_000_000L))
+            .setApplicationName("security-app")
+            .setApplicationVersion("2.0.0")
+            .setEnvironment(Environment.PRODUCTION)
+            .setSourceHost("app-server-01")
+            .setSeverity(Severity.WARN)
+            .build();
+        SecurityEvent body = SecurityEvent.newBuilder()
+            .setEventType(SecurityEventType.AUTHENTICATION_FAILURE)
+            .setResource("/login")
+            .setThreatLevel(ThreatLevel.MEDIUM)
+            .setClientIp(clientIp)
+            .setUserAgent("curl/8.0")
+            .build();
+        return ApplicationLifecycleEvent.newBuilder()
+            .setHeader(header)
+            .setBody(body)
+            .setTags(Map.of("region", "eu-west-1"))
+            .setMetrics(Map.of("attempts", 3.0))
+            .build();
+    }
+
+    @Test
+    void testByteArrayRoundTrip() throws Exception {
+        LifecycleEventCodec codec = LifecycleEventCodec.get();
+        ApplicationLifecycleEvent event = event("evt-1", "10.0.0.1");
+        assertEquals(event, codec.deserialize(codec.serialize(event), null));
+    }
+
+    @Test
+    void testFailedSerializeDoesNotCorruptNextEvent() throws Exception {
+        LifecycleEventCodec codec = LifecycleEventCodec.get();
+        ApplicationLifecycleEvent event = event("evt-1", "10.0.0.1");
+        byte[] expected = codec.serialize(event);
+        ApplicationLifecycleEvent invalid = event("evt-2", "10.0.0.2");
+        invalid.setTags(null);
+
+        assertThrows(NullPointerException.class, () -> codec.serialize(invalid));
+
+        byte[] actual = codec.serialize(event);
+        assertArrayEquals(expected, actual);
+        assertEquals(event, codec.deserialize(actual, null));
+    }
+
+    @Test
+    void testHeapBufferRoundTripOfConsecutiveEvents() throws Exception {
+        assertConsecutiveRoundTrip(ByteBuffer.allocate(4096));
+    }
+
+    @Test
+    void testDirectBufferRoundTripOfConsecutiveEvents() throws Exception {
+        assertConsecutiveRoundTrip(ByteBuffer.allocateDirect(4096));
+    }
+
+    @Test
+    void testSlicedHeapBufferHonoursArrayOffset() throws Exception {
+        ByteBuffer backing = ByteBuffer.allocate(4096);
+        backing.position(100);
+        assertConsecutiveRoundTrip(backing.slice());
+    }
+
+    @Test
+    void testOverflowLeavesPositionUnchanged() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        buffer.put((byte) 1);
+        assertThrows(BufferOverflowException.class,
+            () -> LifecycleEventCodec.get().serializeInto(event("evt-1", "10.0.0.1"), buffer));
+        assertEquals(1, buffer.position());
+    }
+
+    private static void assertConsecutiveRoundTrip(ByteBuffer buffer) throws Exception {
+        LifecycleEventCodec codec = LifecycleEventCodec.get();
+        List<ApplicationLifecycleEvent> events = List.of(event("evt-1", "10.0.0.1"), event("evt-2", "10.0.0.2"));
+        int written = 0;
+        for (ApplicationLifecycleEvent event : events) {
+            written += codec.serializeInto(event, buffer);
+        }
+        assertEquals(written, buffer.position());
+        buffer.flip();
+
+        ApplicationLifecycleEvent reuse = null;
+        for (ApplicationLifecycleEvent expected : events) {
+            reuse = codec.deserializeFrom(buffer, reuse);
+            assertEquals(expected, reuse);
+        }
+        assertFalse(buffer.hasRemaining());
+    }
+}
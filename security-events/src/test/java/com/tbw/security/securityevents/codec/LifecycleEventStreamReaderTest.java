@@ -0,0 +1,117 @@
+package com.tbw.security.securityevents.codec;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.Environment;
+import com.tbw.security.securityevents.EventHeader;
+import com.tbw.security.securityevents.SecurityEvent;
+import com.tbw.security.securityevents.SecurityEventType;
+import com.tbw.security.securityevents.Severity;
+import com.tbw.security.securityevents.ThreatLevel;
+
+class LifecycleEventStreamReaderTest {
+
+    @TempDir
+    Path directory;
+
+    private static ApplicationLifecycleEvent event(int index) {
+        EventHeader header = EventHeader.newBuilder()
+            .setEventId("evt-" + index)
+            .setTimestamp(Instant.ofEpochMilli(1_700_000_000_000L + index))
+            .setApplicationName("security-app")
+            .setApplicationVersion("2.0.0")
+            .setEnvironment(Environment.PRODUCTION)
+            .setSourceHost("app-server-01")
+            .setSeverity(Severity.WARN)
+            .build();
+        SecurityEvent body = SecurityEvent.newBuilder()
+            .setEventType(SecurityEventType.AUTHENTICATION_FAILURE)
+            .setResource("/login")
+            .setThreatLevel(ThreatLevel.MEDIUM)
+            .setClientIp("10.0.0." + (index % 256))
+            .build();
+        return ApplicationLifecycleEvent.newBuilder()
+            .setHeader(header)
+            .setBody(body)
+            .setTags(Map.of("shard", Integer.toString(index % 4)))
+            .build();
+    }
+
+    private static byte[] dump(int count) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeTo(out, count);
+        return out.toByteArray();
+    }
+
+    private static void writeTo(OutputStream out, int count) throws Exception {
+        LifecycleEventCodec codec = LifecycleEventCodec.get();
+        for (int i = 0; i < count; i++) {
+            out.write(codec.serialize(event(i)));
+        }
+    }
+
+    @Test
+    void testIteratesFileInOrderReusingOneInstance() throws Exception {
+        Path file = directory.resolve("dump.bin");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            writeTo(out, 5_000);
+        }
+
+        try (LifecycleEventStreamReader reader = LifecycleEventStreamReader.open(file)) {
+            ApplicationLifecycleEvent first = reader.next();
+            assertEquals("evt-0", first.getHeader().getEventId());
+            int index = 1;
+            while (reader.hasNext()) {
+                ApplicationLifecycleEvent event = reader.next();
+                assertSame(first, event);
+                assertEquals(event(index++), event);
+            }
+            assertEquals(5_000, index);
+            assertEquals(5_000, reader.getEventCount());
+        }
+    }
+
+    @Test
+    void testCallbackReadsEveryEvent() throws Exception {
+        List<String> ids = new ArrayList<>();
+        try (LifecycleEventStreamReader reader =
+                LifecycleEventStreamReader.of(new ByteArrayInputStream(dump(3)), true)) {
+            assertEquals(3, reader.forEachEvent(event -> ids.add(event.getHeader().getEventId())));
+        }
+        assertEquals(List.of("evt-0", "evt-1", "evt-2"), ids);
+    }
+
+    @Test
+    void testStreamWithoutReuseYieldsDistinctInstances() throws Exception {
+        LifecycleEventStreamReader reader = LifecycleEventStreamReader.of(new ByteArrayInputStream(dump(10)), false);
+        try (Stream<ApplicationLifecycleEvent> events = reader.stream()) {
+            List<ApplicationLifecycleEvent> all = events.toList();
+            assertEquals(10, all.size());
+            assertEquals(event(9), all.get(9));
+            assertNotSame(all.get(0), all.get(1));
+        }
+    }
+
+    @Test
+    void testEmptyInputHasNoEvents() throws Exception {
+        try (LifecycleEventStreamReader reader = LifecycleEventStreamReader.of(new ByteArrayInputStream(new byte[0]), true)) {
+            assertFalse(reader.hasNext());
+            assertEquals(0, reader.forEachEvent(event -> fail()));
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.tbw.security.securityevents.columnar;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.tbw.security.securityevents.AlertType;
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.Environment;
+import com.tbw.security.securityevents.EventHeader;
+import com.tbw.security.securityevents.EventIdBytes;
+import com.tbw.security.securityevents.PerformanceAlert;
+import com.tbw.security.securityevents.SecurityEvent;
+import com.tbw.security.securityevents.SecurityEventType;
+import com.tbw.security.securityevents.Severity;
+import com.tbw.security.securityevents.ThreatLevel;
+
+class ColumnarEventStoreTest {
+
+    private static final Instant NOW = Instant.parse("2024-03-01T12:00:00Z");
+
+    private static EventHeader header(Instant timestamp, Severity severity, String userId) {
+        return EventHeader.newBuilder()
+            .setEventId("evt-" + timestamp.toEpochMilli())
+            .setTimestamp(timestamp)
+            .setCorrelationId("corr-1")
+            .setApplicationName("security-app")
+            .setApplicationVersion("2.0.0")
+            .setEnvironment(Environment.PRODUCTION)
+            .setSourceHost("app-server-01")
+            .setUserId(userId)
+            .setSeverity(severity)
+            .setEventIdBytes(new EventIdBytes(new byte[16]))
+            .build();
+    }
+
+    private static ApplicationLifecycleEvent securityEvent(Instant timestamp, SecurityEventType type,
+            ThreatLevel threatLevel, String clientIp, String userId) {
+        return ApplicationLifecycleEvent.newBuilder()
+            .setHeader(header(timestamp, Severity.ERROR, userId))
+            .setBody(SecurityEvent.newBuilder()
+                .setEventType(type)
+                .setResource("/login")
+                .setThreatLevel(threatLevel)
+                .setClientIp(clientIp)
+                .build())
+            .build();
+    }
+
+    private static ApplicationLifecycleEvent authFailure(Instant timestamp, String clientIp) {
+        return securityEvent(timestamp, SecurityEventType.AUTHENTICATION_FAILURE, ThreatLevel.MEDIUM, clientIp, null);
+    }
+
+    private static ApplicationLifecycleEvent alert(Instant timestamp) {
+        return ApplicationLifecycleEvent.newBuilder()
+            .setHeader(header(timestamp, Severity.WARN, null))
+            .setBody(PerformanceAlert.newBuilder()
+                .setMetricName("heap.used")
+                .setCurrentValue(0.93)
+                .setThresholdValue(0.9)
+                .setAlertType(AlertType.THRESHOLD_EXCEEDED)
+                .build())
+            .build();
+    }
+
+    @Test
+    void testCountsAuthenticationFailuresByClientIpInLastHour() {
+        ColumnarEventStore store = new ColumnarEventStore(Duration.ofMinutes(15), Duration.ofDays(1), 4);
+        store.append(authFailure(NOW.minus(Duration.ofHours(2)), "10.0.0.1"));
+        for (int i = 0; i < 5; i++) {
+            store.append(authFailure(NOW.minusSeconds(60 * i), "10.0.0.1"));
+        }
+        for (int i = 0; i < 3; i++) {
+            store.append(authFailure(NOW.minusSeconds(600 + i), "10.0.0.2"));
+        }
+        store.append(securityEvent(NOW, SecurityEventType.AUTHORIZATION_FAILURE, ThreatLevel.HIGH, "10.0.0.3", "user-1"));
+        store.append(alert(NOW));
+
+        Map<String, Long> counts = store.query()
+            .since(NOW.minus(Duration.ofHours(1)))
+            .securityEventType(SecurityEventType.AUTHENTICATION_FAILURE)
+            .countBy(EventColumn.CLIENT_IP);
+
+        assertEquals(List.of("10.0.0.1", "10.0.0.2"), List.copyOf(counts.keySet()));
+        assertEquals(5L, counts.get("10.0.0.1"));
+        assertEquals(3L, counts.get("10.0.0.2"));
+        assertEquals(11, store.size());
+    }
+
+    @Test
+    void testCombinesFilters() {
+        ColumnarEventStore store = new ColumnarEventStore();
+        store.append(securityEvent(NOW, SecurityEventType.SUSPICIOUS_ACTIVITY, ThreatLevel.CRITICAL, "10.0.0.1", "user-1"));
+        store.append(securityEvent(NOW, SecurityEventType.SUSPICIOUS_ACTIVITY, ThreatLevel.LOW, "10.0.0.1", "user-1"));
+        store.append(securityEvent(NOW, SecurityEventType.SUSPICIOUS_ACTIVITY, ThreatLevel.HIGH, "10.0.0.1", "user-2"));
+        store.append(alert(NOW));
+
+        assertEquals(4, store.query().count());
+        assertEquals(1, store.query().bodyType(PerformanceAlert.class).count());
+        assertEquals(2, store.query().threatLevelAtLeast(ThreatLevel.HIGH).count());
+        assertEquals(1, store.query().threatLevelAtLeast(ThreatLevel.HIGH).where(EventColumn.USER_ID, "user-1").count());
+        assertEquals(0, store.query().where(EventColumn.USER_ID, "unknown").count());
+        assertEquals(Map.of("ERROR", 3L, "WARN", 1L), store.query().countBy(EventColumn.SEVERITY));
+        assertEquals(Map.of("SecurityEvent", 3L, "PerformanceAlert", 1L), store.query().countBy(EventColumn.BODY_TYPE));
+    }
+
+    @Test
+    void testTimeRangeIsHalfOpen() {
+        ColumnarEventStore store = new ColumnarEventStore(Duration.ofMinutes(1), Duration.ofDays(1), 2);
+        for (int i = 0; i < 10; i++) {
+            store.append(authFailure(NOW.plusSeconds(30L * i), "10.0.0.1"));
+        }
+
+        assertEquals(4, store.query().between(NOW.plusSeconds(60), NOW.plusSeconds(180)).count());
+        assertEquals(0, store.query().between(NOW.plusSeconds(60), NOW.plusSeconds(60)).count());
+    }
+
+    @Test
+    void testDropsPartitionsOutsideRetention() {
+        ColumnarEventStore store = new ColumnarEventStore(Duration.ofHours(1), Duration.ofHours(2), 16);
+        store.append(authFailure(NOW.minus(Duration.ofHours(5)), "10.0.0.1"));
+        store.append(authFailure(NOW.minus(Duration.ofHours(1)), "10.0.0.1"));
+        assertEquals(1, store.size());
+
+        store.append(authFailure(NOW, "10.0.0.1"));
+        store.evictBefore(NOW);
+        assertEquals(1, store.size());
+        assertEquals(1, store.query().count());
+    }
+
+    @Test
+    void testEvictionPrunesDictionaries() {
+        ColumnarEventStore store = new ColumnarEventStore(Duration.ofHours(1), Duration.ofHours(2), 4);
+        for (int i = 0; i < 10; i++) {
+            store.append(authFailure(NOW.minus(Duration.ofHours(5)), "10.0.1." + i));
+        }
+        store.append(authFailure(NOW, "10.0.0.2"));
+        store.append(authFailure(NOW, "10.0.0.1"));
+        store.append(authFailure(NOW.plusSeconds(1), "10.0.0.2"));
+        store.evictBefore(NOW);
+
+        assertEquals(2, store.dictionary(EventColumn.CLIENT_IP).size());
+        assertEquals(Map.of("10.0.0.2", 2L, "10.0.0.1", 1L), store.query().countBy(EventColumn.CLIENT_IP));
+        assertEquals(2, store.query().where(EventColumn.CLIENT_IP, "10.0.0.2").count());
+        assertEquals(0, store.query().where(EventColumn.CLIENT_IP, "10.0.1.3").count());
+    }
+
+    @Test
+    void testRejectsTypedColumnInWhere() {
+        ColumnarEventStore store = new ColumnarEventStore();
+        assertThrows(IllegalArgumentException.class, () -> store.query().where(EventColumn.SEVERITY, "ERROR"));
+    }
+
+    @Test
+    void testRejectsUnknownBodyType() {
+        ColumnarEventStore store = new ColumnarEventStore();
+        assertThrows(IllegalArgumentException.class, () -> store.query().bodyType(EventHeader.class));
+        assertEquals(0, store.size());
+    }
+}
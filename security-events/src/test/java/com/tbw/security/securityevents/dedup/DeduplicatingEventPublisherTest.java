@@ -0,0 +1,133 @@
+package com.tbw.security.securityevents.dedup;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+
+class DeduplicatingEventPublisherTest {
+
+    private final List<ApplicationLifecycleEvent> forwarded = new ArrayList<>();
+
+    private DeduplicatingEventPublisher publisher(int capacity) {
+        return DeduplicatingEventPublisher.newBuilder(forwarded::add)
+            .setTtl(Duration.ofMinutes(5))
+            .setSummaryInterval(Duration.ofMinutes(1))
+            .setCapacity(capacity)
+            .build();
+    }
+
+    private static ApplicationLifecycleEvent event(long timestamp, String sourceHost) {
+        return EventContentHasherTest.event("evt-" + timestamp, timestamp, sourceHost, Map.of("latency", 12.0));
+    }
+
+    private static Double suppressed(ApplicationLifecycleEvent event) {
+        return event.getMetrics().get(DeduplicatingEventPublisher.SUPPRESSED_COUNT_METRIC);
+    }
+
+    @Test
+    void testForwardsFirstOccurrenceAndPeriodicSummaries() throws Exception {
+        DeduplicatingEventPublisher publisher = publisher(1024);
+        // One repeat per second for two and a half minutes
+        for (long second = 0; second < 150; second++) {
+            publisher.publish(event(second * 1000, "app-server-01"));
+        }
+
+        assertEquals(3, forwarded.size());
+        assertNull(suppressed(forwarded.get(0)));
+        assertEquals("evt-0", forwarded.get(0).getHeader().getEventId());
+        assertEquals(60.0, suppressed(forwarded.get(1)));
+        assertEquals("evt-60000", forwarded.get(1).getHeader().getEventId());
+        assertEquals(12.0, forwarded.get(1).getMetrics().get("latency"));
+        assertEquals(60.0, suppressed(forwarded.get(2)));
+
+        publisher.flush();
+        assertEquals(4, forwarded.size());
+        assertEquals(29.0, suppressed(forwarded.get(3)));
+        assertEquals(1, publisher.getForwardedCount());
+        assertEquals(149, publisher.getSuppressedCount());
+        assertEquals(3, publisher.getSummaryCount());
+    }
+
+    @Test
+    void testForwardsAgainAfterTtl() throws Exception {
+        DeduplicatingEventPublisher publisher = publisher(1024);
+        publisher.publish(event(0, "app-server-01"));
+        publisher.publish(event(10_000, "app-server-01"));
+        publisher.publish(event(Duration.ofMinutes(6).toMillis(), "app-server-01"));
+
+        assertEquals(3, forwarded.size());
+        assertEquals(1.0, suppressed(forwarded.get(1)));
+        assertNull(suppressed(forwarded.get(2)));
+        assertEquals(2, publisher.getForwardedCount());
+    }
+
+    @Test
+    void testFailedSummaryDoesNotDropEvent() throws Exception {
+        DeduplicatingEventPublisher publisher = DeduplicatingEventPublisher.newBuilder(event -> {
+                if (suppressed(event) != null) {
+                    throw new IllegalStateException("summary rejected");
+                }
+                forwarded.add(event);
+            })
+            .setTtl(Duration.ofMinutes(5))
+            .build();
+        publisher.publish(event(0, "app-server-01"));
+        publisher.publish(event(10_000, "app-server-01"));
+
+        ApplicationLifecycleEvent afterTtl = event(Duration.ofMinutes(6).toMillis(), "app-server-01");
+        assertThrows(IllegalStateException.class, () -> publisher.publish(afterTtl));
+        assertEquals(List.of(event(0, "app-server-01"), afterTtl), forwarded);
+    }
+
+    @Test
+    void testDistinctEventsAreForwarded() throws Exception {
+        DeduplicatingEventPublisher publisher = publisher(1024);
+        for (int i = 0; i < 100; i++) {
+            publisher.publish(event(i, "app-server-" + i));
+        }
+        assertEquals(100, forwarded.size());
+        assertEquals(0, publisher.getSuppressedCount());
+    }
+
+    @Test
+    void testEvictionKeepsFrequentEventsAndReportsEvictedRepeats() throws Exception {
+        DeduplicatingEventPublisher publisher = publisher(8);
+        for (int i = 0; i < 10; i++) {
+            publisher.publish(event(i, "flapping"));
+        }
+        for (int host = 1; host < 8; host++) {
+            publisher.publish(event(100 + host, "host-" + host));
+            publisher.publish(event(200 + host, "host-" + host));
+        }
+        publisher.publish(event(300, "one-off"));
+        publisher.publish(event(400, "flapping"));
+
+        // The least repeated entry made room; the flapping event stayed suppressed
+        assertEquals(17, publisher.getSuppressedCount());
+        assertEquals(9, publisher.getForwardedCount());
+        assertEquals(1, publisher.getSummaryCount());
+        ApplicationLifecycleEvent summary = forwarded.get(forwarded.size() - 2);
+        assertEquals("host-1", summary.getHeader().getSourceHost());
+        assertEquals(1.0, suppressed(summary));
+    }
+
+    @Test
+    void testPublishSummariesReportsStoppedFloods() throws Exception {
+        DeduplicatingEventPublisher publisher = publisher(1024);
+        publisher.publish(event(0, "app-server-01"));
+        publisher.publish(event(1_000, "app-server-01"));
+
+        publisher.publishSummaries(30_000);
+        assertEquals(1, forwarded.size());
+        publisher.publishSummaries(60_000);
+        assertEquals(2, forwarded.size());
+        assertEquals(1.0, suppressed(forwarded.get(1)));
+    }
+}
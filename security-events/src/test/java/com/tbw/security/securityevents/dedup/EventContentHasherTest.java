@@ -0,0 +1,91 @@
+package com.tbw.security.securityevents.dedup;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.Environment;
+import com.tbw.security.securityevents.EventHeader;
+import com.tbw.security.securityevents.EventIdBytes;
+import com.tbw.security.securityevents.ServiceStatus;
+import com.tbw.security.securityevents.ServiceStatusChange;
+import com.tbw.security.securityevents.Severity;
+
+class EventContentHasherTest {
+
+    private static EventIdBytes eventIdBytes(String eventId) {
+        byte[] bytes = new byte[16];
+        bytes[0] = (byte) eventId.hashCode();
+        return new EventIdBytes(bytes);
+    }
+
+    static ApplicationLifecycleEvent event(String eventId, long timestamp, String sourceHost,
+            Map<String, Double> metrics) {
+        return ApplicationLifecycleEvent.newBuilder()
+            .setHeader(EventHeader.newBuilder()
+                .setEventId(eventId)
+                .setTimestamp(Instant.ofEpochMilli(timestamp))
+                .setApplicationName("security-app")
+                .setApplicationVersion("2.0.0")
+                .setEnvironment(Environment.PRODUCTION)
+                .setSourceHost(sourceHost)
+                .setSeverity(Severity.WARN)
+                .setEventIdBytes(eventIdBytes(eventId))
+                .build())
+            .setBody(ServiceStatusChange.newBuilder()
+                .setServiceName("payments")
+                .setPreviousStatus(ServiceStatus.HEALTHY)
+                .setCurrentStatus(ServiceStatus.UNHEALTHY)
+                .build())
+            .setMetrics(metrics)
+            .build();
+    }
+
+    @Test
+    void testXxHash64MatchesReferenceValues() {
+        assertEquals(0xEF46DB3751D8E999L, XxHash64.hash(new byte[0], 0));
+        assertEquals(0x44BC2CF5AD770999L, XxHash64.hash("abc".getBytes(StandardCharsets.US_ASCII), 0));
+        assertEquals(0xFBCEA83C8A378BF1L,
+                XxHash64.hash("Nobody inspects the spammish repetition".getBytes(StandardCharsets.US_ASCII), 0));
+    }
+
+    @Test
+    void testIgnoresEventIdTimestampAndMetrics() {
+        EventContentHasher hasher = EventContentHasher.get();
+        long first = hasher.hash(event("evt-1", 1_000, "app-server-01", Map.of()));
+
+        assertEquals(first, hasher.hash(event("evt-2", 2_000, "app-server-01", Map.of("latency", 12.0))));
+        assertNotEquals(first, hasher.hash(event("evt-1", 1_000, "app-server-02", Map.of())));
+    }
+
+    @Test
+    void testTagOrderDoesNotMatter() {
+        Map<String, String> forward = new LinkedHashMap<>();
+        Map<String, String> backward = new LinkedHashMap<>();
+        for (int i = 0; i < 10; i++) {
+            forward.put("tag-" + i, "value-" + i);
+            backward.put("tag-" + (9 - i), "value-" + (9 - i));
+        }
+        ApplicationLifecycleEvent event = event("evt-1", 1_000, "app-server-01", Map.of());
+
+        EventContentHasher hasher = EventContentHasher.get();
+        assertEquals(hasher.hash(ApplicationLifecycleEvent.newBuilder(event).setTags(forward).build()),
+                hasher.hash(ApplicationLifecycleEvent.newBuilder(event).setTags(backward).build()));
+    }
+
+    @Test
+    void testDoesNotModifyEvent() {
+        ApplicationLifecycleEvent event = event("evt-1", 1_000, "app-server-01", Map.of("latency", 12.0));
+        ApplicationLifecycleEvent copy = ApplicationLifecycleEvent.newBuilder(event).build();
+
+        EventContentHasher.get().hash(event);
+
+        assertEquals(copy, event);
+    }
+}
@@ -0,0 +1,157 @@
+package com.tbw.security.securityevents.detection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.Environment;
+import com.tbw.security.securityevents.EventHeader;
+import com.tbw.security.securityevents.SecurityEvent;
+import com.tbw.security.securityevents.SecurityEventType;
+import com.tbw.security.securityevents.Severity;
+import com.tbw.security.securityevents.ThreatLevel;
+
+class BruteForceDetectorTest {
+
+    private static final Instant START = Instant.parse("2024-03-01T12:00:00Z");
+
+    private final List<ApplicationLifecycleEvent> alerts = new ArrayList<>();
+
+    private static ApplicationLifecycleEvent failure(Instant timestamp, String clientIp, String resource) {
+        return securityEvent(timestamp, SecurityEventType.AUTHENTICATION_FAILURE, clientIp, resource);
+    }
+
+    private static ApplicationLifecycleEvent securityEvent(Instant timestamp, SecurityEventType type,
+            String clientIp, String resource) {
+        return ApplicationLifecycleEvent.newBuilder()
+            .setHeader(EventHeader.newBuilder()
+                .setEventId("evt-" + timestamp.toEpochMilli())
+                .setTimestamp(timestamp)
+                .setApplicationName("security-app")
+                .setApplicationVersion("2.0.0")
+                .setEnvironment(Environment.PRODUCTION)
+                .setSourceHost("app-server-01")
+                .setSeverity(Severity.WARN)
+                .build())
+            .setBody(SecurityEvent.newBuilder()
+                .setEventType(type)
+                .setResource(resource)
+                .setThreatLevel(ThreatLevel.LOW)
+                .setClientIp(clientIp)
+                .setUserAgent("curl/8.0")
+                .build())
+            .build();
+    }
+
+    private BruteForceDetector detector() {
+        return BruteForceDetector.newBuilder(alerts::add)
+            .setWindow(Duration.ofSeconds(60))
+            .setBuckets(6)
+            .setCapacity(64)
+            .setClientIpThreshold(ThreatLevel.MEDIUM, 5)
+            .setClientIpThreshold(ThreatLevel.HIGH, 10)
+            .setClientIpThreshold(ThreatLevel.CRITICAL, 0)
+            .setResourceThreshold(ThreatLevel.MEDIUM, 0)
+            .setResourceThreshold(ThreatLevel.HIGH, 0)
+            .setResourceThreshold(ThreatLevel.CRITICAL, 0)
+            .build();
+    }
+
+    @Test
+    void testEscalatesOncePerLevel() throws Exception {
+        BruteForceDetector detector = detector();
+        for (int i = 0; i < 20; i++) {
+            detector.publish(failure(START.plusMillis(100L * i), "10.0.0.1", "/login"));
+        }
+
+        assertEquals(2, alerts.size());
+        ApplicationLifecycleEvent medium = alerts.get(0);
+        SecurityEvent body = (SecurityEvent) medium.getBody();
+        assertEquals(SecurityEventType.SUSPICIOUS_ACTIVITY, body.getEventType());
+        assertEquals(ThreatLevel.MEDIUM, body.getThreatLevel());
+        assertEquals("10.0.0.1", body.getClientIp());
+        assertEquals("/login", body.getResource());
+        assertEquals(Severity.WARN, medium.getHeader().getSeverity());
+        assertNotEquals("evt-" + START.plusMillis(400).toEpochMilli(), medium.getHeader().getEventId());
+        assertNotNull(medium.getHeader().getEventIdBytes());
+        assertEquals("client_ip", medium.getTags().get(BruteForceDetector.DIMENSION_TAG));
+        assertEquals(5.0, medium.getMetrics().get(BruteForceDetector.FAILURE_COUNT_METRIC));
+
+        ApplicationLifecycleEvent high = alerts.get(1);
+        assertEquals(ThreatLevel.HIGH, ((SecurityEvent) high.getBody()).getThreatLevel());
+        assertEquals(Severity.ERROR, high.getHeader().getSeverity());
+        assertEquals(20, detector.getFailureCount());
+        assertEquals(2, detector.getAlertCount());
+    }
+
+    @Test
+    void testCountsOnlyWithinSlidingWindow() throws Exception {
+        BruteForceDetector detector = detector();
+        // Four failures every 30 seconds never put five inside one 60 second window
+        for (int i = 0; i < 40; i++) {
+            detector.publish(failure(START.plusSeconds(30L * (i / 2)).plusMillis(i % 2), "10.0.0.1", "/login"));
+        }
+        assertEquals(List.of(), alerts);
+    }
+
+    @Test
+    void testRearmsAfterQuietWindow() throws Exception {
+        BruteForceDetector detector = detector();
+        for (int i = 0; i < 5; i++) {
+            detector.publish(failure(START.plusMillis(i), "10.0.0.1", "/login"));
+        }
+        for (int i = 0; i < 5; i++) {
+            detector.publish(failure(START.plusSeconds(5 * 60).plusMillis(i), "10.0.0.1", "/login"));
+        }
+        assertEquals(2, alerts.size());
+    }
+
+    @Test
+    void testTracksKeysIndependentlyAndIgnoresOtherEvents() throws Exception {
+        BruteForceDetector detector = detector();
+        for (int i = 0; i < 4; i++) {
+            detector.publish(failure(START.plusMillis(i), "10.0.0.1", "/login"));
+            detector.publish(failure(START.plusMillis(i), "10.0.0.2", "/login"));
+            detector.publish(securityEvent(START.plusMillis(i), SecurityEventType.AUTHORIZATION_FAILURE,
+                    "10.0.0.1", "/admin"));
+        }
+        assertEquals(List.of(), alerts);
+        assertEquals(8, detector.getFailureCount());
+    }
+
+    @Test
+    void testReportsResourceUnderDistributedAttack() throws Exception {
+        BruteForceDetector detector = BruteForceDetector.newBuilder(alerts::add)
+            .setResourceThreshold(ThreatLevel.MEDIUM, 0)
+            .setResourceThreshold(ThreatLevel.HIGH, 0)
+            .setResourceThreshold(ThreatLevel.CRITICAL, 100)
+            .build();
+        for (int i = 0; i < 100; i++) {
+            detector.publish(failure(START.plusMillis(i), "10.1.0." + i, "/login"));
+        }
+
+        assertEquals(1, alerts.size());
+        SecurityEvent body = (SecurityEvent) alerts.get(0).getBody();
+        assertEquals(ThreatLevel.CRITICAL, body.getThreatLevel());
+        assertEquals("/login", body.getResource());
+        assertNull(body.getClientIp());
+        assertEquals("resource", alerts.get(0).getTags().get(BruteForceDetector.DIMENSION_TAG));
+    }
+
+    @Test
+    void testBoundedTableKeepsHeavyKeys() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(8, 60_000, 6, new int[] {50});
+        int reported = 0;
+        for (int i = 0; i < 10_000; i++) {
+            reported += counter.increment("10.0.0.1", i) > 0 ? 1 : 0;
+            counter.increment("spray-" + i, i);
+        }
+        assertEquals(1, reported);
+    }
+}
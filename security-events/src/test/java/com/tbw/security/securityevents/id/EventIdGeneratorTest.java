@@ -0,0 +1,79 @@
+package com.tbw.security.securityevents.id;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.tbw.security.securityevents.EventIdBytes;
+
+class EventIdGeneratorTest {
+
+    private final UuidV7EventIdGenerator uuidV7 = new UuidV7EventIdGenerator();
+    private final UlidEventIdGenerator ulid = new UlidEventIdGenerator();
+
+    @Test
+    void testIdsAreVersion7UuidsWithPrefix() {
+        String id = uuidV7.nextId();
+        assertTrue(id.startsWith("evt-"));
+        UUID uuid = UUID.fromString(id.substring(4));
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertEquals(id.substring(4), uuid.toString());
+    }
+
+    @Test
+    void testIdsAreStrictlyIncreasingWithinAThread() {
+        assertStrictlyIncreasing(uuidV7);
+        assertStrictlyIncreasing(ulid);
+    }
+
+    private static void assertStrictlyIncreasing(EventIdGenerator generator) {
+        String previous = generator.nextId();
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            String id = generator.nextId();
+            assertTrue(id.compareTo(previous) > 0, previous + " >= " + id);
+            assertTrue(seen.add(id));
+            previous = id;
+        }
+    }
+
+    @Test
+    void testTimestampIsEmbedded() {
+        for (EventIdGenerator generator : new EventIdGenerator[] {uuidV7, ulid}) {
+            long before = System.currentTimeMillis();
+            UUID uuid = generator.nextUuid();
+            long millis = uuid.getMostSignificantBits() >>> 16;
+            assertTrue(millis >= before && millis <= System.currentTimeMillis() + 1);
+        }
+    }
+
+    @Test
+    void testUlidIsCrockfordBase32() {
+        assertEquals("evt-00000000000000000000000000", ulid.format(new UUID(0, 0)));
+        assertEquals("evt-7ZZZZZZZZZZZZZZZZZZZZZZZZZ", ulid.format(new UUID(-1, -1)));
+        // 01ARZ3NDEKTSV4RRFFQ69G5FAV is the example from the ULID specification
+        UUID spec = new UUID(0x01563E3AB5D3D676L, 0x4C61EFB99302BD5BL);
+        assertEquals("evt-01ARZ3NDEKTSV4RRFFQ69G5FAV", ulid.format(spec));
+    }
+
+    @Test
+    void testBinaryFormRoundTripsAndSortsLikeTheString() {
+        UUID first = uuidV7.nextUuid();
+        UUID second = uuidV7.nextUuid();
+        EventIdBytes firstBytes = EventIds.toBytes(first);
+        EventIdBytes secondBytes = EventIds.toBytes(second);
+        assertEquals(first, EventIds.fromBytes(firstBytes));
+        assertTrue(firstBytes.compareTo(secondBytes) < 0);
+    }
+
+    @Test
+    void testRandomUuidKeepsLegacyFormat() {
+        String id = new RandomUuidEventIdGenerator().nextId();
+        assertEquals(4, UUID.fromString(id.substring(4)).version());
+    }
+}
@@ -0,0 +1,166 @@
+package com.tbw.security.securityevents.journal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.DatabaseOperation;
+import com.tbw.security.securityevents.DatabaseOperationType;
+import com.tbw.security.securityevents.Environment;
+import com.tbw.security.securityevents.EventHeader;
+import com.tbw.security.securityevents.OperationStatus;
+import com.tbw.security.securityevents.Severity;
+import com.tbw.security.securityevents.publisher.EventPublisher;
+
+class MappedEventJournalTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    @TempDir
+    Path directory;
+
+    private static ApplicationLifecycleEvent event(int i) {
+        return ApplicationLifecycleEvent.newBuilder()
+            .setHeader(EventHeader.newBuilder()
+                .setEventId("evt-" + i)
+                .setTimestamp(Instant.ofEpochMilli(1_700_000_000_000L + i))
+                .setApplicationName("security-app")
+                .setApplicationVersion("2.0.0")
+                .setEnvironment(Environment.PRODUCTION)
+                .setSourceHost("app-server-01")
+                .setSeverity(Severity.ERROR)
+                .build())
+            .setBody(DatabaseOperation.newBuilder()
+                .setOperationType(DatabaseOperationType.BACKUP)
+                .setDatabaseName("audit")
+                .setOperationStatus(OperationStatus.FAILED)
+                .setDurationMs((long) i)
+                .setAffectedTables(List.of("events", "sessions"))
+                .setErrorMessage("disk full")
+                .build())
+            .build();
+    }
+
+    private static List<ApplicationLifecycleEvent> drain(JournalReader reader) throws Exception {
+        List<ApplicationLifecycleEvent> events = new ArrayList<>();
+        ApplicationLifecycleEvent event;
+        while ((event = reader.poll(null)) != null) {
+            events.add(event);
+        }
+        return events;
+    }
+
+    @Test
+    void testAppendAndReadAcrossSegments() throws Exception {
+        try (MappedEventJournal journal = new MappedEventJournal(directory, SEGMENT_SIZE)) {
+            for (int i = 0; i < 200; i++) {
+                journal.publish(event(i));
+            }
+        }
+        assertTrue(JournalSegments.segmentIndexes(directory).length > 1);
+
+        try (JournalReader reader = new JournalReader(directory)) {
+            List<ApplicationLifecycleEvent> events = drain(reader);
+            assertEquals(200, events.size());
+            for (int i = 0; i < 200; i++) {
+                assertEquals(event(i), events.get(i));
+            }
+        }
+    }
+
+    @Test
+    void testReaderFollowsConcurrentAppends() throws Exception {
+        try (MappedEventJournal journal = new MappedEventJournal(directory, SEGMENT_SIZE);
+                JournalReader reader = new JournalReader(directory)) {
+            assertNull(reader.poll(null));
+            journal.publish(event(0));
+            assertEquals(event(0), reader.poll(null));
+            assertNull(reader.poll(null));
+            for (int i = 1; i < 100; i++) {
+                journal.publish(event(i));
+            }
+            assertEquals(99, drain(reader).size());
+        }
+    }
+
+    @Test
+    void testCommittedCursorSurvivesRestartAndDeletesReadSegments() throws Exception {
+        try (MappedEventJournal journal = new MappedEventJournal(directory, SEGMENT_SIZE)) {
+            for (int i = 0; i < 200; i++) {
+                journal.publish(event(i));
+            }
+        }
+        try (JournalReader reader = new JournalReader(directory)) {
+            for (int i = 0; i < 150; i++) {
+                reader.poll(null);
+            }
+            reader.commit();
+            reader.poll(null);
+        }
+        long[] remaining = JournalSegments.segmentIndexes(directory);
+        assertTrue(remaining[0] > 0, "fully read segments should be deleted");
+
+        try (JournalReader reader = new JournalReader(directory)) {
+            List<ApplicationLifecycleEvent> events = drain(reader);
+            assertEquals(50, events.size());
+            assertEquals(event(150), events.get(0));
+        }
+    }
+
+    @Test
+    void testWriterResumesAfterExistingRecords() throws Exception {
+        try (MappedEventJournal journal = new MappedEventJournal(directory, SEGMENT_SIZE)) {
+            journal.publish(event(0));
+            journal.publish(event(1));
+        }
+        try (MappedEventJournal journal = new MappedEventJournal(directory, SEGMENT_SIZE)) {
+            journal.publish(event(2));
+        }
+        try (JournalReader reader = new JournalReader(directory)) {
+            assertEquals(List.of(event(0), event(1), event(2)), drain(reader));
+        }
+    }
+
+    @Test
+    void testFailedForwardIsRetried() throws Exception {
+        try (MappedEventJournal journal = new MappedEventJournal(directory, SEGMENT_SIZE)) {
+            for (int i = 0; i < 10; i++) {
+                journal.publish(event(i));
+            }
+        }
+        List<ApplicationLifecycleEvent> delivered = new ArrayList<>();
+        EventPublisher failing = event -> {
+            throw new IllegalStateException("broker unavailable");
+        };
+        EventPublisher working = delivered::add;
+
+        try (JournalReader reader = new JournalReader(directory)) {
+            assertThrows(IllegalStateException.class, () -> reader.forwardTo(failing, 5));
+            assertEquals(5, reader.forwardTo(working, 5));
+            assertEquals(5, reader.forwardTo(working, 100));
+            assertEquals(0, reader.forwardTo(working, 100));
+        }
+        assertEquals(10, delivered.size());
+        assertEquals(event(0), delivered.get(0));
+    }
+
+    @Test
+    void testOversizedEventIsRejected() throws Exception {
+        ApplicationLifecycleEvent event = event(0);
+        ((DatabaseOperation) event.getBody()).setErrorMessage("x".repeat(2 * SEGMENT_SIZE));
+        try (MappedEventJournal journal = new MappedEventJournal(directory, SEGMENT_SIZE)) {
+            assertThrows(IllegalArgumentException.class, () -> journal.publish(event));
+            journal.publish(event(1));
+        }
+        try (JournalReader reader = new JournalReader(directory)) {
+            assertEquals(List.of(event(1)), drain(reader));
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.tbw.security.securityevents.publisher;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.apache.avro.file.CodecFactory;
+import org.apache.avro.file.DataFileConstants;
+import org.apache.avro.file.DataFileReader;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.ConfigSource;
+import com.tbw.security.securityevents.ConfigurationChange;
+import com.tbw.security.securityevents.Environment;
+import com.tbw.security.securityevents.EventHeader;
+import com.tbw.security.securityevents.Severity;
+
+class ContainerFileEventPublisherTest {
+
+    @TempDir
+    Path directory;
+
+    private static ApplicationLifecycleEvent event(int i) {
+        return ApplicationLifecycleEvent.newBuilder()
+            .setHeader(EventHeader.newBuilder()
+                .setEventId("evt-" + i)
+                .setTimestamp(Instant.ofEpochMilli(1_700_000_000_000L + i))
+                .setApplicationName("security-app")
+                .setApplicationVersion("2.0.0")
+                .setEnvironment(Environment.STAGING)
+                .setSourceHost("app-server-01")
+                .setSeverity(Severity.INFO)
+                .build())
+            .setBody(ConfigurationChange.newBuilder()
+                .setConfigKey("database.max_connections")
+                .setOldValue(String.valueOf(i))
+                .setNewValue(String.valueOf(i + 1))
+                .setChangeSource(ConfigSource.ADMIN_INTERFACE)
+                .setRequiresRestart(false)
+                .build())
+            .build();
+    }
+
+    private List<Path> files(String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(f -> f.getFileName().toString().endsWith(suffix)).sorted().toList();
+        }
+    }
+
+    private static List<ApplicationLifecycleEvent> read(List<Path> files) throws IOException {
+        List<ApplicationLifecycleEvent> events = new ArrayList<>();
+        for (Path file : files) {
+            try (DataFileReader<ApplicationLifecycleEvent> reader = new DataFileReader<>(file.toFile(),
+                    new SpecificDatumReader<>(ApplicationLifecycleEvent.class))) {
+                reader.forEach(events::add);
+            }
+        }
+        return events;
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"null", "deflate", "snappy", "zstandard"})
+    void testEventsAreReadableWithEachCodec(String codec) throws Exception {
+        try (ContainerFileEventPublisher publisher = ContainerFileEventPublisher.newBuilder(directory)
+                .setCodec(CodecFactory.fromString(codec))
+                .build()) {
+            for (int i = 0; i < 100; i++) {
+                publisher.publish(event(i));
+            }
+        }
+
+        List<Path> files = files(ContainerFileEventPublisher.FILE_SUFFIX);
+        assertEquals(1, files.size());
+        assertTrue(files(ContainerFileEventPublisher.IN_PROGRESS_SUFFIX).isEmpty());
+        try (DataFileReader<ApplicationLifecycleEvent> reader = new DataFileReader<>(files.get(0).toFile(),
+                new SpecificDatumReader<>(ApplicationLifecycleEvent.class))) {
+            assertEquals(codec, reader.getMetaString(DataFileConstants.CODEC));
+        }
+        List<ApplicationLifecycleEvent> events = read(files);
+        assertEquals(100, events.size());
+        assertEquals(event(42), events.get(42));
+    }
+
+    @Test
+    void testReportsEncodedSizeOfEachEvent() throws Exception {
+        List<Integer> sizes = new ArrayList<>();
+        try (ContainerFileEventPublisher publisher = ContainerFileEventPublisher.newBuilder(directory)
+                .setSerializationListener((event, durationNanos, payloadBytes) -> sizes.add(payloadBytes))
+                .build()) {
+            for (int i = 0; i < 3; i++) {
+                publisher.publish(event(i));
+            }
+        }
+
+        assertEquals(3, sizes.size());
+        assertEquals(ApplicationLifecycleEvent.getEncoder().encode(event(0)).remaining() - 10, sizes.get(0));
+        assertEquals(3, read(files(ContainerFileEventPublisher.FILE_SUFFIX)).size());
+    }
+
+    @Test
+    void testRollsBySize() throws Exception {
+        ContainerFileEventPublisher publisher = ContainerFileEventPublisher.newBuilder(directory)
+            .setCodec(CodecFactory.nullCodec())
+            .setSyncInterval(1024)
+            .setMaxFileSize(4 * 1024)
+            .build();
+        for (int i = 0; i < 500; i++) {
+            publisher.publish(event(i));
+        }
+        publisher.close();
+
+        List<Path> files = files(ContainerFileEventPublisher.FILE_SUFFIX);
+        assertTrue(files.size() > 1, "expected several files but got " + files.size());
+        assertEquals(files.size(), publisher.getRolledFileCount());
+        assertEquals(500, publisher.getWrittenCount());
+        List<ApplicationLifecycleEvent> events = read(files);
+        assertEquals(500, events.size());
+    }
+
+    @Test
+    void testRollsByAge() throws Exception {
+        try (ContainerFileEventPublisher publisher = ContainerFileEventPublisher.newBuilder(directory)
+                .setMaxFileAge(Duration.ofMillis(50))
+                .build()) {
+            publisher.publish(event(0));
+            publisher.flush();
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (publisher.getRolledFileCount() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(1, publisher.getRolledFileCount());
+            publisher.publish(event(1));
+        }
+        assertEquals(2, files(ContainerFileEventPublisher.FILE_SUFFIX).size());
+    }
+
+    @Test
+    void testFlushMakesEventsVisibleInProgress() throws Exception {
+        try (ContainerFileEventPublisher publisher = ContainerFileEventPublisher.newBuilder(directory)
+                .setFlushInterval(Duration.ofHours(1))
+                .build()) {
+            publisher.publish(event(0));
+            publisher.flush();
+            List<Path> inProgress = files(ContainerFileEventPublisher.IN_PROGRESS_SUFFIX);
+            assertEquals(1, inProgress.size());
+            assertEquals(List.of(event(0)), read(inProgress));
+        }
+    }
+
+    @Test
+    void testCloseCompletesWhenWritesFail() throws Exception {
+        Path spool = directory.resolve("spool");
+        ContainerFileEventPublisher publisher = ContainerFileEventPublisher.newBuilder(spool).build();
+        // Files can no longer be created once the directory is replaced by a plain file
+        Files.delete(spool);
+        Files.createFile(spool);
+
+        for (int i = 0; i < 3; i++) {
+            publisher.publish(event(i));
+        }
+        assertTimeoutPreemptively(Duration.ofSeconds(10), publisher::close);
+
+        assertEquals(3, publisher.getFailedCount());
+        assertEquals(0, publisher.getWrittenCount());
+        assertTimeoutPreemptively(Duration.ofSeconds(10), publisher::flush);
+    }
+
+    @Test
+    void testEventsAcceptedDuringCloseAreWrittenOrCounted() throws Exception {
+        ContainerFileEventPublisher publisher = ContainerFileEventPublisher.newBuilder(directory)
+            .setQueueCapacity(16)
+            .build();
+        AtomicLong accepted = new AtomicLong();
+        List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            producers.add(new Thread(() -> {
+                try {
+                    for (int i = 0; ; i++) {
+                        publisher.publish(event(i));
+                        accepted.incrementAndGet();
+                    }
+                } catch (IllegalStateException | InterruptedException closed) {
+                    // Expected once close() has started
+                }
+            }));
+        }
+        producers.forEach(Thread::start);
+        Thread.sleep(50);
+        Thread closer = new Thread(() -> assertDoesNotThrow(publisher::close));
+        closer.start();
+        publisher.close();
+        closer.join();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        assertEquals(accepted.get(), publisher.getWrittenCount() + publisher.getFailedCount());
+        assertEquals(publisher.getWrittenCount(), read(files(ContainerFileEventPublisher.FILE_SUFFIX)).size());
+        assertEquals(0, publisher.getQueueDepth());
+    }
+}
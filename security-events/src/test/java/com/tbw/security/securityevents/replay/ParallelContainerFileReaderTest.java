@@ -0,0 +1,132 @@
+package com.tbw.security.securityevents.replay;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.apache.avro.file.CodecFactory;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.Environment;
+import com.tbw.security.securityevents.EventHeader;
+import com.tbw.security.securityevents.SecurityEvent;
+import com.tbw.security.securityevents.SecurityEventType;
+import com.tbw.security.securityevents.Severity;
+import com.tbw.security.securityevents.ThreatLevel;
+
+class ParallelContainerFileReaderTest {
+
+    private static final int EVENT_COUNT = 20_000;
+
+    @TempDir
+    Path directory;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void shutdownPool() {
+        pool.shutdown();
+    }
+
+    private static ApplicationLifecycleEvent event(int index) {
+        return ApplicationLifecycleEvent.newBuilder()
+            .setHeader(EventHeader.newBuilder()
+                .setEventId("evt-" + index)
+                .setTimestamp(Instant.ofEpochMilli(1_700_000_000_000L + index))
+                .setApplicationName("security-app")
+                .setApplicationVersion("2.0.0")
+                .setEnvironment(Environment.PRODUCTION)
+                .setSourceHost("app-server-01")
+                .setSeverity(Severity.WARN)
+                .build())
+            .setBody(SecurityEvent.newBuilder()
+                .setEventType(SecurityEventType.AUTHENTICATION_FAILURE)
+                .setResource("/login")
+                .setThreatLevel(ThreatLevel.MEDIUM)
+                .setClientIp("10.0." + (index / 256 % 256) + "." + (index % 256))
+                .build())
+            .build();
+    }
+
+    private Path writeFile() throws Exception {
+        Path file = directory.resolve("events.avro");
+        try (DataFileWriter<ApplicationLifecycleEvent> writer =
+                new DataFileWriter<>(new SpecificDatumWriter<>(ApplicationLifecycleEvent.class))) {
+            writer.setCodec(CodecFactory.deflateCodec(1)).setSyncInterval(4 * 1024);
+            writer.create(ApplicationLifecycleEvent.getClassSchema(), file.toFile());
+            for (int i = 0; i < EVENT_COUNT; i++) {
+                writer.append(event(i));
+            }
+        }
+        return file;
+    }
+
+    @Test
+    void testOrderedMergeReturnsEveryEventInFileOrder() throws Exception {
+        try (ParallelContainerFileReader reader = new ParallelContainerFileReader(writeFile(), pool, 16 * 1024)) {
+            assertTrue(reader.getSplitCount() > 4);
+            List<String> ids = new ArrayList<>();
+            reader.forEachOrdered(event -> ids.add(event.getHeader().getEventId()));
+
+            assertEquals(EVENT_COUNT, ids.size());
+            for (int i = 0; i < EVENT_COUNT; i++) {
+                assertEquals("evt-" + i, ids.get(i));
+            }
+        }
+    }
+
+    @Test
+    void testReadersArePooledAndClosed() throws Exception {
+        ParallelContainerFileReader reader = new ParallelContainerFileReader(writeFile(), pool, 16 * 1024);
+        reader.forEachOrdered(event -> { });
+        reader.forEach(event -> { });
+
+        assertTrue(reader.getOpenReaderCount() <= 2 * pool.getParallelism(),
+                "opened " + reader.getOpenReaderCount() + " readers for " + reader.getSplitCount() + " splits");
+        reader.close();
+        assertEquals(0, reader.getOpenReaderCount());
+    }
+
+    @Test
+    void testUnorderedConsumptionSeesEveryEventOnce() throws Exception {
+        try (ParallelContainerFileReader reader = new ParallelContainerFileReader(writeFile(), pool, 16 * 1024)) {
+            Set<String> ids = ConcurrentHashMap.newKeySet();
+            reader.forEach(event -> assertTrue(ids.add(event.getHeader().getEventId())));
+            assertEquals(EVENT_COUNT, ids.size());
+        }
+    }
+
+    @Test
+    void testParallelStreamMatchesSequentialRead() throws Exception {
+        try (ParallelContainerFileReader reader = new ParallelContainerFileReader(writeFile(), pool, 16 * 1024)) {
+            Set<String> ids = reader.parallelStream()
+                .map(event -> event.getHeader().getEventId())
+                .collect(Collectors.toSet());
+            assertEquals(EVENT_COUNT, ids.size());
+            assertTrue(ids.contains("evt-" + (EVENT_COUNT - 1)));
+        }
+    }
+
+    @Test
+    void testSplitLargerThanFileDecodesEverything() throws Exception {
+        try (ParallelContainerFileReader reader = new ParallelContainerFileReader(writeFile())) {
+            assertEquals(1, reader.getSplitCount());
+            List<ApplicationLifecycleEvent> events = new ArrayList<>();
+            reader.forEachOrdered(events::add);
+            assertEquals(event(0), events.get(0));
+            assertEquals(EVENT_COUNT, events.size());
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.tbw.security.securityevents.schema;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.message.MissingSchemaException;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.Environment;
+import com.tbw.security.securityevents.EventHeader;
+import com.tbw.security.securityevents.EventIdBytes;
+import com.tbw.security.securityevents.SecurityEvent;
+import com.tbw.security.securityevents.SecurityEventType;
+import com.tbw.security.securityevents.Severity;
+import com.tbw.security.securityevents.ThreatLevel;
+
+class MixedVersionEventDecoderTest {
+
+    @TempDir
+    Path directory;
+
+    /** The schema before EventHeader gained event_id_bytes. */
+    private static Schema versionOneSchema() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        ObjectNode root = (ObjectNode) mapper.readTree(ApplicationLifecycleEvent.getClassSchema().toString());
+        ArrayNode headerFields = (ArrayNode) root.get("fields").get(0).get("type").get("fields");
+        headerFields.remove(headerFields.size() - 1);
+        return new Schema.Parser().parse(mapper.writeValueAsString(root));
+    }
+
+    private static ApplicationLifecycleEvent event(String eventId) {
+        EventHeader header = EventHeader.newBuilder()
+            .setEventId(eventId)
+            .setTimestamp(Instant.ofEpochMilli(1_700_000_000_000L))
+            .setApplicationName("security-app")
+            .setApplicationVersion("2.0.0")
+            .setEnvironment(Environment.PRODUCTION)
+            .setSourceHost("app-server-01")
+            .setSeverity(Severity.WARN)
+            .build();
+        SecurityEvent body = SecurityEvent.newBuilder()
+            .setEventType(SecurityEventType.AUTHENTICATION_FAILURE)
+            .setResource("/login")
+            .setThreatLevel(ThreatLevel.MEDIUM)
+            .setClientIp("10.0.0.1")
+            .build();
+        return ApplicationLifecycleEvent.newBuilder()
+            .setHeader(header)
+            .setBody(body)
+            .setTags(Map.of("region", "eu-west-1"))
+            .build();
+    }
+
+    private static byte[] write(Schema writerSchema, ApplicationLifecycleEvent event) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+        new SpecificDatumWriter<ApplicationLifecycleEvent>(writerSchema).write(event, encoder);
+        encoder.flush();
+        return out.toByteArray();
+    }
+
+    @Test
+    void testDecodesOlderAndCurrentWriterVersions() throws Exception {
+        Schema versionOne = versionOneSchema();
+        CachingSchemaStore store = new CachingSchemaStore();
+        long versionOneFingerprint = store.register(versionOne);
+        long currentFingerprint = SchemaNormalization.parsingFingerprint64(ApplicationLifecycleEvent.getClassSchema());
+        MixedVersionEventDecoder decoder = new MixedVersionEventDecoder(store);
+
+        ApplicationLifecycleEvent current = event("evt-2");
+        current.getHeader().setEventIdBytes(new EventIdBytes(new byte[16]));
+
+        ApplicationLifecycleEvent fromOld = decoder.decode(versionOneFingerprint, write(versionOne, event("evt-1")), null);
+        ApplicationLifecycleEvent fromCurrent = decoder.decode(currentFingerprint,
+            write(ApplicationLifecycleEvent.getClassSchema(), current), null);
+
+        assertEquals("evt-1", fromOld.getHeader().getEventId());
+        assertNull(fromOld.getHeader().getEventIdBytes());
+        assertEquals(current, fromCurrent);
+    }
+
+    @Test
+    void testStoreReturnsCanonicalInstancePerFingerprint() throws Exception {
+        CachingSchemaStore store = new CachingSchemaStore();
+        long first = store.register(versionOneSchema());
+        long second = store.register(versionOneSchema());
+
+        assertEquals(first, second);
+        assertSame(store.findByFingerprint(first), store.findByFingerprint(second));
+        assertEquals(2, store.getSchemas().size());
+    }
+
+    @Test
+    void testFallbackLookupsAreMemoized() throws Exception {
+        Schema versionOne = versionOneSchema();
+        long fingerprint = SchemaNormalization.parsingFingerprint64(versionOne);
+        int[] lookups = new int[1];
+        CachingSchemaStore store = new CachingSchemaStore(requested -> {
+            lookups[0]++;
+            return requested == fingerprint ? versionOne : null;
+        });
+
+        assertSame(versionOne, store.findByFingerprint(fingerprint));
+        assertSame(versionOne, store.findByFingerprint(fingerprint));
+        assertNull(store.findByFingerprint(42L));
+        assertEquals(2, lookups[0]);
+    }
+
+    @Test
+    void testLoadsSchemasFromDirectory() throws Exception {
+        Files.writeString(directory.resolve("application_lifecycle_event-v1.avsc"), versionOneSchema().toString());
+        Files.writeString(directory.resolve("README.txt"), "not a schema");
+
+        CachingSchemaStore store = CachingSchemaStore.fromDirectory(directory);
+
+        assertNotNull(store.findByFingerprint(SchemaNormalization.parsingFingerprint64(versionOneSchema())));
+        assertEquals(2, store.getSchemas().size());
+    }
+
+    @Test
+    void testUnknownFingerprintIsRejected() {
+        MixedVersionEventDecoder decoder = new MixedVersionEventDecoder(new CachingSchemaStore());
+        assertThrows(MissingSchemaException.class, () -> decoder.decode(42L, new byte[0], null));
+    }
+
+    @Test
+    void testDecodesSingleObjectEncoding() throws Exception {
+        ApplicationLifecycleEvent event = event("evt-3");
+        MixedVersionEventDecoder decoder = new MixedVersionEventDecoder(new CachingSchemaStore());
+        assertEquals(event, decoder.decodeSingleObject(ApplicationLifecycleEvent.getEncoder().encode(event), null));
+    }
+}
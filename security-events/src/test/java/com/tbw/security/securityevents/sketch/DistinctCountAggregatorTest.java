@@ -0,0 +1,148 @@
+package com.tbw.security.securityevents.sketch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.Environment;
+import com.tbw.security.securityevents.EventHeader;
+import com.tbw.security.securityevents.SecurityEvent;
+import com.tbw.security.securityevents.SecurityEventType;
+import com.tbw.security.securityevents.Severity;
+import com.tbw.security.securityevents.ThreatLevel;
+
+class DistinctCountAggregatorTest {
+
+    private static final Instant START = Instant.parse("2024-03-01T12:00:00Z");
+
+    private static ApplicationLifecycleEvent event(Instant timestamp, SecurityEventType type, String userId,
+            String clientIp, String resource) {
+        return ApplicationLifecycleEvent.newBuilder()
+            .setHeader(EventHeader.newBuilder()
+                .setEventId("evt-" + timestamp.toEpochMilli())
+                .setTimestamp(timestamp)
+                .setApplicationName("security-app")
+                .setApplicationVersion("2.0.0")
+                .setEnvironment(Environment.PRODUCTION)
+                .setSourceHost("app-server-01")
+                .setUserId(userId)
+                .setSeverity(Severity.WARN)
+                .build())
+            .setBody(SecurityEvent.newBuilder()
+                .setEventType(type)
+                .setResource(resource)
+                .setThreatLevel(ThreatLevel.MEDIUM)
+                .setClientIp(clientIp)
+                .build())
+            .build();
+    }
+
+    @Test
+    void testCountsDistinctUsersOverRecentWindows() {
+        DistinctCountAggregator users = DistinctCountAggregator.newBuilder(DistinctKey.USER_ID)
+            .setEventTypes(Set.of(SecurityEventType.AUTHORIZATION_FAILURE))
+            .setRetainedWindows(10)
+            .build();
+        for (int minute = 0; minute < 10; minute++) {
+            for (int user = 0; user < 100; user++) {
+                // Each minute sees 100 users, 50 of them new
+                Instant timestamp = START.plusSeconds(60L * minute + user % 60);
+                users.publish(event(timestamp, SecurityEventType.AUTHORIZATION_FAILURE,
+                        "user-" + (minute * 50 + user), "10.0.0.1", "/admin"));
+                users.publish(event(timestamp, SecurityEventType.AUTHENTICATION_FAILURE,
+                        "other-" + (minute * 100 + user), "10.0.0.1", "/login"));
+            }
+        }
+
+        assertEquals(100, users.distinctCount(Duration.ofMinutes(1)), 5);
+        assertEquals(300, users.distinctCount(Duration.ofMinutes(5)), 15);
+        assertEquals(550, users.distinctCount(Duration.ofHours(1)), 25);
+    }
+
+    @Test
+    void testCountsDistinctResourcesPerClientIp() {
+        DistinctCountAggregator probes = DistinctCountAggregator.newBuilder(DistinctKey.RESOURCE)
+            .setGroupBy(DistinctKey.CLIENT_IP)
+            .setMaxGroups(2)
+            .build();
+        for (int i = 0; i < 200; i++) {
+            probes.publish(event(START.plusMillis(i), SecurityEventType.AUTHORIZATION_FAILURE, null, "10.0.0.1", "/api/" + i));
+            probes.publish(event(START.plusMillis(i), SecurityEventType.AUTHORIZATION_FAILURE, null, "10.0.0.2", "/api/" + i % 3));
+        }
+        probes.publish(event(START, SecurityEventType.AUTHORIZATION_FAILURE, null, "10.0.0.3", "/api/0"));
+
+        assertEquals(200, probes.distinctCount("10.0.0.1", Duration.ofMinutes(1)), 10);
+        assertEquals(3, probes.distinctCount("10.0.0.2", Duration.ofMinutes(1)));
+        assertEquals(0, probes.distinctCount("10.0.0.3", Duration.ofMinutes(1)));
+        assertEquals(1, probes.getDroppedCount());
+        assertEquals(200, probes.distinctCount(Duration.ofMinutes(1)), 10);
+    }
+
+    @Test
+    void testGroupCapHoldsUnderConcurrentPublishers() throws Exception {
+        DistinctCountAggregator probes = DistinctCountAggregator.newBuilder(DistinctKey.RESOURCE)
+            .setGroupBy(DistinctKey.CLIENT_IP)
+            .setMaxGroups(16)
+            .build();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int offset = thread * 1000;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        probes.publish(event(START, SecurityEventType.AUTHORIZATION_FAILURE, null,
+                                "10.0." + (offset + i) / 256 + "." + (offset + i) % 256, "/api"));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(16, probes.sketches(Duration.ofMinutes(1)).size());
+        assertEquals(8000 - 16, probes.getDroppedCount());
+    }
+
+    @Test
+    void testSketchesFromInstancesMerge() {
+        DistinctCountAggregator first = DistinctCountAggregator.newBuilder(DistinctKey.CLIENT_IP).build();
+        DistinctCountAggregator second = DistinctCountAggregator.newBuilder(DistinctKey.CLIENT_IP).build();
+        for (int i = 0; i < 1000; i++) {
+            first.publish(event(START, SecurityEventType.AUTHENTICATION_FAILURE, null, "10.0.0." + (i % 250), "/login"));
+            second.publish(event(START, SecurityEventType.AUTHENTICATION_FAILURE, null, "10.0.1." + (i % 250), "/login"));
+        }
+
+        HyperLogLog combined = HyperLogLog.fromByteArray(first.sketch(Duration.ofMinutes(1)).toByteArray());
+        combined.merge(HyperLogLog.fromByteArray(second.sketch(Duration.ofMinutes(1)).toByteArray()));
+
+        assertEquals(500, combined.estimate(), 25);
+    }
+
+    @Test
+    void testDropsEventsOlderThanRetainedWindows() {
+        DistinctCountAggregator ips = DistinctCountAggregator.newBuilder(DistinctKey.CLIENT_IP)
+            .setRetainedWindows(2)
+            .build();
+        ips.publish(event(START, SecurityEventType.AUTHENTICATION_FAILURE, null, "10.0.0.1", "/login"));
+        ips.publish(event(START.plusSeconds(120), SecurityEventType.AUTHENTICATION_FAILURE, null, "10.0.0.2", "/login"));
+        ips.publish(event(START, SecurityEventType.AUTHENTICATION_FAILURE, null, "10.0.0.3", "/login"));
+
+        assertEquals(1, ips.distinctCount(Duration.ofHours(1)));
+        assertEquals(Map.of(), ips.sketches(Duration.ofHours(1)));
+    }
+}
@@ -0,0 +1,72 @@
+package com.tbw.security.securityevents.sketch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+class HeavyHitterSketchTest {
+
+    @Test
+    void testCountMinSketchNeverUndercounts() {
+        CountMinSketch sketch = new CountMinSketch(1024, 4);
+        for (int i = 0; i < 10_000; i++) {
+            sketch.add(StringHash.hash64("key-" + (i % 500)), 1);
+        }
+        for (int i = 0; i < 500; i++) {
+            assertTrue(sketch.estimate(StringHash.hash64("key-" + i)) >= 20);
+        }
+        assertEquals(0, sketch.estimate(StringHash.hash64("unseen")), 25);
+    }
+
+    @Test
+    void testFindsHeavyHittersAmongManyRareKeys() {
+        HeavyHitterSketch sketch = new HeavyHitterSketch(8, 4096, 4);
+        for (int i = 0; i < 100_000; i++) {
+            sketch.add("10.0." + (i / 256 % 256) + "." + (i % 256));
+            if (i % 10 == 0) {
+                sketch.add("192.168.0.1");
+            }
+            if (i % 20 == 0) {
+                sketch.add("192.168.0.2");
+            }
+        }
+
+        List<HeavyHitter> top = sketch.top(2);
+        assertEquals(List.of("192.168.0.1", "192.168.0.2"), top.stream().map(HeavyHitter::key).toList());
+        assertTrue(top.get(0).estimatedCount() >= 10_000);
+        assertTrue(top.get(1).estimatedCount() >= 5_000);
+    }
+
+    @Test
+    void testConcurrentUpdates() throws Exception {
+        HeavyHitterSketch sketch = new HeavyHitterSketch(8, 4096, 4);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 25_000; i++) {
+                        sketch.add("attacker");
+                        sketch.add("scanner-" + thread + "-" + i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        HeavyHitter top = sketch.top(1).get(0);
+        assertEquals("attacker", top.key());
+        assertTrue(top.estimatedCount() >= 100_000);
+    }
+}
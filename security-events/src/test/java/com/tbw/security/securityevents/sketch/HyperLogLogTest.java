@@ -0,0 +1,61 @@
+package com.tbw.security.securityevents.sketch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class HyperLogLogTest {
+
+    private static void assertWithin(double relativeError, long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected * relativeError,
+                () -> "expected about " + expected + " but got " + actual);
+    }
+
+    @Test
+    void testEstimatesSmallAndLargeCardinalities() {
+        HyperLogLog small = new HyperLogLog();
+        for (int i = 0; i < 100; i++) {
+            small.add("user-" + i);
+            small.add("user-" + i);
+        }
+        assertWithin(0.05, 100, small.estimate());
+
+        HyperLogLog large = new HyperLogLog();
+        for (int i = 0; i < 1_000_000; i++) {
+            large.add("10." + (i >>> 16) + "." + (i >>> 8 & 0xFF) + "." + (i & 0xFF));
+        }
+        assertWithin(0.05, 1_000_000, large.estimate());
+        assertEquals(0, new HyperLogLog().estimate());
+    }
+
+    @Test
+    void testMergeCountsUnion() {
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        for (int i = 0; i < 60_000; i++) {
+            first.add("user-" + i);
+            second.add("user-" + (i + 30_000));
+        }
+
+        first.merge(second);
+
+        assertWithin(0.05, 90_000, first.estimate());
+        assertThrows(IllegalArgumentException.class, () -> first.merge(new HyperLogLog(10)));
+    }
+
+    @Test
+    void testSerializationRoundTrip() {
+        HyperLogLog sketch = new HyperLogLog(10);
+        for (int i = 0; i < 5_000; i++) {
+            sketch.add("resource-" + i);
+        }
+
+        byte[] bytes = sketch.toByteArray();
+        HyperLogLog copy = HyperLogLog.fromByteArray(bytes);
+
+        assertEquals(2 + 1024, bytes.length);
+        assertEquals(10, copy.getPrecision());
+        assertEquals(sketch.estimate(), copy.estimate());
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromByteArray(new byte[] {1, 10, 0}));
+    }
+}
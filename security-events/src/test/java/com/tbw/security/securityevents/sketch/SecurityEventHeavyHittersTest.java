@@ -0,0 +1,84 @@
+package com.tbw.security.securityevents.sketch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tbw.security.securityevents.ApplicationLifecycleEvent;
+import com.tbw.security.securityevents.Environment;
+import com.tbw.security.securityevents.EventHeader;
+import com.tbw.security.securityevents.SecurityEvent;
+import com.tbw.security.securityevents.SecurityEventType;
+import com.tbw.security.securityevents.Severity;
+import com.tbw.security.securityevents.ThreatLevel;
+
+class SecurityEventHeavyHittersTest {
+
+    private static final Instant START = Instant.parse("2024-03-01T12:00:00Z");
+
+    private static ApplicationLifecycleEvent event(Instant timestamp, SecurityEventType type, String clientIp,
+            String resource) {
+        return ApplicationLifecycleEvent.newBuilder()
+            .setHeader(EventHeader.newBuilder()
+                .setEventId("evt-" + timestamp.toEpochMilli())
+                .setTimestamp(timestamp)
+                .setApplicationName("security-app")
+                .setApplicationVersion("2.0.0")
+                .setEnvironment(Environment.PRODUCTION)
+                .setSourceHost("app-server-01")
+                .setSeverity(Severity.WARN)
+                .build())
+            .setBody(SecurityEvent.newBuilder()
+                .setEventType(type)
+                .setResource(resource)
+                .setThreatLevel(ThreatLevel.MEDIUM)
+                .setClientIp(clientIp)
+                .setUserAgent("python-requests/2.31")
+                .build())
+            .build();
+    }
+
+    private static List<String> keys(List<HeavyHitter> hitters) {
+        return hitters.stream().map(HeavyHitter::key).toList();
+    }
+
+    @Test
+    void testReportsTopAttackersOfPreviousWindow() {
+        SecurityEventHeavyHitters heavyHitters = SecurityEventHeavyHitters.newBuilder().build();
+        for (int i = 0; i < 3000; i++) {
+            Instant timestamp = START.plusMillis(i);
+            heavyHitters.publish(event(timestamp, SecurityEventType.AUTHENTICATION_FAILURE, "10.0.0." + (i % 3 == 0 ? 1 : i % 200), "/login"));
+            if (i % 2 == 0) {
+                heavyHitters.publish(event(timestamp, SecurityEventType.AUTHORIZATION_FAILURE, "10.0.0.250", "/admin"));
+            }
+            heavyHitters.publish(event(timestamp, SecurityEventType.CERTIFICATE_RENEWED, "10.0.0.99", "/certs"));
+        }
+        assertEquals(List.of(), heavyHitters.topAttackers(2));
+
+        heavyHitters.publish(event(START.plusSeconds(60), SecurityEventType.AUTHENTICATION_FAILURE, "10.0.0.7", "/login"));
+
+        assertEquals(List.of("10.0.0.250", "10.0.0.1"), keys(heavyHitters.topAttackers(2)));
+        assertEquals(List.of("/login", "/admin"), keys(heavyHitters.topOfPreviousWindow(SecurityEventKey.RESOURCE, 5)));
+        assertEquals(List.of("python-requests/2.31"),
+                keys(heavyHitters.topOfPreviousWindow(SecurityEventKey.USER_AGENT, 5)));
+        assertEquals(List.of("10.0.0.7"), keys(heavyHitters.top(SecurityEventKey.CLIENT_IP, 5)));
+    }
+
+    @Test
+    void testLateEventsCountTowardsPreviousWindowOnly() {
+        SecurityEventHeavyHitters heavyHitters = SecurityEventHeavyHitters.newBuilder().build();
+        heavyHitters.publish(event(START, SecurityEventType.AUTHENTICATION_FAILURE, "10.0.0.1", "/login"));
+        heavyHitters.publish(event(START.plusSeconds(60), SecurityEventType.AUTHENTICATION_FAILURE, "10.0.0.2", "/login"));
+        heavyHitters.publish(event(START.plusSeconds(1), SecurityEventType.AUTHENTICATION_FAILURE, "10.0.0.3", "/login"));
+        heavyHitters.publish(event(START.minusSeconds(60), SecurityEventType.AUTHENTICATION_FAILURE, "10.0.0.4", "/login"));
+
+        assertEquals(List.of("10.0.0.1", "10.0.0.3"), keys(heavyHitters.topAttackers(5)));
+        assertEquals(List.of("10.0.0.2"), keys(heavyHitters.top(SecurityEventKey.CLIENT_IP, 5)));
+
+        heavyHitters.publish(event(START.plusSeconds(180), SecurityEventType.AUTHENTICATION_FAILURE, "10.0.0.5", "/login"));
+        assertEquals(List.of(), heavyHitters.topAttackers(5));
+    }
+}
@@ -0,0 +1,255 @@
+package com.tbw.security.publisher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tbw.security.model.Event;
+import com.tbw.security.utils.BoundedRingBuffer;
+
+/**
+ * {@link EventPublisher} that hands events to a bounded lock-free ring buffer and returns
+ * immediately. A dedicated consumer thread drains the buffer in batches and passes them to a
+ * delegate publisher, so a slow sink never blocks the caller (unless the overflow policy is
+ * {@link OverflowPolicy#BLOCK}).
+ * <p>
+ * A batch is flushed once it reaches {@code batchSize} events or when the linger time has
+ * elapsed since its first event, whichever comes first.
+ */
+public class AsyncEventPublisher implements EventPublisher, AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncEventPublisher.class);
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long BLOCKED_PRODUCER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final EventPublisher delegate;
+    private final BoundedRingBuffer<Event> buffer;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final OverflowPolicy overflowPolicy;
+    private final Thread consumer;
+
+    private final LongAdder publishedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+
+    private volatile boolean running = true;
+    private volatile boolean consumerParked;
+
+    private AsyncEventPublisher(Builder builder) {
+        this.delegate = Objects.requireNonNull(builder.delegate, "delegate");
+        this.buffer = new BoundedRingBuffer<>(builder.capacity);
+        this.batchSize = builder.batchSize;
+        this.lingerNanos = builder.linger.toNanos();
+        this.overflowPolicy = builder.overflowPolicy;
+        this.consumer = new Thread(this::drainLoop, builder.threadName);
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    public static Builder newBuilder(EventPublisher delegate) {
+        return new Builder(delegate);
+    }
+
+    /**
+     * Enqueues {@code event} for asynchronous publication.
+     *
+     * @throws IllegalStateException if the publisher has been closed
+     */
+    @Override
+    public void publish(Event event) {
+        if (!running) {
+            throw new IllegalStateException("Publisher is closed");
+        }
+        if (!buffer.offer(event)) {
+            handleOverflow(event);
+        }
+        if (consumerParked) {
+            LockSupport.unpark(consumer);
+        }
+        if (!running) {
+            // close() started after the check above, so the consumer may exit without seeing
+            // this event
+            dropLeftovers();
+        }
+    }
+
+    private void handleOverflow(Event event) {
+        switch (overflowPolicy) {
+            case DROP_NEWEST:
+                droppedCount.increment();
+                break;
+            case DROP_OLDEST:
+                do {
+                    if (buffer.poll() != null) {
+                        droppedCount.increment();
+                    }
+                } while (!buffer.offer(event));
+                break;
+            case BLOCK:
+                while (!buffer.offer(event)) {
+                    if (!running) {
+                        throw new IllegalStateException("Publisher is closed");
+                    }
+                    LockSupport.unpark(consumer);
+                    LockSupport.parkNanos(BLOCKED_PRODUCER_PARK_NANOS);
+                }
+                break;
+        }
+    }
+
+    private void drainLoop() {
+        List<Event> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            if (buffer.drainTo(batch, batchSize) == 0) {
+                parkUntilSignalled(IDLE_PARK_NANOS);
+                continue;
+            }
+            long deadline = System.nanoTime() + lingerNanos;
+            while (batch.size() < batchSize && running) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    break;
+                }
+                if (buffer.drainTo(batch, batchSize - batch.size()) == 0) {
+                    parkUntilSignalled(remaining);
+                }
+            }
+            flush(batch);
+        }
+    }
+
+    private void parkUntilSignalled(long nanos) {
+        consumerParked = true;
+        if (buffer.isEmpty() && running) {
+            LockSupport.parkNanos(this, nanos);
+        }
+        consumerParked = false;
+    }
+
+    private void flush(List<Event> batch) {
+        try {
+            delegate.publishAll(batch);
+            publishedCount.add(batch.size());
+        } catch (Exception e) {
+            failedCount.add(batch.size());
+            LOGGER.error("Failed to publish batch of {} events", batch.size(), e);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    /**
+     * Stops accepting events, flushes everything still buffered and waits for the consumer
+     * thread to finish. Events that publishers racing with the close enqueue too late for the
+     * consumer are counted as dropped.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(consumer);
+        consumer.join();
+        dropLeftovers();
+    }
+
+    /** Waits for the consumer to exit, then counts anything still buffered as dropped. */
+    private void dropLeftovers() {
+        boolean interrupted = false;
+        while (consumer.isAlive()) {
+            try {
+                consumer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        while (buffer.poll() != null) {
+            droppedCount.increment();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Number of events currently buffered. */
+    public int getQueueDepth() {
+        return buffer.size();
+    }
+
+    public int getCapacity() {
+        return buffer.capacity();
+    }
+
+    /** Number of events discarded by the overflow policy or enqueued after the consumer exited. */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /** Number of events successfully handed to the delegate. */
+    public long getPublishedCount() {
+        return publishedCount.sum();
+    }
+
+    /** Number of events in batches the delegate failed to publish. */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    public static class Builder {
+        private final EventPublisher delegate;
+        private int capacity = 8192;
+        private int batchSize = 256;
+        private Duration linger = Duration.ofMillis(5);
+        private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+        private String threadName = "async-event-publisher";
+
+        private Builder(EventPublisher delegate) {
+            this.delegate = delegate;
+        }
+
+        /** Buffer capacity, rounded up to a power of two. Defaults to 8192. */
+        public Builder setCapacity(int capacity) {
+            this.capacity = capacity;
+            return this;
+        }
+
+        /** Maximum number of events per delegate call. Defaults to 256. */
+        public Builder setBatchSize(int batchSize) {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /** How long a partial batch may wait for more events. Defaults to 5ms. */
+        public Builder setLinger(Duration linger) {
+            if (linger.isNegative()) {
+                throw new IllegalArgumentException("linger must not be negative: " + linger);
+            }
+            this.linger = linger;
+            return this;
+        }
+
+        /** Defaults to {@link OverflowPolicy#BLOCK}. */
+        public Builder setOverflowPolicy(OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = Objects.requireNonNull(overflowPolicy, "overflowPolicy");
+            return this;
+        }
+
+        public Builder setThreadName(String threadName) {
+            this.threadName = Objects.requireNonNull(threadName, "threadName");
+            return this;
+        }
+
+        public AsyncEventPublisher build() {
+            return new AsyncEventPublisher(this);
+        }
+    }
+}
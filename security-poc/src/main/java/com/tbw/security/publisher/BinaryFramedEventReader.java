@@ -0,0 +1,53 @@
+package com.tbw.security.publisher;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import org.apache.avro.message.BinaryMessageDecoder;
+
+import com.tbw.security.model.Event;
+
+/**
+ * Reads the frames written by {@link BinaryFramedEventSink}.
+ */
+public class BinaryFramedEventReader implements Closeable {
+
+    private final DataInputStream in;
+    private final BinaryMessageDecoder<Event> decoder = Event.getDecoder();
+    private byte[] frame = new byte[256];
+
+    public BinaryFramedEventReader(InputStream in) {
+        this.in = new DataInputStream(in);
+    }
+
+    /**
+     * Reads the next event, decoding into {@code reuse} when it is not {@code null}.
+     *
+     * @return the event, or {@code null} at end of stream
+     */
+    public Event read(Event reuse) throws IOException {
+        int length;
+        try {
+            length = in.readInt();
+        } catch (EOFException e) {
+            return null;
+        }
+        if (length < 0) {
+            throw new IOException("Corrupt frame length: " + length);
+        }
+        if (frame.length < length) {
+            frame = new byte[Math.max(length, frame.length * 2)];
+        }
+        in.readFully(frame, 0, length);
+        return decoder.decode(ByteBuffer.wrap(frame, 0, length), reuse);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
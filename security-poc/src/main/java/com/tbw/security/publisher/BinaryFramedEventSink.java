@@ -0,0 +1,68 @@
+package com.tbw.security.publisher;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+
+import org.apache.avro.message.BinaryMessageEncoder;
+
+import com.tbw.security.model.Event;
+
+/**
+ * Writes events as length-prefixed frames of Avro single-object encoding: a 4-byte big-endian
+ * length followed by the message produced by {@link Event#getEncoder()} (2-byte marker, 8-byte
+ * schema fingerprint, binary datum). Frames can be read back with {@link BinaryFramedEventReader}.
+ * <p>
+ * The frame buffer is reused between events; wrap {@code out} in a buffered stream or channel
+ * adapter to avoid one system call per event.
+ */
+public class BinaryFramedEventSink implements EventSink {
+
+    static final int LENGTH_PREFIX_SIZE = 4;
+
+    private final OutputStream out;
+    private final BinaryMessageEncoder<Event> encoder = Event.getEncoder();
+    private final FrameBuffer frame = new FrameBuffer();
+
+    public BinaryFramedEventSink(OutputStream out) {
+        this.out = Objects.requireNonNull(out, "out");
+    }
+
+    @Override
+    public void write(Event event) throws IOException {
+        frame.startFrame();
+        encoder.encode(event, frame);
+        frame.writeLengthPrefix();
+        frame.writeTo(out);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private static final class FrameBuffer extends ByteArrayOutputStream {
+        FrameBuffer() {
+            super(256);
+        }
+
+        /** Empties the buffer and skips the length prefix, which is filled in once it is known. */
+        void startFrame() {
+            count = LENGTH_PREFIX_SIZE;
+        }
+
+        void writeLengthPrefix() {
+            int length = count - LENGTH_PREFIX_SIZE;
+            buf[0] = (byte) (length >>> 24);
+            buf[1] = (byte) (length >>> 16);
+            buf[2] = (byte) (length >>> 8);
+            buf[3] = (byte) length;
+        }
+    }
+}
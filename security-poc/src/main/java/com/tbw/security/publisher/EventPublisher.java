@@ -1,5 +1,7 @@
 package com.tbw.security.publisher;
 
+import java.util.List;
+
 import com.tbw.security.model.Event;
 import com.tbw.security.utils.EventSerDes;
 
@@ -13,4 +15,14 @@ public interface EventPublisher {
 		String jsonString = EventSerDes.serializeToJsonString(event);
         logger.info("Publishing event: {}", jsonString);
     }
+
+    /**
+     * Publishes a batch of events. Publishers that can write batches more cheaply than one
+     * event at a time should override this.
+     */
+    default void publishAll(List<Event> events) throws Exception {
+        for (Event event : events) {
+            publish(event);
+        }
+    }
 }
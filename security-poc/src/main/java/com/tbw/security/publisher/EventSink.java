@@ -0,0 +1,27 @@
+package com.tbw.security.publisher;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+
+import com.tbw.security.model.Event;
+
+/**
+ * Destination that {@link SinkEventPublisher} writes events to. Implementations choose the wire
+ * format, e.g. {@link BinaryFramedEventSink} for throughput or {@link JsonLoggingEventSink} for
+ * human-readable debugging output.
+ * <p>
+ * Sinks are called from one thread at a time and need not be thread-safe.
+ */
+public interface EventSink extends Flushable, Closeable {
+
+    void write(Event event) throws IOException;
+
+    @Override
+    default void flush() throws IOException {
+    }
+
+    @Override
+    default void close() throws IOException {
+    }
+}
@@ -0,0 +1,24 @@
+package com.tbw.security.publisher;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tbw.security.model.Event;
+import com.tbw.security.utils.EventCodec;
+
+/**
+ * Logs each event as Avro JSON. Intended for debugging; use {@link BinaryFramedEventSink} where
+ * throughput matters.
+ */
+public class JsonLoggingEventSink implements EventSink {
+    private static final Logger LOGGER = LoggerFactory.getLogger(JsonLoggingEventSink.class);
+
+    @Override
+    public void write(Event event) throws IOException {
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("Publishing event: {}", EventCodec.get().serializeToJsonString(event));
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.tbw.security.publisher;
+
+/**
+ * What {@link AsyncEventPublisher} does with a new event when its buffer is full.
+ */
+public enum OverflowPolicy {
+    /** Wait until the consumer frees a slot. */
+    BLOCK,
+    /** Evict the oldest buffered event to make room for the new one. */
+    DROP_OLDEST,
+    /** Discard the new event. */
+    DROP_NEWEST
+}
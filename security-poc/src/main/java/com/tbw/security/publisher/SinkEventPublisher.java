@@ -0,0 +1,42 @@
+package com.tbw.security.publisher;
+
+import java.util.List;
+import java.util.Objects;
+
+import com.tbw.security.model.Event;
+
+/**
+ * {@link EventPublisher} that writes to a pluggable {@link EventSink}. Calls are serialized, so
+ * the sink is only ever used by one thread at a time. Combine with {@link AsyncEventPublisher}
+ * to move the sink off the caller's thread.
+ */
+public class SinkEventPublisher implements EventPublisher, AutoCloseable {
+
+    private final EventSink sink;
+
+    public SinkEventPublisher(EventSink sink) {
+        this.sink = Objects.requireNonNull(sink, "sink");
+    }
+
+    @Override
+    public synchronized void publish(Event event) throws Exception {
+        sink.write(event);
+        sink.flush();
+    }
+
+    /**
+     * Writes the whole batch and flushes the sink once.
+     */
+    @Override
+    public synchronized void publishAll(List<Event> events) throws Exception {
+        for (Event event : events) {
+            sink.write(event);
+        }
+        sink.flush();
+    }
+
+    @Override
+    public synchronized void close() throws Exception {
+        sink.close();
+    }
+}
@@ -0,0 +1,75 @@
+package com.tbw.security.utils;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Stream views over a caller-owned {@link ByteBuffer}, heap or direct. Bytes go straight to
+ * and from the buffer, advancing its position, without intermediate arrays.
+ * <p>
+ * Views are rebound with {@code wrap} so a single instance can be reused per thread.
+ */
+public final class ByteBufferStreams {
+
+    private ByteBufferStreams() {
+    }
+
+    public static final class Output extends OutputStream {
+        private ByteBuffer buffer;
+
+        public Output wrap(ByteBuffer buffer) {
+            this.buffer = buffer;
+            return this;
+        }
+
+        @Override
+        public void write(int b) {
+            buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            buffer.put(b, off, len);
+        }
+    }
+
+    public static final class Input extends InputStream {
+        private ByteBuffer buffer;
+
+        public Input wrap(ByteBuffer buffer) {
+            this.buffer = buffer;
+            return this;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) {
+            int skipped = (int) Math.min(Math.max(n, 0), buffer.remaining());
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.tbw.security.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.io.JsonEncoder;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificDatumWriter;
+
+import com.tbw.security.model.Event;
+
+/**
+ * Reusable Avro codec for {@link Event}. Encoders, decoders, datum readers/writers and the
+ * output buffer are created once and reused across calls.
+ * <p>
+ * Instances are NOT thread-safe. Use {@link #get()} to obtain the instance confined to the
+ * calling thread.
+ */
+public final class EventCodec {
+
+    // Buffers that grew past this size are dropped after use so that one large event does not
+    // pin memory on every thread that has ever serialized it.
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    private static final ThreadLocal<EventCodec> CODECS = ThreadLocal.withInitial(EventCodec::new);
+
+    private final DatumWriter<Event> datumWriter = new SpecificDatumWriter<Event>(Event.getClassSchema());
+    private final DatumReader<Event> datumReader = new SpecificDatumReader<Event>(Event.getClassSchema());
+    private ReusableByteArrayOutputStream outputStream = new ReusableByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+    private final ByteBufferStreams.Output bufferOutput = new ByteBufferStreams.Output();
+    private final ByteBufferStreams.Input bufferInput = new ByteBufferStreams.Input();
+    private BinaryEncoder binaryEncoder;
+    private BinaryEncoder directEncoder;
+    private BinaryDecoder binaryDecoder;
+    private BinaryDecoder directDecoder;
+    private JsonEncoder jsonEncoder;
+
+    public EventCodec() {
+    }
+
+    /**
+     * Returns the codec confined to the calling thread.
+     */
+    public static EventCodec get() {
+        return CODECS.get();
+    }
+
+    public byte[] serialize(Event event) throws IOException {
+        ReusableByteArrayOutputStream out = resetOutputStream();
+        binaryEncoder = EncoderFactory.get().binaryEncoder(out, binaryEncoder);
+        try {
+            datumWriter.write(event, binaryEncoder);
+            binaryEncoder.flush();
+        } catch (IOException | RuntimeException e) {
+            // The buffered encoder still holds the partial datum; reusing it would prepend those
+            // bytes to the next event
+            binaryEncoder = null;
+            throw e;
+        }
+        return out.toByteArray();
+    }
+
+    public Event deserialize(byte[] data) throws IOException {
+        return deserialize(data, null);
+    }
+
+    /**
+     * Decodes {@code data} into {@code reuse} when it is not {@code null}, otherwise into a
+     * new {@link Event}.
+     */
+    public Event deserialize(byte[] data, Event reuse) throws IOException {
+        return deserialize(data, 0, data.length, reuse);
+    }
+
+    public Event deserialize(byte[] data, int offset, int length, Event reuse) throws IOException {
+        binaryDecoder = DecoderFactory.get().binaryDecoder(data, offset, length, binaryDecoder);
+        return datumReader.read(reuse, binaryDecoder);
+    }
+
+    /**
+     * Encodes {@code event} straight into {@code buffer}, starting at its position, which is
+     * advanced past the written bytes.
+     *
+     * @return the number of bytes written
+     * @throws BufferOverflowException if the event does not fit; the buffer position is left
+     *                                 unchanged
+     */
+    public int serializeInto(Event event, ByteBuffer buffer) throws IOException {
+        int start = buffer.position();
+        try {
+            directEncoder = EncoderFactory.get().directBinaryEncoder(bufferOutput.wrap(buffer), directEncoder);
+            datumWriter.write(event, directEncoder);
+            return buffer.position() - start;
+        } catch (BufferOverflowException e) {
+            buffer.position(start);
+            throw e;
+        } finally {
+            bufferOutput.wrap(null);
+        }
+    }
+
+    /**
+     * Decodes one event from {@code buffer}, starting at its position, which is advanced past
+     * the consumed bytes. Heap buffers are decoded in place from their backing array.
+     */
+    public Event deserializeFrom(ByteBuffer buffer, Event reuse) throws IOException {
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset() + buffer.position();
+            int length = buffer.remaining();
+            Event result = deserialize(buffer.array(), offset, length, reuse);
+            buffer.position(buffer.limit() - binaryDecoder.inputStream().available());
+            return result;
+        }
+        try {
+            directDecoder = DecoderFactory.get().directBinaryDecoder(bufferInput.wrap(buffer), directDecoder);
+            return datumReader.read(reuse, directDecoder);
+        } finally {
+            bufferInput.wrap(null);
+        }
+    }
+
+    public String serializeToJsonString(Event event) throws IOException {
+        ReusableByteArrayOutputStream out = resetOutputStream();
+        if (jsonEncoder == null) {
+            jsonEncoder = EncoderFactory.get().jsonEncoder(Event.getClassSchema(), out);
+        } else {
+            jsonEncoder.configure(out);
+        }
+        try {
+            datumWriter.write(event, jsonEncoder);
+            jsonEncoder.flush();
+        } catch (IOException | RuntimeException e) {
+            // configure() does not reset the encoder's grammar state, which a failed write leaves
+            // in the middle of a record
+            jsonEncoder = null;
+            throw e;
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private ReusableByteArrayOutputStream resetOutputStream() {
+        if (outputStream.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+            outputStream = new ReusableByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        } else {
+            outputStream.reset();
+        }
+        return outputStream;
+    }
+
+    private static final class ReusableByteArrayOutputStream extends ByteArrayOutputStream {
+        ReusableByteArrayOutputStream(int size) {
+            super(size);
+        }
+
+        int capacity() {
+            return buf.length;
+        }
+    }
+}
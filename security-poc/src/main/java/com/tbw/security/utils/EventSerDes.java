@@ -1,46 +1,46 @@
 package com.tbw.security.utils;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-
-import org.apache.avro.io.BinaryDecoder;
-import org.apache.avro.io.BinaryEncoder;
-import org.apache.avro.io.DatumReader;
-import org.apache.avro.io.DatumWriter;
-import org.apache.avro.io.DecoderFactory;
-import org.apache.avro.io.EncoderFactory;
-import org.apache.avro.io.JsonEncoder;
-import org.apache.avro.specific.SpecificDatumReader;
-import org.apache.avro.specific.SpecificDatumWriter;
+import java.nio.ByteBuffer;
 
 import com.tbw.security.model.Event;
 
+/**
+ * Static facade over the thread-confined {@link EventCodec}.
+ */
 public class EventSerDes {
 
     public static byte[] serialize(Event event) throws Exception {
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        // This BinaryEncoder is not thread-safe, so it should not be reused across threads.
-        BinaryEncoder binaryEncoder = EncoderFactory.get().binaryEncoder(outputStream, null);
-        DatumWriter<Event> datumWriter = new SpecificDatumWriter<Event>(Event.getClassSchema());
-        datumWriter.write(event, binaryEncoder);
-        binaryEncoder.flush();
-        return outputStream.toByteArray();
+        return EventCodec.get().serialize(event);
     }
 
     public static Event deserialize(byte[] data) throws Exception {
-        ByteArrayInputStream inputStream = new ByteArrayInputStream(data);
-        BinaryDecoder binaryDecoder = DecoderFactory.get().binaryDecoder(inputStream, null);
-        DatumReader<Event> datumReader = new SpecificDatumReader<Event>(Event.getClassSchema());
-        return datumReader.read(null, binaryDecoder);
+        return EventCodec.get().deserialize(data, null);
+    }
+
+    /**
+     * Decodes {@code data} into {@code reuse} instead of allocating a new {@link Event}.
+     */
+    public static Event deserialize(byte[] data, Event reuse) throws Exception {
+        return EventCodec.get().deserialize(data, reuse);
+    }
+
+    /**
+     * Writes {@code event} into {@code buffer} at its position and returns the byte count.
+     */
+    public static int serializeInto(Event event, ByteBuffer buffer) throws Exception {
+        return EventCodec.get().serializeInto(event, buffer);
+    }
+
+    public static Event deserializeFrom(ByteBuffer buffer) throws Exception {
+        return EventCodec.get().deserializeFrom(buffer, null);
+    }
+
+    public static Event deserializeFrom(ByteBuffer buffer, Event reuse) throws Exception {
+        return EventCodec.get().deserializeFrom(buffer, reuse);
     }
 
     public static String serializeToJsonString(Event event) throws Exception {
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        JsonEncoder jsonEncoder = EncoderFactory.get().jsonEncoder(Event.getClassSchema(), outputStream);
-        DatumWriter<Event> datumWriter = new SpecificDatumWriter<Event>(Event.getClassSchema());
-        datumWriter.write(event, jsonEncoder);
-        jsonEncoder.flush();
-        return outputStream.toString("UTF-8");
+        return EventCodec.get().serializeToJsonString(event);
     }
 
 }
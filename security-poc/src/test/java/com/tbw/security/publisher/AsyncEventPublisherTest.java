@@ -0,0 +1,183 @@
+package com.tbw.security.publisher;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.tbw.security.model.Event;
+import com.tbw.security.utils.BoundedRingBuffer;
+
+public class AsyncEventPublisherTest {
+
+    private static Event event(int i) {
+        return Event.newBuilder()
+                .setId("evt-" + i)
+                .setTimestamp(i)
+                .setMessage("message " + i)
+                .build();
+    }
+
+    /** Records batches; optionally blocks the consumer thread until released. */
+    private static class RecordingPublisher implements EventPublisher {
+        final List<List<Event>> batches = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release;
+
+        RecordingPublisher(boolean gated) {
+            this.release = new CountDownLatch(gated ? 1 : 0);
+        }
+
+        @Override
+        public void publishAll(List<Event> events) throws Exception {
+            entered.countDown();
+            release.await();
+            batches.add(new ArrayList<>(events));
+        }
+
+        List<String> ids() {
+            List<String> ids = new ArrayList<>();
+            synchronized (batches) {
+                batches.forEach(batch -> batch.forEach(e -> ids.add(e.getId().toString())));
+            }
+            return ids;
+        }
+    }
+
+    @Test
+    void testRingBufferIsFifoAndBounded() {
+        BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(3);
+        assertEquals(4, buffer.capacity());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+        assertEquals(4, buffer.size());
+        assertEquals(0, buffer.poll());
+        assertTrue(buffer.offer(4));
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(4, buffer.drainTo(drained, 10));
+        assertEquals(List.of(1, 2, 3, 4), drained);
+        assertNull(buffer.poll());
+    }
+
+    @Test
+    void testConcurrentProducersPublishEverythingInBatches() throws Exception {
+        RecordingPublisher delegate = new RecordingPublisher(false);
+        AsyncEventPublisher publisher = AsyncEventPublisher.newBuilder(delegate)
+                .setCapacity(64)
+                .setBatchSize(16)
+                .setLinger(Duration.ofMillis(1))
+                .build();
+
+        List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int offset = t * 1000;
+            producers.add(new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    publisher.publish(event(offset + i));
+                }
+            }));
+        }
+        producers.forEach(Thread::start);
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        publisher.close();
+
+        assertEquals(4000, delegate.ids().size());
+        assertEquals(4000, publisher.getPublishedCount());
+        assertEquals(0, publisher.getDroppedCount());
+        assertTrue(delegate.batches.stream().allMatch(batch -> batch.size() <= 16));
+    }
+
+    @Test
+    void testDropNewestKeepsBufferedEvents() throws Exception {
+        RecordingPublisher delegate = new RecordingPublisher(true);
+        AsyncEventPublisher publisher = AsyncEventPublisher.newBuilder(delegate)
+                .setCapacity(4)
+                .setBatchSize(1)
+                .setOverflowPolicy(OverflowPolicy.DROP_NEWEST)
+                .build();
+
+        publisher.publish(event(0));
+        assertTrue(delegate.entered.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i <= 6; i++) {
+            publisher.publish(event(i));
+        }
+        assertEquals(4, publisher.getQueueDepth());
+        assertEquals(2, publisher.getDroppedCount());
+
+        delegate.release.countDown();
+        publisher.close();
+        assertEquals(List.of("evt-0", "evt-1", "evt-2", "evt-3", "evt-4"), delegate.ids());
+    }
+
+    @Test
+    void testDropOldestKeepsNewestEvents() throws Exception {
+        RecordingPublisher delegate = new RecordingPublisher(true);
+        AsyncEventPublisher publisher = AsyncEventPublisher.newBuilder(delegate)
+                .setCapacity(4)
+                .setBatchSize(1)
+                .setOverflowPolicy(OverflowPolicy.DROP_OLDEST)
+                .build();
+
+        publisher.publish(event(0));
+        assertTrue(delegate.entered.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i <= 6; i++) {
+            publisher.publish(event(i));
+        }
+        assertEquals(2, publisher.getDroppedCount());
+
+        delegate.release.countDown();
+        publisher.close();
+        assertEquals(List.of("evt-0", "evt-3", "evt-4", "evt-5", "evt-6"), delegate.ids());
+    }
+
+    @Test
+    void testEventsAcceptedDuringCloseAreAccountedFor() throws Exception {
+        RecordingPublisher delegate = new RecordingPublisher(false);
+        AsyncEventPublisher publisher = AsyncEventPublisher.newBuilder(delegate)
+                .setCapacity(64)
+                .setBatchSize(16)
+                .build();
+
+        AtomicLong accepted = new AtomicLong();
+        List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            producers.add(new Thread(() -> {
+                try {
+                    for (int i = 0; ; i++) {
+                        publisher.publish(event(i));
+                        accepted.incrementAndGet();
+                    }
+                } catch (IllegalStateException closed) {
+                    // Expected once close() has started
+                }
+            }));
+        }
+        producers.forEach(Thread::start);
+        Thread.sleep(20);
+        publisher.close();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        assertEquals(accepted.get(), publisher.getPublishedCount() + publisher.getDroppedCount());
+        assertEquals(0, publisher.getQueueDepth());
+    }
+
+    @Test
+    void testPublishAfterCloseIsRejected() throws Exception {
+        AsyncEventPublisher publisher = AsyncEventPublisher.newBuilder(new RecordingPublisher(false)).build();
+        publisher.close();
+        assertThrows(IllegalStateException.class, () -> publisher.publish(event(0)));
+    }
+}
@@ -0,0 +1,65 @@
+package com.tbw.security.publisher;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tbw.security.model.Event;
+import com.tbw.security.utils.EventSerDes;
+
+public class BinaryFramedEventSinkTest {
+
+    private static Event event(int i) {
+        return Event.newBuilder()
+                .setId("evt-" + i)
+                .setTimestamp(i)
+                .setMessage("message " + i)
+                .build();
+    }
+
+    @Test
+    void testFramesRoundTrip() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (SinkEventPublisher publisher = new SinkEventPublisher(new BinaryFramedEventSink(out))) {
+            publisher.publish(event(0));
+            publisher.publishAll(List.of(event(1), event(2)));
+        }
+
+        try (BinaryFramedEventReader reader = new BinaryFramedEventReader(new ByteArrayInputStream(out.toByteArray()))) {
+            Event reuse = null;
+            for (int i = 0; i < 3; i++) {
+                reuse = reader.read(reuse);
+                assertEquals("evt-" + i, reuse.getId().toString());
+                assertEquals("message " + i, reuse.getMessage().toString());
+            }
+            assertNull(reader.read(null));
+        }
+    }
+
+    @Test
+    void testFrameIsLengthPrefixedSingleObjectEncoding() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new BinaryFramedEventSink(out).write(event(7));
+        ByteBuffer frame = ByteBuffer.wrap(out.toByteArray());
+
+        int length = frame.getInt();
+        assertEquals(frame.remaining(), length);
+        // Single-object marker followed by an 8-byte fingerprint and the plain binary datum
+        assertEquals((byte) 0xC3, frame.get());
+        assertEquals((byte) 0x01, frame.get());
+        assertEquals(EventSerDes.serialize(event(7)).length, length - 10);
+        assertEquals("evt-7", Event.getDecoder().decode(ByteBuffer.wrap(out.toByteArray(), 4, length)).getId().toString());
+    }
+
+    @Test
+    void testBinaryFrameIsSmallerThanJson() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new BinaryFramedEventSink(out).write(event(1));
+        assertTrue(out.size() < EventSerDes.serializeToJsonString(event(1)).length());
+    }
+}
@@ -0,0 +1,102 @@
+package com.tbw.security.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import com.tbw.security.model.Event;
+
+public class EventCodecTest {
+
+    private static Event event(String id, long timestamp, String message) {
+        return Event.newBuilder()
+                .setId(id)
+                .setTimestamp(timestamp)
+                .setMessage(message)
+                .build();
+    }
+
+    @Test
+    void testRepeatedRoundTripsReuseCodec() throws Exception {
+        EventCodec codec = EventCodec.get();
+        for (int i = 0; i < 10; i++) {
+            Event event = event("evt-" + i, i, "message " + i);
+            Event result = codec.deserialize(codec.serialize(event));
+            assertEquals("evt-" + i, result.getId().toString());
+            assertEquals(i, result.getTimestamp());
+            assertEquals("message " + i, result.getMessage().toString());
+        }
+    }
+
+    @Test
+    void testDeserializeIntoReusedInstance() throws Exception {
+        Event reuse = new Event();
+        byte[] first = EventSerDes.serialize(event("evt-1", 1L, "first"));
+        byte[] second = EventSerDes.serialize(event("evt-2", 2L, "second"));
+
+        Event result = EventSerDes.deserialize(first, reuse);
+        assertSame(reuse, result);
+        assertEquals("evt-1", result.getId().toString());
+
+        result = EventSerDes.deserialize(second, reuse);
+        assertSame(reuse, result);
+        assertEquals("evt-2", result.getId().toString());
+        assertEquals(2L, result.getTimestamp());
+        assertEquals("second", result.getMessage().toString());
+    }
+
+    @Test
+    void testFailedSerializeDoesNotCorruptNextEvent() throws Exception {
+        EventCodec codec = EventCodec.get();
+        Event event = event("id-1", 42L, "hello");
+        byte[] expected = codec.serialize(event);
+
+        assertThrows(RuntimeException.class, () -> codec.serialize(new Event("id-2", 43L, null)));
+
+        byte[] actual = codec.serialize(event);
+        assertArrayEquals(expected, actual);
+        assertEquals("hello", codec.deserialize(actual).getMessage().toString());
+    }
+
+    @Test
+    void testFailedJsonSerializeDoesNotBreakNextEvent() throws Exception {
+        EventCodec codec = EventCodec.get();
+        Event event = event("id-1", 42L, "hello");
+        String expected = codec.serializeToJsonString(event);
+
+        assertThrows(RuntimeException.class, () -> codec.serializeToJsonString(new Event("id-2", 43L, null)));
+
+        assertEquals(expected, codec.serializeToJsonString(event));
+    }
+
+    @Test
+    void testLargeEventDoesNotBreakSubsequentCalls() throws Exception {
+        String large = "x".repeat(200_000);
+        Event result = EventSerDes.deserialize(EventSerDes.serialize(event("big", 1L, large)));
+        assertEquals(large, result.getMessage().toString());
+
+        result = EventSerDes.deserialize(EventSerDes.serialize(event("small", 2L, "small")));
+        assertEquals("small", result.getMessage().toString());
+    }
+
+    @Test
+    void testReusedJsonEncoderDoesNotCarryOverPreviousEvent() throws Exception {
+        String first = EventSerDes.serializeToJsonString(event("evt-1", 1L, "first"));
+        String second = EventSerDes.serializeToJsonString(event("evt-2", 2L, "second"));
+        assertTrue(first.contains("evt-1"));
+        assertFalse(second.contains("evt-1"));
+        assertTrue(second.contains("evt-2"));
+    }
+
+    @Test
+    void testCodecIsThreadConfined() throws Exception {
+        AtomicReference<EventCodec> other = new AtomicReference<>();
+        Thread thread = new Thread(() -> other.set(EventCodec.get()));
+        thread.start();
+        thread.join();
+        assertSame(EventCodec.get(), EventCodec.get());
+        assertNotSame(EventCodec.get(), other.get());
+    }
+}
@@ -3,6 +3,8 @@ package com.tbw.security.utils;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.nio.ByteBuffer;
+
 import com.tbw.security.model.Event;
 
 public class EventSerDesTest {
@@ -44,4 +46,33 @@ public class EventSerDesTest {
         assertTrue(json.contains("evt-1"));
         assertTrue(json.contains("Hello from Avro"));
     }
+
+    @Test
+    void testSerializeIntoAndDeserializeFromHeapBuffer() throws Exception {
+        assertBufferRoundTrip(ByteBuffer.allocate(256));
+    }
+
+    @Test
+    void testSerializeIntoAndDeserializeFromDirectBuffer() throws Exception {
+        assertBufferRoundTrip(ByteBuffer.allocateDirect(256));
+    }
+
+    private static void assertBufferRoundTrip(ByteBuffer buffer) throws Exception {
+        Event event = Event.newBuilder()
+                .setId("evt-1")
+                .setTimestamp(123456789L)
+                .setMessage("Hello from Avro")
+                .build();
+        int written = EventSerDes.serializeInto(event, buffer);
+        assertEquals(EventSerDes.serialize(event).length, written);
+        EventSerDes.serializeInto(event, buffer);
+        buffer.flip();
+
+        Event first = EventSerDes.deserializeFrom(buffer);
+        assertEquals(written, buffer.position());
+        Event second = EventSerDes.deserializeFrom(buffer, first);
+        assertSame(first, second);
+        assertEquals(event.getMessage().toString(), second.getMessage().toString());
+        assertFalse(buffer.hasRemaining());
+    }
 }